@@ -27,6 +27,7 @@ import javax.inject.Inject;
 import org.guvnor.common.services.project.model.Package;
 import org.kie.workbench.common.screens.library.api.index.Constants;
 import org.kie.workbench.common.services.refactoring.backend.server.query.standard.LibraryFileNameIndexTerm;
+import org.kie.workbench.common.services.refactoring.backend.server.query.standard.LibraryFileNameSubstringIndexTerm;
 import org.kie.workbench.common.services.refactoring.backend.server.query.standard.LibraryRepositoryRootIndexTerm;
 import org.kie.workbench.common.services.refactoring.KPropertyImpl;
 import org.kie.workbench.common.services.refactoring.backend.server.indexing.AbstractFileIndexer;
@@ -106,6 +107,8 @@ public class LibraryIndexer extends AbstractFileIndexer {
 
             indexElements.add(new KPropertyImpl<>(LibraryFileNameIndexTerm.TERM,
                                                   fileName));
+            indexElements.add(new KPropertyImpl<>(LibraryFileNameSubstringIndexTerm.TERM,
+                                                  fileName));
             indexElements.add(new KPropertyImpl<>(FieldFactory.FILE_NAME_FIELD_SORTED,
                                                   fileName.toLowerCase(),
                                                   false,
@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import javax.enterprise.context.ApplicationScoped;
@@ -69,6 +70,7 @@ import org.kie.workbench.common.screens.library.api.preferences.LibraryPreferenc
 import org.kie.workbench.common.services.refactoring.backend.server.query.standard.FindAllLibraryAssetsQuery;
 import org.kie.workbench.common.services.refactoring.backend.server.query.standard.LibraryValueFileExtensionIndexTerm;
 import org.kie.workbench.common.services.refactoring.backend.server.query.standard.LibraryValueFileNameIndexTerm;
+import org.kie.workbench.common.services.refactoring.backend.server.query.standard.LibraryValueFileNameSubstringIndexTerm;
 import org.kie.workbench.common.services.refactoring.backend.server.query.standard.LibraryValueRepositoryRootIndexTerm;
 import org.kie.workbench.common.services.refactoring.model.index.terms.valueterms.ValueIndexTerm;
 import org.kie.workbench.common.services.refactoring.model.query.RefactoringPageRequest;
@@ -99,6 +101,16 @@ public class LibraryServiceImpl implements LibraryService {
 
     private static final String DEFAULT_PROJECT_NAME = "MyProject";
 
+    /**
+     * Set to false to always filter the assets with a wildcard query. Otherwise the substring query is used for the
+     * projects whose assets were all indexed with their file name substrings, see {@link #isSubstringIndexed(WorkspaceProject)}
+     */
+    static final String SUBSTRING_FILTER_PROPERTY = "org.kie.library.assets.substringFilter";
+    private static final boolean SUBSTRING_FILTER = Boolean.parseBoolean(System.getProperty(SUBSTRING_FILTER_PROPERTY,
+                                                                                            "true"));
+
+    private final Set<String> substringIndexedProjects = ConcurrentHashMap.newKeySet();
+
     private RefactoringQueryService refactoringQueryService;
     private OrganizationalUnitService ouService;
     private LibraryPreferences preferences;
@@ -376,8 +388,12 @@ public class LibraryServiceImpl implements LibraryService {
         queryTerms.add(new LibraryValueRepositoryRootIndexTerm(query.getProject().getRootPath().toURI()));
 
         if (query.hasFilter()) {
-            queryTerms.add(new LibraryValueFileNameIndexTerm("*" + query.getFilter() + "*",
-                                                             ValueIndexTerm.TermSearchType.WILDCARD));
+            if (SUBSTRING_FILTER && isSubstringIndexed(query.getProject())) {
+                queryTerms.add(new LibraryValueFileNameSubstringIndexTerm(query.getFilter()));
+            } else {
+                queryTerms.add(new LibraryValueFileNameIndexTerm("*" + query.getFilter() + "*",
+                                                                 ValueIndexTerm.TermSearchType.WILDCARD));
+            }
         }
 
         if (query.hasExtension()) {
@@ -386,6 +402,34 @@ public class LibraryServiceImpl implements LibraryService {
         return queryTerms;
     }
 
+    /**
+     * The assets indexed before the file name substrings were added to the library index have no substring terms until
+     * they are re-indexed, the wildcard query is used until every asset of the project has them. Only the positive
+     * answer is remembered, the index of a project is never downgraded
+     */
+    boolean isSubstringIndexed(final WorkspaceProject project) {
+        final String rootUri = project.getRootPath().toURI();
+        if (substringIndexedProjects.contains(rootUri)) {
+            return true;
+        }
+
+        final HashSet<ValueIndexTerm> queryTerms = new HashSet<>();
+        queryTerms.add(new LibraryValueRepositoryRootIndexTerm(rootUri));
+        queryTerms.add(new LibraryValueFileNameSubstringIndexTerm(""));
+        final int withSubstrings = refactoringQueryService.queryHitCount(new RefactoringPageRequest(FindAllLibraryAssetsQuery.NAME,
+                                                                                                    queryTerms,
+                                                                                                    0,
+                                                                                                    null,
+                                                                                                    Boolean.TRUE));
+        if (withSubstrings == 0 || withSubstrings != getNumberOfAssets(project)) {
+            log.debug("Project [{}] is not indexed with the file name substrings yet, filtering its assets with a wildcard query.",
+                      rootUri);
+            return false;
+        }
+        substringIndexedProjects.add(rootUri);
+        return true;
+    }
+
     @Override
     public Boolean hasProjects(final OrganizationalUnit organizationalUnit) {
         return !projectService.getAllWorkspaceProjects(organizationalUnit).isEmpty();
@@ -25,6 +25,7 @@ import java.util.Set;
 import org.junit.After;
 import org.junit.Test;
 import org.kie.workbench.common.services.refactoring.backend.server.query.standard.LibraryValueFileNameIndexTerm;
+import org.kie.workbench.common.services.refactoring.backend.server.query.standard.LibraryValueFileNameSubstringIndexTerm;
 import org.kie.workbench.common.services.refactoring.backend.server.query.standard.LibraryValueRepositoryRootIndexTerm;
 import org.kie.workbench.common.services.refactoring.backend.server.query.NamedQuery;
 import org.kie.workbench.common.services.refactoring.backend.server.query.response.DefaultResponseBuilder;
@@ -175,6 +176,40 @@ public class FindAllLibraryAssetsQueryTest
         }
     }
 
+    @Test
+    public void filterFilesFromModuleBySubstring() throws IOException, InterruptedException {
+
+        //Add test files
+        addTestFile(TEST_MODULE_ROOT,
+                    "rule1.rule");
+        addTestFile(TEST_MODULE_ROOT,
+                    "MyRule2.rule");
+        addTestFile(TEST_MODULE_ROOT,
+                    "functions.functions");
+
+        Thread.sleep(5000); //wait for events to be consumed from jgit -> (notify changes -> watcher -> index) -> lucene index
+
+        {
+            final RefactoringPageRequest request = new RefactoringPageRequest(FindAllLibraryAssetsQuery.NAME,
+                                                                              new HashSet<ValueIndexTerm>() {{
+                                                                                  add(new LibraryValueRepositoryRootIndexTerm(getRepositoryRootPath(),
+                                                                                                                              TermSearchType.NORMAL));
+                                                                                  add(new LibraryValueFileNameSubstringIndexTerm("Rule"));
+                                                                              }},
+                                                                              0,
+                                                                              10);
+
+            try {
+                final PageResponse<RefactoringPageRow> response = service.query(request);
+                assertNotNull(response);
+                assertEquals(2,
+                             response.getPageRowList().size());
+            } catch (IllegalArgumentException e) {
+                fail("Exception thrown: " + e.getMessage());
+            }
+        }
+    }
+
     @Override
     protected String getRepositoryName() {
         return testName.getMethodName();
@@ -622,6 +622,7 @@ public class LibraryServiceImplTest {
         final PageResponse<RefactoringPageRow> pageRowPageResponse = new PageResponse<>();
         pageRowPageResponse.setPageRowList(new ArrayList<>());
         when(refactoringQueryService.query(any(RefactoringPageRequest.class))).thenReturn(pageRowPageResponse);
+        when(refactoringQueryService.queryHitCount(any(RefactoringPageRequest.class))).thenReturn(5);
         libraryService.getProjectAssets(query);
 
         verify(refactoringQueryService).query(pageRequestArgumentCaptor.capture());
@@ -636,7 +637,7 @@ public class LibraryServiceImplTest {
         assertQueryTermsContains(pageRequest.getQueryTerms(),
                                  "file://the_project");
         assertQueryTermsContains(pageRequest.getQueryTerms(),
-                                 "*helloo*");
+                                 "helloo");
         assertQueryTermsContains(pageRequest.getQueryTerms(),
                                  ".*(xml)");
 
@@ -646,6 +647,46 @@ public class LibraryServiceImplTest {
                      (int) pageRequest.getPageSize());
     }
 
+    @Test
+    public void queryWithAFilterOnAnIndexWithoutSubstrings() throws Exception {
+
+        final Branch branch = mock(Branch.class);
+        final Path path = mockPath("file://the_project");
+        final WorkspaceProject project = spy(new WorkspaceProject(mock(OrganizationalUnit.class),
+                                                                  repo1,
+                                                                  branch,
+                                                                  null));
+
+        when(branch.getPath()).thenReturn(path);
+
+        doReturn(true).when(ioService).exists(any());
+
+        final ProjectAssetsQuery query = new ProjectAssetsQuery(project,
+                                                                "helloo",
+                                                                10,
+                                                                20,
+                                                                Arrays.asList("xml"));
+
+        final PageResponse<RefactoringPageRow> pageRowPageResponse = new PageResponse<>();
+        pageRowPageResponse.setPageRowList(new ArrayList<>());
+        when(refactoringQueryService.query(any(RefactoringPageRequest.class))).thenReturn(pageRowPageResponse);
+        when(refactoringQueryService.queryHitCount(any(RefactoringPageRequest.class))).thenReturn(2,
+                                                                                                   5,
+                                                                                                   2,
+                                                                                                   5);
+        libraryService.getProjectAssets(query);
+
+        verify(refactoringQueryService).query(pageRequestArgumentCaptor.capture());
+
+        final RefactoringPageRequest pageRequest = pageRequestArgumentCaptor.getValue();
+
+        assertEquals(3,
+                     pageRequest.getQueryTerms().size());
+        assertQueryTermsContains(pageRequest.getQueryTerms(),
+                                 "*helloo*");
+        assertFalse(libraryService.isSubstringIndexed(project));
+    }
+
     @Test
     public void queryAnItemThatIsInLuceneIndexButAlreadyDeletedFromGitRepository() throws Exception {
 
@@ -22,7 +22,9 @@ import org.apache.lucene.analysis.Analyzer;
 import org.junit.Before;
 import org.junit.Test;
 import org.kie.workbench.common.services.refactoring.backend.server.query.standard.LibraryFileNameIndexTerm;
+import org.kie.workbench.common.services.refactoring.backend.server.query.standard.LibraryFileNameSubstringIndexTerm;
 import org.kie.workbench.common.services.refactoring.backend.server.query.standard.LibraryRepositoryRootIndexTerm;
+import org.kie.workbench.common.services.refactoring.backend.server.indexing.FileNameSubstringAnalyzer;
 import org.kie.workbench.common.services.refactoring.backend.server.indexing.LowerCaseOnlyAnalyzer;
 import org.kie.workbench.common.services.refactoring.model.index.terms.ModuleRootPathIndexTerm;
 import org.kie.workbench.common.services.refactoring.model.index.terms.PackageNameIndexTerm;
@@ -45,9 +47,10 @@ public class DefaultLuceneConfigProducerTest {
     public void checkDefaultAnalyzers() {
         final Map<String, Analyzer> analyzers = producer.getAnalyzers();
 
-        assertEquals(5,
+        assertEquals(6,
                      analyzers.size());
         assertTrue(analyzers.get(LibraryFileNameIndexTerm.TERM) instanceof FilenameAnalyzer);
+        assertTrue(analyzers.get(LibraryFileNameSubstringIndexTerm.TERM) instanceof FileNameSubstringAnalyzer);
         assertTrue(analyzers.get(LibraryRepositoryRootIndexTerm.TERM) instanceof FilenameAnalyzer);
         assertTrue(analyzers.get(ModuleRootPathIndexTerm.TERM) instanceof FilenameAnalyzer);
         assertTrue(analyzers.get(PackageNameIndexTerm.TERM) instanceof LowerCaseOnlyAnalyzer);
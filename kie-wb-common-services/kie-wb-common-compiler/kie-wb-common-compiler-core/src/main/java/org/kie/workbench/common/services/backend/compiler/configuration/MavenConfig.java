@@ -44,6 +44,8 @@ public class MavenConfig {
 
     public static final String COMPILATION_ID = "compilation.ID";
 
+    public static final String RESTORED_POMS = "restored.poms";
+
     public static final String ARCHETYPE_GENERATE = "archetype:generate";
 
     public static final String ARCHETYPE_GENERATE_BLANK = "-B";
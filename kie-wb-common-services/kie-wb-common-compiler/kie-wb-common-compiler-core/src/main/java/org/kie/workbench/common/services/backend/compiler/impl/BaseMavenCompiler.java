@@ -55,6 +55,7 @@ public class BaseMavenCompiler<T extends CompilationResponse> implements AFCompi
     private static final Logger logger = LoggerFactory.getLogger(BaseMavenCompiler.class);
     private int writeBlockSize = 1024;
     private ReusableAFMavenCli cli;
+    private boolean enableIncremental;
     private boolean changedPoms;
     private boolean skipLog;
 
@@ -63,6 +64,7 @@ public class BaseMavenCompiler<T extends CompilationResponse> implements AFCompi
     public BaseMavenCompiler(boolean enableIncremental, boolean enableLogging) {
         cli = new ReusableAFMavenCli();
         enabler = new DefaultIncrementalCompilerEnabler();
+        this.enableIncremental = enableIncremental;
         if(!enableIncremental){
             changedPoms = true;
         }
@@ -89,6 +91,10 @@ public class BaseMavenCompiler<T extends CompilationResponse> implements AFCompi
         if(!changedPoms) {
             enabler.process(req);
             changedPoms = true;
+        } else if (enableIncremental && Boolean.TRUE.equals(req.getMap().get(MavenConfig.RESTORED_POMS))) {
+            // the sources have been reset to the committed poms, without the incremental configuration every class is recompiled
+            enabler.cleanHistory();
+            enabler.process(req);
         }
 
         req.getKieCliRequest().getRequest().setLocalRepositoryPath(req.getMavenRepo());
@@ -74,6 +74,28 @@ public class DefaultKieCompilationResponseOffProcess implements Serializable {
         this.workingDir = res.getWorkingDir().map(Object::toString).orElse("");
     }
 
+    public DefaultKieCompilationResponseOffProcess(boolean successful,
+                                                   String requestUUID,
+                                                   String workingDir,
+                                                   List<String> mavenOutput,
+                                                   List<String> projectDependencies,
+                                                   List<String> targetContent,
+                                                   Set<String> eventsTypeClasses,
+                                                   Map<String, byte[]> projectClassLoaderStore,
+                                                   KieModuleMetaInfo kieModuleMetaInfo,
+                                                   KieModule kieModule) {
+        this.successful = successful;
+        this.requestUUID = requestUUID;
+        this.workingDir = workingDir;
+        this.mavenOutput = mavenOutput;
+        this.projectDependencies = projectDependencies;
+        this.targetContent = targetContent;
+        this.eventsTypeClasses = eventsTypeClasses;
+        this.projectClassLoaderStore = projectClassLoaderStore;
+        this.kieModuleMetaInfo = kieModuleMetaInfo;
+        this.kieModule = kieModule;
+    }
+
     public Optional<KieModuleMetaInfo> getKieModuleMetaInfo() {
         return Optional.ofNullable(kieModuleMetaInfo);
     }
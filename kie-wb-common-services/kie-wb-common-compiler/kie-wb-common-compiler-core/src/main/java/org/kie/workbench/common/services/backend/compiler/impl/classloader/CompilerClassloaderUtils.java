@@ -22,7 +22,6 @@ import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
-import java.net.URLClassLoader;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -209,8 +208,7 @@ public class CompilerClassloaderUtils {
         if (urls.isEmpty()) {
             return Optional.empty();
         } else {
-            URLClassLoader urlClassLoader = new URLClassLoader(urls.toArray(new URL[urls.size()]));
-            return Optional.of(urlClassLoader);
+            return Optional.of(SharedDependenciesClassLoaders.getOrCreate(urls));
         }
     }
 
@@ -219,8 +217,7 @@ public class CompilerClassloaderUtils {
         if (deps.isEmpty()) {
             return Optional.empty();
         } else {
-            URLClassLoader urlClassLoader = new URLClassLoader(deps.toArray(new URL[deps.size()]));
-            return Optional.of(urlClassLoader);
+            return Optional.of(SharedDependenciesClassLoaders.getOrCreate(deps));
         }
     }
 
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.compiler.impl.classloader;
+
+import java.io.File;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/***
+ * Dependencies classloaders shared between the projects resolving exactly the same list of jars (same kie/jbpm versions).
+ * A jar rewritten in the local repo (e.g. a reinstalled SNAPSHOT) changes the key, a list with folders is never shared.
+ * An entry lives as long as a project classloader, a KieContainer or a caller keeps its classloader reachable,
+ * then it is dropped from the registry and the jars and the classes loaded from them can be collected
+ */
+public class SharedDependenciesClassLoaders {
+
+    private static final String FILE_PROTOCOL = "file";
+    private static final String JAR_EXT = ".jar";
+    private static final Logger logger = LoggerFactory.getLogger(SharedDependenciesClassLoaders.class);
+    private static final Map<List<String>, Entry> loaders = new HashMap<>();
+    private static final ReferenceQueue<URLClassLoader> collected = new ReferenceQueue<>();
+    private static long hits;
+    private static long misses;
+
+    private SharedDependenciesClassLoaders() {
+    }
+
+    /***
+     * @return the classloader already built for the same list of jars, or a new one registered for the next callers
+     */
+    public static synchronized URLClassLoader getOrCreate(final List<URL> urls) {
+        purge();
+        final List<String> key = keyOf(urls);
+        if (key == null) {
+            return new URLClassLoader(urls.toArray(new URL[urls.size()]));
+        }
+        final Entry entry = loaders.get(key);
+        final URLClassLoader shared = entry != null ? entry.get() : null;
+        if (shared != null) {
+            hits++;
+            return shared;
+        }
+        misses++;
+        final URLClassLoader loader = new URLClassLoader(urls.toArray(new URL[urls.size()]));
+        loaders.put(key, new Entry(key, loader));
+        if (logger.isDebugEnabled()) {
+            logger.debug("New dependencies classloader with {} jars, shared:{} hits:{} misses:{}", urls.size(), loaders.size(), hits, misses);
+        }
+        return loader;
+    }
+
+    public static synchronized int size() {
+        purge();
+        return loaders.size();
+    }
+
+    public static synchronized long getHits() {
+        return hits;
+    }
+
+    public static synchronized long getMisses() {
+        return misses;
+    }
+
+    /***
+     * URL.equals resolves the host names, the external forms are compared instead
+     * @return null if the classloader can't be shared
+     */
+    private static List<String> keyOf(final List<URL> urls) {
+        final List<String> key = new ArrayList<>(urls.size());
+        for (URL url : urls) {
+            if (!FILE_PROTOCOL.equals(url.getProtocol()) || !url.getPath().endsWith(JAR_EXT)) {
+                return null;
+            }
+            final File jar = toFile(url);
+            key.add(url.toExternalForm() + ':' + jar.length() + ':' + jar.lastModified());
+        }
+        return key;
+    }
+
+    /***
+     * The path of a file URL is escaped (spaces, non ASCII characters), it's decoded through the URI. A URL built
+     * without escaping its path isn't a valid URI, its path is used as is.
+     */
+    static File toFile(final URL url) {
+        try {
+            return Paths.get(url.toURI()).toFile();
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return new File(url.getPath());
+        }
+    }
+
+    private static void purge() {
+        Entry ref;
+        while ((ref = (Entry) collected.poll()) != null) {
+            loaders.remove(ref.key, ref);
+        }
+    }
+
+    private static class Entry extends WeakReference<URLClassLoader> {
+
+        private final List<String> key;
+
+        Entry(final List<String> key,
+              final URLClassLoader loader) {
+            super(loader, collected);
+            this.key = key;
+        }
+    }
+}
@@ -17,34 +17,47 @@
 package org.kie.workbench.common.services.backend.compiler.impl.decorators;
 
 import java.io.InputStream;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.api.ResetCommand;
 import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.ObjectId;
 import org.kie.workbench.common.services.backend.compiler.AFCompiler;
 import org.kie.workbench.common.services.backend.compiler.CompilationRequest;
 import org.kie.workbench.common.services.backend.compiler.CompilationResponse;
+import org.kie.workbench.common.services.backend.compiler.configuration.MavenConfig;
 import org.kie.workbench.common.services.backend.compiler.impl.DefaultCompilationRequest;
 import org.kie.workbench.common.services.backend.compiler.impl.WorkspaceCompilationInfo;
 import org.kie.workbench.common.services.backend.compiler.impl.utils.JGitUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.uberfire.java.nio.file.Path;
 import org.uberfire.java.nio.file.Paths;
 import org.uberfire.java.nio.fs.jgit.JGitFileSystem;
 
 /***
- * Before decorator to update a git repo before the build
+ * Before decorator to update a git repo before the build.
+ * The diff between the last built commit and the updated HEAD tells if the build has changed inputs: when only hidden files
+ * (metadata of the workbench) changed, or nothing at all, the result of the last successful build is returned without running Maven,
+ * otherwise the incremental compiler recompiles the changed sources and their dependents.
  */
 public class JGITCompilerBeforeDecorator<T extends CompilationResponse, C extends AFCompiler<T>> implements CompilerDecorator<T> {
 
+    private static final Logger logger = LoggerFactory.getLogger(JGITCompilerBeforeDecorator.class);
     private Map<JGitFileSystem, Git> gitMap;
+    private Map<JGitFileSystem, LastBuild<T>> lastBuilds;
     private C compiler;
 
     public JGITCompilerBeforeDecorator(C compiler) {
         this.compiler = compiler;
-        this.gitMap = new HashMap<>();
+        this.gitMap = new ConcurrentHashMap<>();
+        this.lastBuilds = new ConcurrentHashMap<>();
     }
 
     //for test
@@ -54,6 +67,7 @@ public class JGITCompilerBeforeDecorator<T extends CompilationResponse, C extend
 
     @Override
     public Boolean cleanInternalCache() {
+        lastBuilds.clear();
         return compiler.cleanInternalCache();
     }
 
@@ -61,16 +75,62 @@ public class JGITCompilerBeforeDecorator<T extends CompilationResponse, C extend
     public T compile(CompilationRequest req) {
         final Optional<Git> git = getGit(req);
 
-        return git.map(g -> compiler.compile(handleBefore(g, req))
+        return git.map(g -> compileChanges(g, req)
         ).orElseGet(() -> compiler.compile(req));
     }
 
+    private T compileChanges(final Git git,
+                             final CompilationRequest req) {
+        final JGitFileSystem fs = (JGitFileSystem) req.getInfo().getPrjPath().getFileSystem();
+        final CompilationRequest _req = handleBefore(git, req);
+        final ObjectId head = JGitUtils.getHead(git);
+        final String args = Arrays.toString(req.getOriginalArgs()) + req.skipProjectDependenciesCreationList();
+        // taken out of the map, a concurrent build of the same file system doesn't reuse it and runs Maven
+        final LastBuild<T> last = lastBuilds.remove(fs);
+        if (head != null && last != null && last.args.equals(args) && !hasChangedInputs(git, last.commit, head)) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("No changed inputs between {} and {}, reusing the last build", last.commit.name(), head.name());
+            }
+            lastBuilds.put(fs, new LastBuild<>(head, args, last.response));
+            return last.response;
+        }
+        final T result = compiler.compile(_req);
+        if (head != null && result.isSuccessful()) {
+            lastBuilds.put(fs, new LastBuild<>(head, args, result));
+        }
+        return result;
+    }
+
+    private boolean hasChangedInputs(final Git git,
+                                     final ObjectId from,
+                                     final ObjectId to) {
+        if (from.equals(to)) {
+            return false;
+        }
+        final Optional<List<String>> changed = JGitUtils.changedFiles(git, from, to);
+        if (!changed.isPresent()) {
+            return true;
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("Changed files between {} and {}: {}", from.name(), to.name(), changed.get());
+        }
+        for (String file : changed.get()) {
+            final String fileName = file.substring(file.lastIndexOf('/') + 1);
+            if (!fileName.startsWith(".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public T compile(final CompilationRequest req,
                      final Map<Path, InputStream> override) {
         final Optional<Git> git = getGit(req);
 
         return git.map(g -> {
+                           // the overridden sources end up compiled in the target folder, the next build must run
+                           lastBuilds.remove(req.getInfo().getPrjPath().getFileSystem());
                            final Map<Path, InputStream> _override = handleMap(g, override);
                            final T result = compiler.compile(handleBefore(g, req), _override);
                            try {
@@ -101,11 +161,14 @@ public class JGITCompilerBeforeDecorator<T extends CompilationResponse, C extend
             if (req.getInfo().getPrjPath().getFileSystem() instanceof JGitFileSystem) {
                 JGitUtils.pullAndRebase(git);
 
-                return new DefaultCompilationRequest(req.getMavenRepo(),
-                                                     new WorkspaceCompilationInfo(Paths.get(git.getRepository().getDirectory().getParentFile().getCanonicalFile().toPath().toUri())),
-                                                     req.getOriginalArgs(),
-                                                     req.skipProjectDependenciesCreationList(),
-                                                     false);
+                final CompilationRequest _req = new DefaultCompilationRequest(req.getMavenRepo(),
+                                                                              new WorkspaceCompilationInfo(Paths.get(git.getRepository().getDirectory().getParentFile().getCanonicalFile().toPath().toUri())),
+                                                                              req.getOriginalArgs(),
+                                                                              req.skipProjectDependenciesCreationList(),
+                                                                              false);
+                // the hard reset done by the pull restores the committed poms
+                _req.getMap().put(MavenConfig.RESTORED_POMS, Boolean.TRUE);
+                return _req;
             }
 
             return req;
@@ -118,10 +181,8 @@ public class JGITCompilerBeforeDecorator<T extends CompilationResponse, C extend
         final Path projectPath = req.getInfo().getPrjPath();
         if (projectPath.getFileSystem() instanceof JGitFileSystem) {
             final JGitFileSystem fs = (JGitFileSystem) projectPath.getFileSystem();
-            if (!gitMap.containsKey(fs)) {
-                gitMap.put(fs, JGitUtils.tempClone(fs, req.getRequestUUID()));
-            }
-            return Optional.of(gitMap.get(fs));
+            return Optional.of(gitMap.computeIfAbsent(fs,
+                                                      k -> JGitUtils.tempClone(k, req.getRequestUUID())));
         }
         return Optional.empty();
     }
@@ -129,4 +190,19 @@ public class JGITCompilerBeforeDecorator<T extends CompilationResponse, C extend
     Map<JGitFileSystem, Git> getGitMap() {
         return gitMap;
     }
+
+    private static class LastBuild<T> {
+
+        private final ObjectId commit;
+        private final String args;
+        private final T response;
+
+        LastBuild(final ObjectId commit,
+                  final String args,
+                  final T response) {
+            this.commit = commit;
+            this.args = args;
+            this.response = response;
+        }
+    }
 }
\ No newline at end of file
@@ -23,11 +23,16 @@ import java.io.ObjectInput;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutput;
 import java.io.ObjectOutputStream;
+import java.lang.reflect.Array;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.drools.compiler.kie.builder.impl.FileKieModule;
 import org.drools.core.rule.KieModuleMetaInfo;
@@ -55,6 +60,8 @@ public class KieAfterDecorator<T extends CompilationResponse, C extends AFCompil
 
     private String eventClassesKey = TypeMetaInfo.class.getName();
 
+    private final AtomicLong handOverNanos = new AtomicLong();
+
     public KieAfterDecorator(C compiler) {
         this.compiler = compiler;
     }
@@ -64,6 +71,13 @@ public class KieAfterDecorator<T extends CompilationResponse, C extends AFCompil
         return compiler;
     }
 
+    /**
+     * Total time spent handing the Kie objects of the builds over from the kie map
+     */
+    long getHandOverNanos() {
+        return handOverNanos.get();
+    }
+
     @Override
     public Boolean cleanInternalCache() {
         return compiler.cleanInternalCache();
@@ -91,6 +105,7 @@ public class KieAfterDecorator<T extends CompilationResponse, C extends AFCompil
     private KieCompilationResponse handleKieMavenPlugin(CompilationRequest req,
                                                         CompilationResponse res) {
 
+        final long start = System.nanoTime();
         final KieTuple kieModuleMetaInfoTuple = read(req, KieModuleMetaInfo.class.getName(), "kieModuleMetaInfo not present in the map");
         final KieTuple kieModuleTuple = read(req, FileKieModule.class.getName(), "kieModule not present in the map");
 
@@ -100,6 +115,9 @@ public class KieAfterDecorator<T extends CompilationResponse, C extends AFCompil
             final KieTuple eventClasses = read(req, eventClassesKey, "EventClasses Set not present in the map");
             final Set<String> events = getEventTypes(eventClasses);
             final Map<String, byte[]> store = getDroolsGeneratedClasses(kieProjectClassloaderStore);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Kie objects of the request {} read from the kieMap in {} ms", req.getRequestUUID(), (System.nanoTime() - start) / 1_000_000);
+            }
 
             return new DefaultKieCompilationResponse(res.isSuccessful(),
                                                      (KieModuleMetaInfo) kieModuleMetaInfoTuple.getOptionalObject().get(),
@@ -153,33 +171,54 @@ public class KieAfterDecorator<T extends CompilationResponse, C extends AFCompil
 
     private KieTuple read(CompilationRequest req, String keyName, String errorMsg) {
         final StringBuilder sb = new StringBuilder(req.getKieCliRequest().getRequestUUID()).append(".").append(keyName);
-        Object o = req.getKieCliRequest().getMap().get(sb.toString());
-        if (o != null) {
-            KieTuple tuple = readObjectFromADifferentClassloader(o);
+        return take(req.getKieCliRequest().getMap(), sb.toString(), errorMsg);
+    }
+
+    /**
+     * Takes the object out of the kie map, so the response is its only owner. Objects made only of JDK types (the class
+     * store and the event classes) are copied structurally, without serialization. Objects whose classes are visible from
+     * this classloader are handed over as they are, the others are copied with a serialization round trip over a single
+     * buffer
+     */
+    KieTuple take(Map<String, Object> kieMap, String key, String errorMsg) {
+        final long start = System.nanoTime();
+        final Object o = kieMap.remove(key);
+        if (o == null) {
+            return new KieTuple(errorMsg);
+        }
+        try {
+            final KieTuple tuple = readObjectFromADifferentClassloader(o);
             if (tuple.getOptionalObject().isPresent()) {
                 return new KieTuple(tuple.getOptionalObject().get());
             } else {
                 return new KieTuple(tuple.getErrorMsg());
             }
-        } else {
-            return new KieTuple(errorMsg);
+        } finally {
+            final long elapsed = System.nanoTime() - start;
+            handOverNanos.addAndGet(elapsed);
+            if (logger.isDebugEnabled()) {
+                logger.debug("{} read in {} ms", key, elapsed / 1_000_000);
+            }
         }
     }
 
     private KieTuple readObjectFromADifferentClassloader(Object o) {
 
+        if (isVisibleFromThisClassloader(o)) {
+            return new KieTuple(copyOfJdkObject(o));
+        }
+
         ObjectInput in = null;
         ObjectOutput out;
         ByteArrayInputStream bis;
-        ByteArrayOutputStream bos = null;
+        SharedBufferOutputStream bos = null;
 
         try {
-            bos = new ByteArrayOutputStream();
+            bos = new SharedBufferOutputStream();
             out = new ObjectOutputStream(bos);
             out.writeObject(o);
             out.flush();
-            byte[] objBytes = bos.toByteArray();
-            bis = new ByteArrayInputStream(objBytes);
+            bis = bos.toInputStream();
             in = new ObjectInputStream(bis);
             Object newObj = in.readObject();
             return new KieTuple(newObj);
@@ -209,4 +248,82 @@ public class KieAfterDecorator<T extends CompilationResponse, C extends AFCompil
             }
         }
     }
+
+    /**
+     * Copies the maps, collections and arrays of JDK types, the element objects are immutable JDK types. Any other
+     * object is returned as it is
+     */
+    private Object copyOfJdkObject(Object o) {
+        if (o == null || o.getClass().getClassLoader() != null) {
+            return o;
+        }
+        if (o instanceof Map) {
+            final Map<Object, Object> copy = new HashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) o).entrySet()) {
+                copy.put(copyOfJdkObject(entry.getKey()), copyOfJdkObject(entry.getValue()));
+            }
+            return copy;
+        }
+        if (o instanceof Set) {
+            final Set<Object> copy = new LinkedHashSet<>();
+            for (Object element : (Set<?>) o) {
+                copy.add(copyOfJdkObject(element));
+            }
+            return copy;
+        }
+        if (o instanceof Collection) {
+            final List<Object> copy = new ArrayList<>();
+            for (Object element : (Collection<?>) o) {
+                copy.add(copyOfJdkObject(element));
+            }
+            return copy;
+        }
+        if (o.getClass().isArray()) {
+            final int length = Array.getLength(o);
+            final Object copy = Array.newInstance(o.getClass().getComponentType(), length);
+            System.arraycopy(o, 0, copy, 0, length);
+            return copy;
+        }
+        return o;
+    }
+
+    private boolean isVisibleFromThisClassloader(Object o) {
+        if (o == null) {
+            return true;
+        }
+        final Class<?> clazz = o.getClass();
+        if (clazz.getClassLoader() == null) {
+            if (o instanceof Map) {
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) o).entrySet()) {
+                    if (!isVisibleFromThisClassloader(entry.getKey()) || !isVisibleFromThisClassloader(entry.getValue())) {
+                        return false;
+                    }
+                }
+            } else if (o instanceof Collection) {
+                for (Object element : (Collection<?>) o) {
+                    if (!isVisibleFromThisClassloader(element)) {
+                        return false;
+                    }
+                }
+            } else if (clazz.isArray() && !clazz.getComponentType().isPrimitive()) {
+                return false;
+            }
+            return true;
+        }
+        try {
+            return Class.forName(clazz.getName(), false, KieAfterDecorator.class.getClassLoader()) == clazz;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Output stream that hands its buffer to the input stream without the copy made by toByteArray
+     */
+    private static class SharedBufferOutputStream extends ByteArrayOutputStream {
+
+        ByteArrayInputStream toInputStream() {
+            return new ByteArrayInputStream(buf, 0, count);
+        }
+    }
 }
@@ -16,12 +16,21 @@
 package org.kie.workbench.common.services.backend.compiler.impl.utils;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.api.PullResult;
 import org.eclipse.jgit.api.RebaseResult;
 import org.eclipse.jgit.api.ResetCommand;
 import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.diff.DiffEntry;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.treewalk.CanonicalTreeParser;
 import org.kie.workbench.common.services.backend.compiler.impl.decorators.JGITCompilerBeforeDecorator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -59,6 +68,44 @@ public class JGitUtils {
         return result;
     }
 
+    public static ObjectId getHead(final Git git) {
+        try {
+            return git.getRepository().resolve(Constants.HEAD);
+        } catch (Exception e) {
+            logger.error(e.getMessage());
+            return null;
+        }
+    }
+
+    /***
+     * Paths, relative to the root of the repo, of the files added, changed or removed between two commits
+     * @return empty if the diff can't be computed
+     */
+    public static Optional<List<String>> changedFiles(final Git git,
+                                                      final ObjectId from,
+                                                      final ObjectId to) {
+        try (ObjectReader reader = git.getRepository().newObjectReader();
+             RevWalk walk = new RevWalk(git.getRepository())) {
+            final CanonicalTreeParser oldTree = new CanonicalTreeParser();
+            oldTree.reset(reader, walk.parseCommit(from).getTree());
+            final CanonicalTreeParser newTree = new CanonicalTreeParser();
+            newTree.reset(reader, walk.parseCommit(to).getTree());
+            final List<String> changed = new ArrayList<>();
+            for (DiffEntry entry : git.diff().setOldTree(oldTree).setNewTree(newTree).setShowNameAndStatusOnly(true).call()) {
+                if (!DiffEntry.DEV_NULL.equals(entry.getOldPath())) {
+                    changed.add(entry.getOldPath());
+                }
+                if (!DiffEntry.DEV_NULL.equals(entry.getNewPath()) && !entry.getNewPath().equals(entry.getOldPath())) {
+                    changed.add(entry.getNewPath());
+                }
+            }
+            return Optional.of(changed);
+        } catch (Exception e) {
+            logger.error(e.getMessage());
+            return Optional.empty();
+        }
+    }
+
     public static Git tempClone(final JGitFileSystem fs,
                                 final String uuid) {
         try {
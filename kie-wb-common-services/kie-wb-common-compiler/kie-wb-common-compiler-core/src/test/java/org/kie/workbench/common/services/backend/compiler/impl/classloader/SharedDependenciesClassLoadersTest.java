@@ -0,0 +1,64 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.compiler.impl.classloader;
+
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SharedDependenciesClassLoadersTest {
+
+    @Test
+    public void sameJarsSameClassLoader() throws Exception {
+        URL jar = new URL("file:///tmp/m2/org/kie/kie-api/7.0.0/kie-api-7.0.0.jar");
+        URL other = new URL("file:///tmp/m2/org/kie/kie-api/7.1.0/kie-api-7.1.0.jar");
+
+        ClassLoader first = SharedDependenciesClassLoaders.getOrCreate(Collections.singletonList(jar));
+        assertThat(SharedDependenciesClassLoaders.getOrCreate(Collections.singletonList(jar))).isSameAs(first);
+        assertThat(SharedDependenciesClassLoaders.getOrCreate(Arrays.asList(jar, other))).isNotSameAs(first);
+    }
+
+    @Test
+    public void foldersAreNotShared() throws Exception {
+        URL classes = new URL("file:///tmp/dummy/target/classes/");
+
+        ClassLoader first = SharedDependenciesClassLoaders.getOrCreate(Collections.singletonList(classes));
+        assertThat(SharedDependenciesClassLoaders.getOrCreate(Collections.singletonList(classes))).isNotSameAs(first);
+    }
+
+    @Test
+    public void rewrittenJarInAFolderWithSpacesIsNotShared() throws Exception {
+        Path folder = Files.createTempDirectory("local repo");
+        Path jar = Files.write(folder.resolve("kie-api-7.0.0-SNAPSHOT.jar"), new byte[]{1});
+        try {
+            URL url = jar.toUri().toURL();
+            assertThat(SharedDependenciesClassLoaders.toFile(url)).isEqualTo(jar.toFile());
+
+            ClassLoader first = SharedDependenciesClassLoaders.getOrCreate(Collections.singletonList(url));
+            Files.write(jar, new byte[]{1, 2});
+            assertThat(SharedDependenciesClassLoaders.getOrCreate(Collections.singletonList(url))).isNotSameAs(first);
+        } finally {
+            Files.delete(jar);
+            Files.delete(folder);
+        }
+    }
+}
@@ -120,6 +120,42 @@ public class JGITCompilerBeforeDecoratorTest {
         TestUtil.rm(tempPath.toFile());
     }
 
+    @Test
+    public void compileWithoutChangedInputsReusesTheLastBuild() throws Exception {
+        final FileSystem fileSystem = createFileSystem("myrepounchanged");
+
+        JGITCompilerBeforeDecorator compiler = new JGITCompilerBeforeDecorator(new BaseMavenCompiler(true,false));
+        WorkspaceCompilationInfo info = new WorkspaceCompilationInfo(fileSystem.getPath("/"));
+        CompilationRequest req = new DefaultCompilationRequest(mavenRepoPath,
+                                                               info,
+                                                               new String[]{MavenCLIArgs.COMPILE},
+                                                               Boolean.TRUE);
+        CompilationResponse res = compiler.compile(req);
+
+        final java.nio.file.Path tempPath = ((Git) compiler.getGitMap().get(fileSystem)).getRepository().getDirectory().toPath().getParent();
+        TestUtil.saveMavenLogIfCompilationResponseNotSuccessfull(tempPath, res, this.getClass(), testName);
+        assertThat(res.isSuccessful()).isTrue();
+
+        //only workbench metadata changed
+        ioService.write(fileSystem.getPath("/dummyA/src/main/java/dummy/.DummyA.java"), "metadata");
+        CompilationResponse unchanged = compiler.compile(new DefaultCompilationRequest(mavenRepoPath,
+                                                                                       info,
+                                                                                       new String[]{MavenCLIArgs.COMPILE},
+                                                                                       Boolean.TRUE));
+        assertThat(unchanged).isSameAs(res);
+
+        ioService.write(fileSystem.getPath("/dummyA/src/main/java/dummy/DummyA.java"),
+                        new String(java.nio.file.Files.readAllBytes(new File("src/test/projects/dummy_multimodule_untouched/dummyA/src/main/java/dummy/DummyA.java").toPath())) + "\n");
+        CompilationResponse changed = compiler.compile(new DefaultCompilationRequest(mavenRepoPath,
+                                                                                     info,
+                                                                                     new String[]{MavenCLIArgs.COMPILE},
+                                                                                     Boolean.TRUE));
+        assertThat(changed).isNotSameAs(res);
+        assertThat(changed.isSuccessful()).isTrue();
+
+        TestUtil.rm(tempPath.toFile());
+    }
+
     @Test
     public void compileWithOverrideTest() throws Exception {
         final FileSystem fileSystem = createFileSystem("myrepo");
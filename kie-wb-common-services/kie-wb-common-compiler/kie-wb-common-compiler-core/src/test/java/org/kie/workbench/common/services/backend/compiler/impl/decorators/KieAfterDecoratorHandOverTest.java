@@ -0,0 +1,88 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.compiler.impl.decorators;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class KieAfterDecoratorHandOverTest {
+
+    private static final String KEY = "uuid.key";
+
+    private final KieAfterDecorator decorator = new KieAfterDecorator(null);
+    private final Map<String, Object> kieMap = new HashMap<>();
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void classStoreIsCopiedWithoutSerialization() {
+        final Map<String, byte[]> store = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            store.put("org.test.Class" + i, new byte[]{(byte) i, 1, 2});
+        }
+        kieMap.put(KEY, store);
+
+        final Map<String, byte[]> copy = (Map<String, byte[]>) decorator.take(kieMap, KEY, "missing").getOptionalObject().get();
+
+        assertThat(copy).isNotSameAs(store).hasSameSizeAs(store);
+        store.forEach((name, bytes) -> assertThat(copy.get(name)).isNotSameAs(bytes).isEqualTo(bytes));
+        store.get("org.test.Class1")[0] = 42;
+        assertThat(copy.get("org.test.Class1")[0]).isEqualTo((byte) 1);
+        assertThat(kieMap).doesNotContainKey(KEY);
+        assertThat(decorator.getHandOverNanos()).isPositive();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void eventClassesAreCopied() {
+        final Set<String> events = new HashSet<>();
+        events.add("org.test.Event");
+        kieMap.put(KEY, events);
+
+        final Set<String> copy = (Set<String>) decorator.take(kieMap, KEY, "missing").getOptionalObject().get();
+
+        assertThat(copy).isNotSameAs(events).containsExactly("org.test.Event");
+        events.add("org.test.Other");
+        assertThat(copy).containsExactly("org.test.Event");
+    }
+
+    @Test
+    public void objectVisibleFromTheClassloaderIsTakenOutOfTheMap() {
+        final Payload payload = new Payload("value");
+        kieMap.put(KEY, payload);
+
+        final KieTuple tuple = decorator.take(kieMap, KEY, "missing");
+
+        assertThat(tuple.getOptionalObject().get()).isSameAs(payload);
+        assertThat(kieMap).doesNotContainKey(KEY);
+        assertThat(decorator.take(kieMap, KEY, "missing").getErrorMsg().get()).isEqualTo("missing");
+    }
+
+    private static class Payload implements Serializable {
+
+        private final String value;
+
+        Payload(String value) {
+            this.value = value;
+        }
+    }
+}
@@ -25,4 +25,9 @@ public interface CompilerIPCCoordinator<T extends CompilationResponse> {
      */
     T compile(final CompilationRequest req);
 
+    /**
+     * Stops the processes kept by the coordinator between the builds
+     */
+    void shutdown();
+
 }
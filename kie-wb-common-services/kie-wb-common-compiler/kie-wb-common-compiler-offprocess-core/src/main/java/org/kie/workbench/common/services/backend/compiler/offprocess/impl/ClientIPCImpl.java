@@ -15,13 +15,11 @@
  */
 package org.kie.workbench.common.services.backend.compiler.offprocess.impl;
 
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.ObjectInputStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
-import net.openhft.chronicle.bytes.Bytes;
 import net.openhft.chronicle.queue.ExcerptTailer;
-import net.openhft.chronicle.queue.TailerDirection;
 import net.openhft.chronicle.wire.DocumentContext;
 import net.openhft.chronicle.wire.Wire;
 import org.kie.workbench.common.services.backend.compiler.impl.DefaultKieCompilationResponse;
@@ -32,104 +30,151 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /***
- * Client to access the result of the build executed in a separated process
+ * Client to access the result of the build executed in a separated process.
+ * The queue is scanned forward only once, keeping an index UUID -> queue index of the responses not yet consumed.
+ * The responses never consumed are forgotten once older than the queue retention, or beyond the configured number
  */
 
 public class ClientIPCImpl implements ClientIPC {
 
+    public static final String MAX_INDEXED_RESPONSES = "org.kie.workbench.compiler.offprocess.client.maxIndexedResponses";
+
     private ResponseSharedMap map;
     private QueueProvider provider;
     private Logger logger = LoggerFactory.getLogger(ClientIPCImpl.class);
+    private Map<String, IndexedResponse> indexByUUID = new LinkedHashMap<>();
+    private long lastScannedIndex = -1L;
+    private final int maxIndexedResponses;
 
     public ClientIPCImpl(ResponseSharedMap map, QueueProvider provider) {
+        this(map, provider, Integer.parseInt(System.getProperty(MAX_INDEXED_RESPONSES, "10000")));
+    }
+
+    ClientIPCImpl(ResponseSharedMap map, QueueProvider provider, int maxIndexedResponses) {
         this.map = map;
         this.provider = provider;
+        this.maxIndexedResponses = maxIndexedResponses;
     }
 
     public KieCompilationResponse getResponse(String uuid) {
         if(isLoaded(uuid)) {
-            return (KieCompilationResponse)map.getResponse(uuid);
+            KieCompilationResponse res = (KieCompilationResponse)map.getResponse(uuid);
+            map.removeResponse(uuid);
+            return res;
         }else {
             return new DefaultKieCompilationResponse(false, "");
         }
     }
 
     private boolean isLoaded(String uuid) {
-        ExcerptTailer tailer = provider.getQueue().createTailer();
-        DefaultKieCompilationResponseOffProcess res = readThisDocument(tailer);
-        DefaultKieCompilationResponse kres = new DefaultKieCompilationResponse(res);
-        if (uuid.equals(kres.getRequestUUID())) {
-            if (!map.contains(kres.getRequestUUID())) {
-                map.addResponse(uuid, kres);
-                return true;
-            }
-        } else {
-            //we loop in the queue to find our Response by UUID, from the tail of the queue backward
-            tailer.toEnd();
-            tailer.direction(TailerDirection.BACKWARD);
-            res = loopOverQueue(tailer,uuid, 0l);
-        }
-
-        kres = new DefaultKieCompilationResponse(res);
-        if (!map.contains(kres.getRequestUUID())) {
-            map.addResponse(uuid, new DefaultKieCompilationResponse(res));
+        if (map.contains(uuid)) {
             return true;
-        } else {
+        }
+        Long index = takeIndex(uuid);
+        if (index == null) {
+            scanNewDocuments();
+            index = takeIndex(uuid);
+        }
+        if (index == null) {
             return false;
         }
+        DefaultKieCompilationResponseOffProcess res = readDocumentAt(index);
+        if (res == null || !uuid.equals(res.getRequestUUID())) {
+            return false;
+        }
+        map.addResponse(uuid, new DefaultKieCompilationResponse(res));
+        return true;
     }
 
-
-    private DefaultKieCompilationResponseOffProcess loopOverQueue(ExcerptTailer tailer, String uuid, long previousIndex) {
-        long currentIndex = tailer.index();
+    /***
+     * Reads only the UUID of the documents appended after the last scan and records their queue index.
+     * When the last scanned document has been rolled away, the scan resumes from the oldest document still in the
+     * queue that comes after it
+     */
+    private synchronized void scanNewDocuments() {
+        ExcerptTailer tailer = provider.getQueue().createTailer();
+        if (lastScannedIndex < 0 || !tailer.moveToIndex(lastScannedIndex)) {
+            tailer.toStart();
+        } else {
+            try (DocumentContext dc = tailer.readingDocument()) {
+                // skip the last document already indexed
+            }
+        }
+        while (true) {
+            try (DocumentContext dc = tailer.readingDocument()) {
+                if (!dc.isPresent()) {
+                    break;
+                }
+                if (dc.index() <= lastScannedIndex) {
+                    // already indexed, or consumed, before the queue rolled
+                    continue;
+                }
+                lastScannedIndex = dc.index();
+                String uuid = dc.wire().read(() -> ServerIPCImpl.UUID_KEY).text();
+                if (uuid != null) {
+                    indexByUUID.put(uuid, new IndexedResponse(lastScannedIndex, System.currentTimeMillis()));
+                }
+            }
+        }
+        evictStale();
         if(logger.isDebugEnabled()) {
-            logger.debug("current index on loopOverQueue:{}", currentIndex);
+            logger.debug("last index scanned:{}, responses indexed:{}", lastScannedIndex, indexByUUID.size());
         }
-        DefaultKieCompilationResponseOffProcess  res = readThisDocument(tailer);
-        if(uuid.equals(res.getRequestUUID())){
-            return res;
-        }else{
-            if(currentIndex == previousIndex){
-                // No more elements in the queue
-                return new DefaultKieCompilationResponseOffProcess(false, "");
+    }
+
+    private synchronized Long takeIndex(String uuid) {
+        IndexedResponse indexed = indexByUUID.remove(uuid);
+        return indexed != null ? indexed.index : null;
+    }
+
+    synchronized int getIndexedCount() {
+        return indexByUUID.size();
+    }
+
+    /***
+     * The entries are in scan order, the oldest first
+     */
+    private void evictStale() {
+        long threshold = System.currentTimeMillis() - provider.getRetentionMillis();
+        Iterator<IndexedResponse> it = indexByUUID.values().iterator();
+        while (it.hasNext()) {
+            IndexedResponse indexed = it.next();
+            if (indexByUUID.size() <= maxIndexedResponses && indexed.scannedAt >= threshold) {
+                break;
             }
-            return loopOverQueue(tailer, uuid, currentIndex);
+            it.remove();
         }
     }
 
-    private DefaultKieCompilationResponseOffProcess readThisDocument(ExcerptTailer tailer) {
-        if(logger.isDebugEnabled()) {
-            logger.debug("current index on readThisDocument:{}", tailer.index());
+    private DefaultKieCompilationResponseOffProcess readDocumentAt(long index) {
+        ExcerptTailer tailer = provider.getQueue().createTailer();
+        if (!tailer.moveToIndex(index)) {
+            logger.error("Index {} no longer available in the queue", index);
+            return null;
         }
         DefaultKieCompilationResponseOffProcess res = null;
         try (DocumentContext dc = tailer.readingDocument()) {
             if (dc.isPresent()) {
-                if(logger.isDebugEnabled()) {
-                    logger.debug("Document Context index:{}", dc.index());
-                }
                 Wire wire = dc.wire();
-                Bytes bytes = wire.bytes();
-                if (!bytes.isEmpty()) {
-                    try {
-                        Object obj = deserialize(bytes.toByteArray());
-                        res = (DefaultKieCompilationResponseOffProcess) obj;
-                    } catch (Exception e) {
-                        logger.error(e.getMessage(), e);
-                    }
+                wire.read(() -> ServerIPCImpl.UUID_KEY).text();
+                try {
+                    res = ResponseCodec.decode(wire.bytes());
+                } catch (Exception e) {
+                    logger.error(e.getMessage(), e);
                 }
             }
         }
-        if(res == null){
-            res = new DefaultKieCompilationResponseOffProcess(false, "");
-        }
         return res;
     }
 
-    private static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
-        try (ByteArrayInputStream b = new ByteArrayInputStream(bytes)) {
-            try (ObjectInputStream o = new ObjectInputStream(b)) {
-                return o.readObject();
-            }
+    private static class IndexedResponse {
+
+        private final long index;
+        private final long scannedAt;
+
+        IndexedResponse(long index, long scannedAt) {
+            this.index = index;
+            this.scannedAt = scannedAt;
         }
     }
 }
@@ -52,6 +52,7 @@ public class CompilerIPCCoordinatorImpl implements CompilerIPCCoordinator {
     private QueueProvider provider;
     private String queueName;
     private String kieVersion;
+    private CompilerWorkerPool workerPool;
 
     public CompilerIPCCoordinatorImpl(QueueProvider provider) {
         this.kieVersion = getKieVersion();
@@ -66,6 +67,7 @@ public class CompilerIPCCoordinatorImpl implements CompilerIPCCoordinator {
         } catch (IOException e) {
             logger.error(e.getMessage(), e);
         }
+        workerPool = new CompilerWorkerPool(javaBin, queueName, this::getWorkerClasspath);
     }
 
     @Override
@@ -76,6 +78,11 @@ public class CompilerIPCCoordinatorImpl implements CompilerIPCCoordinator {
     }
 
 
+    @Override
+    public void shutdown() {
+        workerPool.shutdown();
+    }
+
     private String getKieVersion(){
         ConfigurationPropertiesStrategy prop = new ConfigurationPropertiesStrategy();
         Map<ConfigurationKey, String> conf = prop.loadConfiguration();
@@ -95,7 +102,13 @@ public class CompilerIPCCoordinatorImpl implements CompilerIPCCoordinator {
     private CompilationResponse internalBuild(String mavenRepo, String projectPath, String alternateSettingsAbsPath, String uuid) {
         String classpath = classpathTemplate.replace(placeholder, mavenRepo);
         try {
-            invokeServerBuild(mavenRepo, projectPath, uuid, classpath, alternateSettingsAbsPath, queueName);
+            if (workerPool.isEnabled()) {
+                if (!workerPool.build(uuid, projectPath, mavenRepo, alternateSettingsAbsPath)) {
+                    return new DefaultKieCompilationResponse(false, "");
+                }
+            } else {
+                invokeServerBuild(mavenRepo, projectPath, uuid, classpath, alternateSettingsAbsPath, queueName);
+            }
             if(logger.isDebugEnabled()) {
                 logger.debug("invokeServerBuild completed");
             }
@@ -140,6 +153,10 @@ public class CompilerIPCCoordinatorImpl implements CompilerIPCCoordinator {
         writeStdOut(serverPb);
     }
 
+    private String getWorkerClasspath(String mavenRepo) {
+        return getClasspathIncludedCurrentModuleDep(mavenRepo, classpathTemplate.replace(placeholder, mavenRepo));
+    }
+
     private String getClasspathIncludedCurrentModuleDep(String mavenRepo, String classpath){
         StringBuilder sb = new StringBuilder();
         this.getClass().getPackage();
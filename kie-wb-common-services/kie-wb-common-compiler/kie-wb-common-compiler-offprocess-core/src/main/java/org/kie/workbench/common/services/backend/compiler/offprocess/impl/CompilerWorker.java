@@ -0,0 +1,153 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.compiler.offprocess.impl;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import net.openhft.chronicle.core.io.IOTools;
+import net.openhft.chronicle.queue.ExcerptTailer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/***
+ * Handle of a ServerIPCWorker process owned by the CompilerWorkerPool, used by one build at a time
+ */
+class CompilerWorker {
+
+    private static final long POLL_INTERVAL_MILLIS = 20L;
+
+    private Logger logger = LoggerFactory.getLogger(CompilerWorker.class);
+    private final Process process;
+    private final String mavenRepo;
+    private final QueueProvider requests;
+    private final QueueProvider done;
+    private int builds;
+    private long usedHeap;
+    private ExcerptTailer doneTailer;
+
+    CompilerWorker(Process process, String mavenRepo, QueueProvider requests, QueueProvider done) {
+        this.process = process;
+        this.mavenRepo = mavenRepo;
+        this.requests = requests;
+        this.done = done;
+    }
+
+    String getMavenRepo() {
+        return mavenRepo;
+    }
+
+    int getBuilds() {
+        return builds;
+    }
+
+    long getUsedHeap() {
+        return usedHeap;
+    }
+
+    boolean isAlive() {
+        return process.isAlive();
+    }
+
+    /***
+     * Sends the request to the worker and blocks until the worker signals the end of the build
+     * @return false if the worker died or didn't complete the build in time
+     */
+    boolean build(String uuid, String workingDir, String alternateSettingsAbsPath, long timeoutMillis) throws InterruptedException {
+        sendRequest(uuid, workingDir, mavenRepo, alternateSettingsAbsPath);
+        builds++;
+        if (awaitDone(uuid, timeoutMillis)) {
+            return true;
+        }
+        logger.error("Compiler worker didn't complete the build {} in {} ms", uuid, timeoutMillis);
+        return false;
+    }
+
+    /***
+     * Checks the worker still reads its requests, a worker alive but stuck doesn't answer in time
+     */
+    boolean ping(long timeoutMillis) throws InterruptedException {
+        String uuid = ServerIPCWorker.PING + UUID.randomUUID().toString();
+        sendRequest(uuid, "", "", "");
+        if (awaitDone(uuid, timeoutMillis)) {
+            return true;
+        }
+        logger.warn("Compiler worker didn't answer the ping in {} ms", timeoutMillis);
+        return false;
+    }
+
+    private void sendRequest(String uuid, String workingDir, String repo, String alternateSettingsAbsPath) {
+        requests.getQueue().acquireAppender().writeDocument(wire -> wire.write(() -> ServerIPCWorker.UUID_KEY).text(uuid)
+                .write(() -> ServerIPCWorker.WORKING_DIR_KEY).text(workingDir)
+                .write(() -> ServerIPCWorker.MAVEN_REPO_KEY).text(repo)
+                .write(() -> ServerIPCWorker.SETTINGS_KEY).text(alternateSettingsAbsPath));
+    }
+
+    /***
+     * Reads the done queue from where the previous request stopped, skipping the signals of requests given up before
+     */
+    private boolean awaitDone(String uuid, long timeoutMillis) throws InterruptedException {
+        if (doneTailer == null) {
+            doneTailer = done.getQueue().createTailer();
+        }
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (System.currentTimeMillis() < deadline) {
+            final String[] doneUUID = new String[1];
+            final long[] heap = new long[1];
+            boolean read = doneTailer.readDocument(wire -> {
+                doneUUID[0] = wire.read(() -> ServerIPCWorker.UUID_KEY).text();
+                heap[0] = wire.read(() -> ServerIPCWorker.USED_HEAP_KEY).int64();
+            });
+            if (read) {
+                if (uuid.equals(doneUUID[0])) {
+                    usedHeap = heap[0];
+                    return true;
+                }
+            } else if (!process.isAlive()) {
+                logger.error("Compiler worker died while running {} with exit code:{}", uuid, process.exitValue());
+                return false;
+            } else {
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            }
+        }
+        return false;
+    }
+
+    /***
+     * Asks the worker to exit, kills it if it doesn't comply and removes its queues
+     */
+    void destroy() {
+        try {
+            if (process.isAlive()) {
+                requests.getQueue().acquireAppender().writeDocument(wire -> wire.write(() -> ServerIPCWorker.UUID_KEY).text(ServerIPCWorker.SHUTDOWN)
+                        .write(() -> ServerIPCWorker.WORKING_DIR_KEY).text("")
+                        .write(() -> ServerIPCWorker.MAVEN_REPO_KEY).text("")
+                        .write(() -> ServerIPCWorker.SETTINGS_KEY).text(""));
+                if (!process.waitFor(5, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+        } finally {
+            requests.cleanQueue();
+            done.cleanQueue();
+            IOTools.shallowDeleteDirWithFiles(requests.getAbsolutePath());
+            IOTools.shallowDeleteDirWithFiles(done.getAbsolutePath());
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.compiler.offprocess.impl;
+
+import java.io.File;
+import java.util.Deque;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/***
+ * Pool of long lived ServerIPCWorker processes, to avoid the JVM and Maven container bootstrap on every off process build.
+ * A worker is recycled after a configured number of builds, when its heap goes over the threshold or when it stops responding
+ */
+public class CompilerWorkerPool {
+
+    public static final String POOL_SIZE = "org.kie.workbench.compiler.offprocess.pool.size";
+    public static final String MAX_BUILDS_PER_WORKER = "org.kie.workbench.compiler.offprocess.pool.maxBuildsPerWorker";
+    public static final String MAX_HEAP_MB = "org.kie.workbench.compiler.offprocess.pool.maxHeapMb";
+    public static final String BUILD_TIMEOUT_SECONDS = "org.kie.workbench.compiler.offprocess.pool.buildTimeoutSeconds";
+    public static final String PING_TIMEOUT_SECONDS = "org.kie.workbench.compiler.offprocess.pool.pingTimeoutSeconds";
+
+    private Logger logger = LoggerFactory.getLogger(CompilerWorkerPool.class);
+    private final String javaBin;
+    private final String queueName;
+    private final Function<String, String> classpathProvider;
+    private final int size;
+    private final int maxBuildsPerWorker;
+    private final long maxHeapBytes;
+    private final long buildTimeoutMillis;
+    private final long pingTimeoutMillis;
+    private final Semaphore permits;
+    private final Deque<CompilerWorker> idleWorkers = new ConcurrentLinkedDeque<>();
+    private volatile boolean shutdown;
+
+    public CompilerWorkerPool(String javaBin,
+                              String queueName,
+                              Function<String, String> classpathProvider) {
+        this(javaBin,
+             queueName,
+             classpathProvider,
+             Integer.parseInt(System.getProperty(POOL_SIZE, "0")),
+             Integer.parseInt(System.getProperty(MAX_BUILDS_PER_WORKER, "50")),
+             Long.parseLong(System.getProperty(MAX_HEAP_MB, "1024")) * 1024 * 1024,
+             Long.parseLong(System.getProperty(BUILD_TIMEOUT_SECONDS, "600")) * 1000,
+             Long.parseLong(System.getProperty(PING_TIMEOUT_SECONDS, "10")) * 1000);
+    }
+
+    public CompilerWorkerPool(String javaBin,
+                              String queueName,
+                              Function<String, String> classpathProvider,
+                              int size,
+                              int maxBuildsPerWorker,
+                              long maxHeapBytes,
+                              long buildTimeoutMillis,
+                              long pingTimeoutMillis) {
+        this.javaBin = javaBin;
+        this.queueName = queueName;
+        this.classpathProvider = classpathProvider;
+        this.size = size;
+        this.maxBuildsPerWorker = maxBuildsPerWorker;
+        this.maxHeapBytes = maxHeapBytes;
+        this.buildTimeoutMillis = buildTimeoutMillis;
+        this.pingTimeoutMillis = pingTimeoutMillis;
+        this.permits = new Semaphore(Math.max(size, 0), true);
+    }
+
+    public boolean isEnabled() {
+        return size > 0 && !shutdown;
+    }
+
+    /***
+     * Runs the build on an idle worker, starting a new one if none is available and the pool isn't full
+     * @return false if the worker failed to complete the build, the worker is discarded
+     */
+    public boolean build(String uuid, String projectPath, String mavenRepo, String alternateSettingsAbsPath) throws Exception {
+        permits.acquire();
+        CompilerWorker worker = null;
+        boolean completed = false;
+        try {
+            worker = acquire(mavenRepo, projectPath);
+            completed = worker.build(uuid, projectPath, alternateSettingsAbsPath, buildTimeoutMillis);
+            return completed;
+        } finally {
+            if (worker != null) {
+                release(worker, completed);
+            }
+            permits.release();
+        }
+    }
+
+    /***
+     * Stops the idle workers, the ones running a build are stopped once it completes. Called by the owner of the pool
+     */
+    public void shutdown() {
+        shutdown = true;
+        CompilerWorker worker;
+        while ((worker = idleWorkers.poll()) != null) {
+            worker.destroy();
+        }
+    }
+
+    int getIdleCount() {
+        return idleWorkers.size();
+    }
+
+    private CompilerWorker acquire(String mavenRepo, String projectPath) throws Exception {
+        CompilerWorker worker;
+        while ((worker = idleWorkers.poll()) != null) {
+            if (worker.isAlive() && worker.getMavenRepo().equals(mavenRepo) && worker.ping(pingTimeoutMillis)) {
+                return worker;
+            }
+            logger.info("Discarding compiler worker, alive:{}", worker.isAlive());
+            worker.destroy();
+        }
+        return startWorker(mavenRepo, projectPath);
+    }
+
+    private void release(CompilerWorker worker, boolean healthy) {
+        if (shutdown || !healthy || !worker.isAlive()
+                || worker.getBuilds() >= maxBuildsPerWorker
+                || worker.getUsedHeap() >= maxHeapBytes) {
+            if (logger.isInfoEnabled()) {
+                logger.info("Recycling compiler worker after {} builds, used heap:{}", worker.getBuilds(), worker.getUsedHeap());
+            }
+            worker.destroy();
+        } else {
+            idleWorkers.offerFirst(worker);
+        }
+    }
+
+    CompilerWorker startWorker(String mavenRepo, String projectPath) throws Exception {
+        String workerName = queueName + "-worker-" + UUID.randomUUID().toString();
+        QueueProvider requests = new QueueProvider(workerName + "-requests", true);
+        QueueProvider done = new QueueProvider(workerName + "-done", true);
+        String[] commandArrayServer =
+                {
+                        javaBin,
+                        "-cp",
+                        classpathProvider.apply(mavenRepo),
+                        "-Dorg.uberfire.nio.git.daemon.enabled=false",
+                        "-Dorg.uberfire.nio.ssh.daemon.enabled=false",
+                        ServerIPCWorker.class.getCanonicalName(),
+                        requests.getAbsolutePath(),
+                        queueName,
+                        done.getAbsolutePath()
+                };
+        if (logger.isDebugEnabled()) {
+            logger.debug("Starting compiler worker {}", workerName);
+        }
+        ProcessBuilder serverPb = new ProcessBuilder(commandArrayServer);
+        serverPb.directory(new File(projectPath));
+        serverPb.redirectErrorStream(true);
+        serverPb.inheritIO();
+        return new CompilerWorker(serverPb.start(), mavenRepo, requests, done);
+    }
+}
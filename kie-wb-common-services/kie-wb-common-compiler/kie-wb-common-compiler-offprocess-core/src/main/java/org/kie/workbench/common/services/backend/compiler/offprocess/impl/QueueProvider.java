@@ -19,18 +19,24 @@ import java.io.File;
 
 import net.openhft.chronicle.queue.ChronicleQueue;
 import net.openhft.chronicle.queue.ChronicleQueueBuilder;
+import net.openhft.chronicle.queue.RollCycles;
 import net.openhft.chronicle.queue.impl.single.SingleChronicleQueue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /***
- * Provider of the Chronicle Queue
+ * Provider of the Chronicle Queue, rolled hourly. The files of the cycles older than the retention are deleted when a cycle is released
  */
 public class QueueProvider {
 
+    public static final String RETENTION_HOURS = "org.kie.workbench.compiler.offprocess.queue.retentionHours";
+    private static final long HOUR_MILLIS = 60 * 60 * 1000L;
+    private static final String QUEUE_FILE_SUFFIX = ".cq4";
+
     private SingleChronicleQueue queue;
     private String basePath;
     private String queueName;
+    private long retentionMillis = Long.parseLong(System.getProperty(RETENTION_HOURS, "24")) * HOUR_MILLIS;
     private Logger logger = LoggerFactory.getLogger(QueueProvider.class);
 
     public QueueProvider(String queueName) {
@@ -49,16 +55,40 @@ public class QueueProvider {
 
     private void initName(String name) {
         basePath = name;
-        queue = ChronicleQueueBuilder.single(basePath).build();
+        queue = buildQueue(basePath);
         logger.info(queue.toString());
     }
 
     private void init(String name) {
         basePath = System.getProperty("java.io.tmpdir") + File.separator + name;
-        queue = ChronicleQueueBuilder.single(basePath).build();
+        queue = buildQueue(basePath);
         logger.info(queue.toString());
     }
 
+    private SingleChronicleQueue buildQueue(String path) {
+        return ChronicleQueueBuilder.single(path)
+                .rollCycle(RollCycles.HOURLY)
+                .storeFileListener(this::onReleased)
+                .build();
+    }
+
+    private void onReleased(int cycle, File file) {
+        File dir = file.getParentFile();
+        if (dir == null) {
+            return;
+        }
+        long threshold = System.currentTimeMillis() - retentionMillis;
+        File[] expired = dir.listFiles(f -> f.getName().endsWith(QUEUE_FILE_SUFFIX) && f.lastModified() < threshold);
+        if (expired == null) {
+            return;
+        }
+        for (File old : expired) {
+            if (old.delete() && logger.isDebugEnabled()) {
+                logger.debug("Deleted expired queue file:{}", old.getAbsolutePath());
+            }
+        }
+    }
+
     public ChronicleQueue getQueue() {
         return queue;
     }
@@ -67,6 +97,13 @@ public class QueueProvider {
         return basePath;
     }
 
+    /***
+     * @return how long the documents of a released cycle stay readable, at least
+     */
+    public long getRetentionMillis() {
+        return retentionMillis;
+    }
+
     public String getQueueName() {
         return queueName;
     }
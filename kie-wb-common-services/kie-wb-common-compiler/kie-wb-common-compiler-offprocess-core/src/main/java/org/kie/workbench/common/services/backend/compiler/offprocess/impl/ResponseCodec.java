@@ -0,0 +1,127 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.compiler.offprocess.impl;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import net.openhft.chronicle.bytes.Bytes;
+import org.drools.core.rule.KieModuleMetaInfo;
+import org.kie.api.builder.KieModule;
+import org.kie.workbench.common.services.backend.compiler.impl.DefaultKieCompilationResponseOffProcess;
+
+/***
+ * Binary format of the DefaultKieCompilationResponseOffProcess exchanged on the Chronicle queue.
+ * The fields are written in a fixed order directly on the Bytes of the document, strings as UTF-8 with a stop bit length,
+ * only the KieModuleMetaInfo and the KieModule, which are opaque Drools objects, still go through the Java serialization at the end of the record
+ */
+public class ResponseCodec {
+
+    static final byte VERSION = 1;
+
+    private ResponseCodec() {
+    }
+
+    public static void encode(DefaultKieCompilationResponseOffProcess res, Bytes<?> bytes) throws IOException {
+        bytes.writeByte(VERSION);
+        bytes.writeBoolean(res.isSuccessful());
+        bytes.writeUtf8(res.getRequestUUID());
+        bytes.writeUtf8(res.getWorkingDir());
+        writeStrings(res.getMavenOutput(), bytes);
+        writeStrings(res.getDependencies(), bytes);
+        writeStrings(res.getTargetContent(), bytes);
+        writeStrings(res.getEventTypeClasses(), bytes);
+        Map<String, byte[]> store = res.getProjectClassLoaderStore();
+        bytes.writeStopBit(store.size());
+        for (Map.Entry<String, byte[]> entry : store.entrySet()) {
+            bytes.writeUtf8(entry.getKey());
+            bytes.writeStopBit(entry.getValue().length);
+            bytes.write(entry.getValue());
+        }
+        boolean hasKieObjects = res.getKieModuleMetaInfo().isPresent() || res.getKieModule().isPresent();
+        bytes.writeBoolean(hasKieObjects);
+        if (hasKieObjects) {
+            // not closed, the stream is a view over the Bytes owned by the document
+            ObjectOutputStream o = new ObjectOutputStream(bytes.outputStream());
+            o.writeObject(res.getKieModuleMetaInfo().orElse(null));
+            o.writeObject(res.getKieModule().orElse(null));
+            o.flush();
+        }
+    }
+
+    public static DefaultKieCompilationResponseOffProcess decode(Bytes<?> bytes) throws IOException, ClassNotFoundException {
+        byte version = bytes.readByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported response format version:" + version);
+        }
+        boolean successful = bytes.readBoolean();
+        String requestUUID = bytes.readUtf8();
+        String workingDir = bytes.readUtf8();
+        List<String> mavenOutput = readStrings(bytes);
+        List<String> dependencies = readStrings(bytes);
+        List<String> targetContent = readStrings(bytes);
+        Set<String> eventTypeClasses = new HashSet<>(readStrings(bytes));
+        int storeSize = (int) bytes.readStopBit();
+        Map<String, byte[]> store = new HashMap<>(storeSize * 4 / 3 + 1);
+        for (int i = 0; i < storeSize; i++) {
+            String key = bytes.readUtf8();
+            byte[] value = new byte[(int) bytes.readStopBit()];
+            bytes.read(value);
+            store.put(key, value);
+        }
+        KieModuleMetaInfo kieModuleMetaInfo = null;
+        KieModule kieModule = null;
+        if (bytes.readBoolean()) {
+            ObjectInputStream o = new ObjectInputStream(bytes.inputStream());
+            kieModuleMetaInfo = (KieModuleMetaInfo) o.readObject();
+            kieModule = (KieModule) o.readObject();
+        }
+        return new DefaultKieCompilationResponseOffProcess(successful,
+                                                           requestUUID,
+                                                           workingDir,
+                                                           mavenOutput,
+                                                           dependencies,
+                                                           targetContent,
+                                                           eventTypeClasses,
+                                                           store,
+                                                           kieModuleMetaInfo,
+                                                           kieModule);
+    }
+
+    private static void writeStrings(Collection<String> values, Bytes<?> bytes) {
+        bytes.writeStopBit(values.size());
+        for (String value : values) {
+            bytes.writeUtf8(value);
+        }
+    }
+
+    private static List<String> readStrings(Bytes<?> bytes) {
+        int size = (int) bytes.readStopBit();
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(bytes.readUtf8());
+        }
+        return values;
+    }
+}
@@ -15,14 +15,12 @@
  */
 package org.kie.workbench.common.services.backend.compiler.offprocess.impl;
 
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
-import java.io.ObjectOutputStream;
 import java.util.EnumSet;
 
-import net.openhft.chronicle.bytes.Bytes;
 import net.openhft.chronicle.queue.ExcerptAppender;
+import net.openhft.chronicle.wire.DocumentContext;
 import org.apache.commons.lang3.StringUtils;
 import org.kie.workbench.common.services.backend.compiler.AFCompiler;
 import org.kie.workbench.common.services.backend.compiler.CompilationRequest;
@@ -42,6 +40,7 @@ import org.uberfire.java.nio.file.Paths;
  */
 public class ServerIPCImpl {
 
+    static final String UUID_KEY = "uuid";
     private static Logger logger = LoggerFactory.getLogger(ServerIPCImpl.class);
 
     public static void main(String[] args) throws Exception {
@@ -105,28 +104,37 @@ public class ServerIPCImpl {
     }
 
     public static void execute(String workingDir, String mavenRepo, String alternateSettingsAbsPath, String uuid, QueueProvider provider) throws Exception {
-        DefaultKieCompilationResponseOffProcess res = build(workingDir, mavenRepo, alternateSettingsAbsPath, uuid);
-        byte[] bytez = serialize(res);
-        if (bytez == null) {
-            logger.warn("The serialized response is null, working dir:{}\n mavenrepo:{} \n alternateSettingsAbsPath:{} \n uuid:{}", workingDir, mavenRepo, alternateSettingsAbsPath, uuid);
-            return;
-        }
-        writeOnQueue(bytez, provider);
+        execute(workingDir, mavenRepo, alternateSettingsAbsPath, uuid, provider, getCompiler());
+    }
+
+    /***
+     * Runs the build with the given compiler, used by the long lived workers to reuse the same Maven container across builds
+     */
+    public static void execute(String workingDir, String mavenRepo, String alternateSettingsAbsPath, String uuid, QueueProvider provider, AFCompiler compiler) throws Exception {
+        DefaultKieCompilationResponseOffProcess res = build(compiler, workingDir, mavenRepo, alternateSettingsAbsPath, uuid);
+        writeOnQueue(uuid, res, provider);
     }
 
-    private static void writeOnQueue(byte[] bytez, QueueProvider provider) {
+    private static void writeOnQueue(String uuid, DefaultKieCompilationResponseOffProcess res, QueueProvider provider) throws IOException {
         if(logger.isDebugEnabled()) {
             logger.debug("write On Queue");
         }
         ExcerptAppender appender = provider.getQueue().acquireAppender();
-        appender.writeBytes(Bytes.allocateDirect(bytez));
+        try (DocumentContext dc = appender.writingDocument()) {
+            // the uuid is written before the payload to let the client index the responses without decoding them
+            dc.wire().write(() -> UUID_KEY).text(uuid);
+            ResponseCodec.encode(res, dc.wire().bytes());
+        }
         if(logger.isDebugEnabled()) {
             logger.debug("last index appended:{}", appender.lastIndexAppended());
         }
     }
 
-    private static DefaultKieCompilationResponseOffProcess build(String prjPath, String mavenRepo, String alternateSettingsAbsPath, String uuid) {
-        final AFCompiler compiler = KieMavenCompilerFactory.getCompiler(EnumSet.of(KieDecorator.ENABLE_LOGGING, KieDecorator.STORE_KIE_OBJECTS ));
+    static AFCompiler getCompiler() {
+        return KieMavenCompilerFactory.getCompiler(EnumSet.of(KieDecorator.ENABLE_LOGGING, KieDecorator.STORE_KIE_OBJECTS ));
+    }
+
+    private static DefaultKieCompilationResponseOffProcess build(AFCompiler compiler, String prjPath, String mavenRepo, String alternateSettingsAbsPath, String uuid) {
         WorkspaceCompilationInfo info = new WorkspaceCompilationInfo(Paths.get("file://"+prjPath));
         CompilationRequest req;
         if (StringUtils.isNotEmpty(alternateSettingsAbsPath)) {
@@ -152,13 +160,4 @@ public class ServerIPCImpl {
         KieCompilationResponse res = (KieCompilationResponse) compiler.compile(req);
         return new DefaultKieCompilationResponseOffProcess(res);
     }
-
-    private static byte[] serialize(Object obj) throws IOException {
-        try (ByteArrayOutputStream b = new ByteArrayOutputStream()) {
-            try (ObjectOutputStream o = new ObjectOutputStream(b)) {
-                o.writeObject(obj);
-            }
-            return b.toByteArray();
-        }
-    }
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.compiler.offprocess.impl;
+
+import net.openhft.chronicle.queue.ExcerptTailer;
+import org.kie.workbench.common.services.backend.compiler.AFCompiler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/***
+ * Long lived counterpart of the ServerIPCImpl, started by the CompilerWorkerPool.
+ * It reads the build requests from its own queue, writes the responses on the shared response queue
+ * and signals the end of every build on its done queue, reusing the same Maven container between the builds
+ */
+public class ServerIPCWorker {
+
+    static final String UUID_KEY = ServerIPCImpl.UUID_KEY;
+    static final String WORKING_DIR_KEY = "workingDir";
+    static final String MAVEN_REPO_KEY = "mavenRepo";
+    static final String SETTINGS_KEY = "settings";
+    static final String USED_HEAP_KEY = "usedHeap";
+    static final String SHUTDOWN = "shutdown";
+    static final String PING = "ping-";
+    private static final long POLL_INTERVAL_MILLIS = 10L;
+
+    private static Logger logger = LoggerFactory.getLogger(ServerIPCWorker.class);
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 3) {
+            logger.error("Wrong number of params:{}", args.length);
+            throw new RuntimeException("Wrong number of params:" + args.length);
+        }
+        QueueProvider requests = new QueueProvider(args[0], true);
+        QueueProvider responses = new QueueProvider(args[1], true);
+        QueueProvider done = new QueueProvider(args[2], true);
+        try {
+            serve(requests, responses, done);
+        } finally {
+            requests.cleanQueue();
+            responses.cleanQueue();
+            done.cleanQueue();
+        }
+    }
+
+    private static void serve(QueueProvider requests, QueueProvider responses, QueueProvider done) throws InterruptedException {
+        AFCompiler compiler = ServerIPCImpl.getCompiler();
+        ExcerptTailer tailer = requests.getQueue().createTailer();
+        String threadName = Thread.currentThread().getName();
+        while (true) {
+            final String[] request = new String[4];
+            boolean read = tailer.readDocument(wire -> {
+                request[0] = wire.read(() -> UUID_KEY).text();
+                request[1] = wire.read(() -> WORKING_DIR_KEY).text();
+                request[2] = wire.read(() -> MAVEN_REPO_KEY).text();
+                request[3] = wire.read(() -> SETTINGS_KEY).text();
+            });
+            if (!read) {
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+                continue;
+            }
+            if (SHUTDOWN.equals(request[0])) {
+                logger.info("Shutdown requested, worker exits");
+                return;
+            }
+            if (request[0] != null && request[0].startsWith(PING)) {
+                writeDone(done, request[0]);
+                continue;
+            }
+            try {
+                ServerIPCImpl.execute(request[1], request[2], request[3], request[0], responses, compiler);
+            } catch (Exception e) {
+                logger.error(e.getMessage(), e);
+            } finally {
+                Thread.currentThread().setName(threadName);// restore the previous name to avoid the override of the maven output
+                writeDone(done, request[0]);
+            }
+        }
+    }
+
+    private static void writeDone(QueueProvider done, String uuid) {
+        Runtime runtime = Runtime.getRuntime();
+        long usedHeap = runtime.totalMemory() - runtime.freeMemory();
+        done.getQueue().acquireAppender().writeDocument(wire -> wire.write(() -> UUID_KEY).text(uuid)
+                .write(() -> USED_HEAP_KEY).int64(usedHeap));
+        if (logger.isDebugEnabled()) {
+            logger.debug("build {} done, used heap:{}", uuid, usedHeap);
+        }
+    }
+}
@@ -26,4 +26,9 @@ public interface CompilerOffprocessService<T extends CompilationResponse> {
      * Async compile a project starting from the main POM
      */
     CompletableFuture<T> compile(final CompilationRequest req);
+
+    /**
+     * Stops the processes kept by the service between the builds
+     */
+    void shutdown();
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.compiler.offprocess;
+
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import net.openhft.chronicle.bytes.Bytes;
+import org.junit.Test;
+import org.kie.workbench.common.services.backend.compiler.impl.DefaultKieCompilationResponseOffProcess;
+import org.kie.workbench.common.services.backend.compiler.offprocess.impl.ResponseCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResponseCodecTest {
+
+    private static Logger logger = LoggerFactory.getLogger(ResponseCodecTest.class);
+
+    @Test
+    public void roundTripLargeResponse() throws Exception {
+        DefaultKieCompilationResponseOffProcess res = createResponse(5000, 2000);
+
+        Bytes<?> bytes = Bytes.elasticByteBuffer();
+        try {
+            ResponseCodec.encode(res, bytes);
+            long binarySize = bytes.readRemaining();
+            DefaultKieCompilationResponseOffProcess decoded = ResponseCodec.decode(bytes);
+
+            assertThat(decoded.isSuccessful()).isTrue();
+            assertThat(decoded.getRequestUUID()).isEqualTo(res.getRequestUUID());
+            assertThat(decoded.getWorkingDir()).isEqualTo(res.getWorkingDir());
+            assertThat(decoded.getMavenOutput()).isEqualTo(res.getMavenOutput());
+            assertThat(decoded.getDependencies()).isEqualTo(res.getDependencies());
+            assertThat(decoded.getTargetContent()).isEqualTo(res.getTargetContent());
+            assertThat(decoded.getEventTypeClasses()).isEqualTo(res.getEventTypeClasses());
+            assertThat(decoded.getProjectClassLoaderStore()).hasSameSizeAs(res.getProjectClassLoaderStore());
+            assertThat(decoded.getProjectClassLoaderStore().get("org.kie.Class1")).isEqualTo(res.getProjectClassLoaderStore().get("org.kie.Class1"));
+            assertThat(decoded.getKieModule()).isNotPresent();
+            assertThat(bytes.readRemaining()).isZero();
+
+            long javaSize = javaSerializedSize(res);
+            logger.info("binary codec size:{} java serialization size:{}", binarySize, javaSize);
+            assertThat(binarySize).isLessThan(javaSize);
+        } finally {
+            bytes.release();
+        }
+    }
+
+    @Test
+    public void roundTripEmptyResponse() throws Exception {
+        DefaultKieCompilationResponseOffProcess res = new DefaultKieCompilationResponseOffProcess(false, "");
+        Bytes<?> bytes = Bytes.elasticByteBuffer();
+        try {
+            ResponseCodec.encode(res, bytes);
+            DefaultKieCompilationResponseOffProcess decoded = ResponseCodec.decode(bytes);
+            assertThat(decoded.isSuccessful()).isFalse();
+            assertThat(decoded.getRequestUUID()).isEmpty();
+            assertThat(decoded.getMavenOutput()).isEmpty();
+            assertThat(decoded.getProjectClassLoaderStore()).isEmpty();
+        } finally {
+            bytes.release();
+        }
+    }
+
+    private DefaultKieCompilationResponseOffProcess createResponse(int outputLines, int classes) {
+        List<String> mavenOutput = new ArrayList<>();
+        for (int i = 0; i < outputLines; i++) {
+            mavenOutput.add("[INFO] Compiling resource " + i + " of the project");
+        }
+        List<String> dependencies = new ArrayList<>();
+        List<String> targetContent = new ArrayList<>();
+        Set<String> events = new HashSet<>();
+        Map<String, byte[]> store = new HashMap<>();
+        for (int i = 0; i < classes; i++) {
+            dependencies.add("file:/repository/org/kie/dep" + i + "/1.0/dep" + i + "-1.0.jar");
+            targetContent.add("target/classes/org/kie/Class" + i + ".class");
+            events.add("org.kie.Event" + i);
+            store.put("org.kie.Class" + i, new byte[512]);
+        }
+        return new DefaultKieCompilationResponseOffProcess(true,
+                                                           UUID.randomUUID().toString(),
+                                                           "/tmp/project",
+                                                           mavenOutput,
+                                                           dependencies,
+                                                           targetContent,
+                                                           events,
+                                                           store,
+                                                           null,
+                                                           null);
+    }
+
+    private long javaSerializedSize(Object obj) throws Exception {
+        try (ByteArrayOutputStream b = new ByteArrayOutputStream()) {
+            try (ObjectOutputStream o = new ObjectOutputStream(b)) {
+                o.writeObject(obj);
+            }
+            return b.size();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.compiler.offprocess.impl;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import net.openhft.chronicle.queue.ExcerptAppender;
+import net.openhft.chronicle.wire.DocumentContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.workbench.common.services.backend.compiler.TestUtil;
+import org.kie.workbench.common.services.backend.compiler.impl.DefaultKieCompilationResponseOffProcess;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClientIPCImplTest {
+
+    private File queueDir;
+    private QueueProvider provider;
+
+    @Before
+    public void setUp() throws Exception {
+        queueDir = Files.createTempDirectory("client-ipc").toFile();
+        provider = new QueueProvider(queueDir.getAbsolutePath(), true);
+    }
+
+    @After
+    public void tearDown() {
+        provider.cleanQueue();
+        TestUtil.rm(queueDir);
+    }
+
+    @Test
+    public void responsesAreConsumedOnce() throws Exception {
+        ClientIPCImpl client = new ClientIPCImpl(new ResponseSharedMap(), provider, 10);
+        write("uuid1");
+        write("uuid2");
+
+        assertThat(client.getResponse("uuid2").isSuccessful()).isTrue();
+        assertThat(client.getIndexedCount()).isEqualTo(1);
+        assertThat(client.getResponse("uuid2").isSuccessful()).isFalse();
+        assertThat(client.getResponse("uuid1").isSuccessful()).isTrue();
+        assertThat(client.getIndexedCount()).isZero();
+    }
+
+    @Test
+    public void oldestResponsesNeverConsumedAreForgotten() throws Exception {
+        ClientIPCImpl client = new ClientIPCImpl(new ResponseSharedMap(), provider, 2);
+        write("uuid1");
+        write("uuid2");
+        write("uuid3");
+
+        assertThat(client.getResponse("uuid3").isSuccessful()).isTrue();
+        assertThat(client.getIndexedCount()).isEqualTo(1);
+        assertThat(client.getResponse("uuid2").isSuccessful()).isTrue();
+        assertThat(client.getResponse("uuid1").isSuccessful()).isFalse();
+    }
+
+    private void write(String uuid) throws Exception {
+        ExcerptAppender appender = provider.getQueue().acquireAppender();
+        try (DocumentContext dc = appender.writingDocument()) {
+            dc.wire().write(() -> ServerIPCImpl.UUID_KEY).text(uuid);
+            ResponseCodec.encode(new DefaultKieCompilationResponseOffProcess(true, uuid), dc.wire().bytes());
+        }
+    }
+}
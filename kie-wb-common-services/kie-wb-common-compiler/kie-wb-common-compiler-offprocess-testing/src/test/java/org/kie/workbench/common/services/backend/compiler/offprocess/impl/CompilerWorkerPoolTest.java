@@ -0,0 +1,198 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.compiler.offprocess.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompilerWorkerPoolTest {
+
+    private static final String REPO = "/repo";
+    private static final String PRJ = "/prj";
+
+    private final List<FakeWorker> started = new ArrayList<>();
+
+    @Test
+    public void disabledByDefault() {
+        CompilerWorkerPool pool = new CompilerWorkerPool("java", "queue", repo -> "");
+        assertThat(pool.isEnabled()).isFalse();
+    }
+
+    @Test
+    public void idleWorkerIsReused() throws Exception {
+        CompilerWorkerPool pool = newPool(10, Long.MAX_VALUE);
+
+        assertThat(pool.build("uuid1", PRJ, REPO, "")).isTrue();
+        assertThat(pool.build("uuid2", PRJ, REPO, "")).isTrue();
+
+        assertThat(started).hasSize(1);
+        assertThat(started.get(0).builds).isEqualTo(2);
+        assertThat(started.get(0).pings).isEqualTo(1);
+        assertThat(pool.getIdleCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void workerIsRecycledAfterMaxBuilds() throws Exception {
+        CompilerWorkerPool pool = newPool(1, Long.MAX_VALUE);
+
+        pool.build("uuid1", PRJ, REPO, "");
+        pool.build("uuid2", PRJ, REPO, "");
+
+        assertThat(started).hasSize(2);
+        assertThat(started.get(0).destroyed).isTrue();
+        assertThat(started.get(1).destroyed).isTrue();
+        assertThat(pool.getIdleCount()).isZero();
+    }
+
+    @Test
+    public void workerIsRecycledOverMaxHeap() throws Exception {
+        CompilerWorkerPool pool = newPool(10, 100);
+        pool.build("uuid1", PRJ, REPO, "");
+        started.get(0).heap = 200;
+
+        pool.build("uuid2", PRJ, REPO, "");
+
+        assertThat(started).hasSize(1);
+        assertThat(started.get(0).destroyed).isTrue();
+        assertThat(pool.getIdleCount()).isZero();
+    }
+
+    @Test
+    public void workerFailingTheBuildIsDiscarded() throws Exception {
+        CompilerWorkerPool pool = newPool(10, Long.MAX_VALUE);
+        pool.build("uuid1", PRJ, REPO, "");
+        started.get(0).completes = false;
+
+        assertThat(pool.build("uuid2", PRJ, REPO, "")).isFalse();
+
+        assertThat(started.get(0).destroyed).isTrue();
+        assertThat(pool.getIdleCount()).isZero();
+    }
+
+    @Test
+    public void deadWorkerIsNotHandedOut() throws Exception {
+        CompilerWorkerPool pool = newPool(10, Long.MAX_VALUE);
+        pool.build("uuid1", PRJ, REPO, "");
+        started.get(0).alive = false;
+
+        pool.build("uuid2", PRJ, REPO, "");
+
+        assertThat(started).hasSize(2);
+        assertThat(started.get(0).destroyed).isTrue();
+        assertThat(started.get(0).builds).isEqualTo(1);
+        assertThat(started.get(1).builds).isEqualTo(1);
+    }
+
+    @Test
+    public void hungWorkerIsNotHandedOut() throws Exception {
+        CompilerWorkerPool pool = newPool(10, Long.MAX_VALUE);
+        pool.build("uuid1", PRJ, REPO, "");
+        started.get(0).answersPing = false;
+
+        pool.build("uuid2", PRJ, REPO, "");
+
+        assertThat(started).hasSize(2);
+        assertThat(started.get(0).destroyed).isTrue();
+        assertThat(started.get(0).builds).isEqualTo(1);
+        assertThat(started.get(1).builds).isEqualTo(1);
+    }
+
+    @Test
+    public void workerOfAnotherRepoIsNotHandedOut() throws Exception {
+        CompilerWorkerPool pool = newPool(10, Long.MAX_VALUE);
+        pool.build("uuid1", PRJ, REPO, "");
+
+        pool.build("uuid2", PRJ, "/otherRepo", "");
+
+        assertThat(started).hasSize(2);
+        assertThat(started.get(0).destroyed).isTrue();
+        assertThat(started.get(1).getMavenRepo()).isEqualTo("/otherRepo");
+    }
+
+    @Test
+    public void shutdownDestroysIdleWorkers() throws Exception {
+        CompilerWorkerPool pool = newPool(10, Long.MAX_VALUE);
+        pool.build("uuid1", PRJ, REPO, "");
+
+        pool.shutdown();
+
+        assertThat(pool.isEnabled()).isFalse();
+        assertThat(started.get(0).destroyed).isTrue();
+        assertThat(pool.getIdleCount()).isZero();
+    }
+
+    private CompilerWorkerPool newPool(int maxBuildsPerWorker, long maxHeapBytes) {
+        return new CompilerWorkerPool("java", "queue", repo -> "", 1, maxBuildsPerWorker, maxHeapBytes, 1000, 1000) {
+            @Override
+            CompilerWorker startWorker(String mavenRepo, String projectPath) {
+                FakeWorker worker = new FakeWorker(mavenRepo);
+                started.add(worker);
+                return worker;
+            }
+        };
+    }
+
+    private static class FakeWorker extends CompilerWorker {
+
+        private boolean alive = true;
+        private boolean answersPing = true;
+        private boolean completes = true;
+        private boolean destroyed;
+        private int builds;
+        private int pings;
+        private long heap;
+
+        FakeWorker(String mavenRepo) {
+            super(null, mavenRepo, null, null);
+        }
+
+        @Override
+        int getBuilds() {
+            return builds;
+        }
+
+        @Override
+        long getUsedHeap() {
+            return heap;
+        }
+
+        @Override
+        boolean isAlive() {
+            return alive && !destroyed;
+        }
+
+        @Override
+        boolean build(String uuid, String workingDir, String alternateSettingsAbsPath, long timeoutMillis) {
+            builds++;
+            return completes;
+        }
+
+        @Override
+        boolean ping(long timeoutMillis) {
+            pings++;
+            return answersPing;
+        }
+
+        @Override
+        void destroy() {
+            destroyed = true;
+        }
+    }
+}
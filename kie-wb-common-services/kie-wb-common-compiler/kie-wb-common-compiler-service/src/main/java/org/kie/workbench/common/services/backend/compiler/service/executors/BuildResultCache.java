@@ -0,0 +1,310 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.compiler.service.executors;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+
+import org.kie.workbench.common.services.backend.compiler.impl.DefaultKieCompilationResponse;
+import org.kie.workbench.common.services.backend.compiler.impl.kie.KieCompilationResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.uberfire.java.nio.file.DirectoryStream;
+import org.uberfire.java.nio.file.Files;
+import org.uberfire.java.nio.file.Path;
+
+/**
+ * Cache of the successful build results, keyed by a hash of the project content (sources and poms, target and hidden files excluded)
+ * and of the build parameters. A cached result is returned only if the resolved dependency jars and the target content it refers to
+ * are still the same on disk: the length and modification time of every target file and of the folders holding them are
+ * recorded with the result, so a target rewritten or completed by another build of the project is detected.
+ * The cache is bounded by number of entries and by the estimated footprint of the results. Every caller gets its own copy
+ * of a cached result: the lists, maps and sets are copied, the KieModule, KieModuleMetaInfo and class bytes are shared
+ * and must be treated as read only.
+ */
+class BuildResultCache {
+
+    static final String BUILD_CACHE_SIZE = "org.kie.workbench.compiler.buildcache.size";
+    static final String BUILD_CACHE_MAX_WEIGHT_MB = "org.kie.workbench.compiler.buildcache.maxWeightMb";
+    private static final String TARGET = "target";
+    private static final long ENTRY_WEIGHT = 1024L;
+    private static final long LINE_WEIGHT = 256L;
+    private static final long MB = 1024L * 1024;
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final Logger logger = LoggerFactory.getLogger(BuildResultCache.class);
+    private final int maxEntries;
+    private final long maxWeight;
+    private final Map<String, CachedBuild> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, String> settingsFingerprints = new HashMap<>();
+    private long weight;
+
+    BuildResultCache() {
+        this(Integer.parseInt(System.getProperty(BUILD_CACHE_SIZE, "50")),
+             Long.parseLong(System.getProperty(BUILD_CACHE_MAX_WEIGHT_MB, "256")) * MB);
+    }
+
+    BuildResultCache(final int maxEntries) {
+        this(maxEntries,
+             Long.MAX_VALUE);
+    }
+
+    BuildResultCache(final int maxEntries,
+                     final long maxWeight) {
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+    }
+
+    boolean isEnabled() {
+        return maxEntries > 0;
+    }
+
+    /**
+     * @return the key of the build, empty if the project content can't be read
+     */
+    Optional<String> computeKey(final Path projectPath,
+                                final String... buildParams) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            update(digest, projectPath.toUri().toString());
+            for (String param : buildParams) {
+                update(digest, String.valueOf(param));
+            }
+            if (!Files.isDirectory(projectPath)) {
+                return Optional.empty();
+            }
+            hashTree(digest, projectPath, projectPath);
+            return Optional.of(toHex(digest.digest()));
+        } catch (NoSuchAlgorithmException e) {
+            logger.error(e.getMessage(), e);
+            return Optional.empty();
+        } catch (Exception e) {
+            logger.warn("Unable to compute the build cache key for {}: {}", projectPath, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    synchronized Optional<KieCompilationResponse> get(final String key) {
+        final CachedBuild cached = entries.get(key);
+        if (cached == null) {
+            return Optional.empty();
+        }
+        if (!cached.dependenciesFingerprint.equals(fingerprint(cached.response.getDependenciesAsURI()))
+                || !cached.targetFingerprint.equals(targetFingerprint(cached.response.getTargetContent()))) {
+            remove(key);
+            return Optional.empty();
+        }
+        return Optional.of(copyOf(cached.response));
+    }
+
+    synchronized void put(final String key,
+                          final KieCompilationResponse response) {
+        if (response.isSuccessful()) {
+            final CachedBuild cached = new CachedBuild(copyOf(response),
+                                                       fingerprint(response.getDependenciesAsURI()),
+                                                       targetFingerprint(response.getTargetContent()),
+                                                       estimateWeight(response));
+            remove(key);
+            entries.put(key,
+                        cached);
+            weight += cached.weight;
+            evictOverflow();
+        }
+    }
+
+    synchronized void invalidate() {
+        entries.clear();
+        weight = 0;
+    }
+
+    /**
+     * Invalidates the cache if the content of the settings file changed since the last build that used it
+     */
+    synchronized void checkSettings(final String settingsXml) {
+        if (settingsXml == null) {
+            return;
+        }
+        final File settings = new File(settingsXml);
+        final String fingerprint = settings.length() + ":" + settings.lastModified();
+        final String previous = settingsFingerprints.put(settingsXml,
+                                                         fingerprint);
+        if (previous != null && !previous.equals(fingerprint)) {
+            logger.debug("Settings {} changed, invalidating the build cache", settingsXml);
+            invalidate();
+        }
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    synchronized long getWeight() {
+        return weight;
+    }
+
+    static long estimateWeight(final KieCompilationResponse response) {
+        long estimate = ENTRY_WEIGHT;
+        final Map<String, byte[]> store = response.getProjectClassLoaderStore();
+        if (store != null) {
+            for (byte[] bytes : store.values()) {
+                estimate += bytes.length;
+            }
+        }
+        estimate += LINE_WEIGHT * (response.getMavenOutput().size() + response.getTargetContent().size() + response.getDependencies().size());
+        return estimate;
+    }
+
+    private void remove(final String key) {
+        final CachedBuild removed = entries.remove(key);
+        if (removed != null) {
+            weight -= removed.weight;
+        }
+    }
+
+    private void evictOverflow() {
+        final Iterator<CachedBuild> it = entries.values().iterator();
+        while ((entries.size() > maxEntries || weight > maxWeight) && it.hasNext()) {
+            weight -= it.next().weight;
+            it.remove();
+        }
+    }
+
+    private static KieCompilationResponse copyOf(final KieCompilationResponse response) {
+        final String requestUUID = response instanceof DefaultKieCompilationResponse ? ((DefaultKieCompilationResponse) response).getRequestUUID() : "";
+        return new DefaultKieCompilationResponse(response.isSuccessful(),
+                                                 response.getKieModuleMetaInfo().orElse(null),
+                                                 response.getKieModule().orElse(null),
+                                                 response.getProjectClassLoaderStore() != null ? new HashMap<>(response.getProjectClassLoaderStore()) : null,
+                                                 new ArrayList<>(response.getMavenOutput()),
+                                                 new ArrayList<>(response.getTargetContent()),
+                                                 new ArrayList<>(response.getDependencies()),
+                                                 response.getWorkingDir().orElse(null),
+                                                 response.getEventTypeClasses() != null ? new HashSet<>(response.getEventTypeClasses()) : null,
+                                                 requestUUID);
+    }
+
+    private void hashTree(final MessageDigest digest,
+                          final Path root,
+                          final Path dir) throws IOException {
+        final List<Path> children = new ArrayList<>();
+        try (DirectoryStream<Path> ds = Files.newDirectoryStream(dir)) {
+            for (Path p : ds) {
+                final String name = p.getFileName().toString();
+                if (name.startsWith(".") || (TARGET.equals(name) && Files.isDirectory(p))) {
+                    continue;
+                }
+                children.add(p);
+            }
+        }
+        children.sort((a, b) -> a.getFileName().toString().compareTo(b.getFileName().toString()));
+        for (Path child : children) {
+            if (Files.isDirectory(child)) {
+                hashTree(digest, root, child);
+            } else {
+                update(digest, root.relativize(child).toString());
+                hashFile(digest, child);
+            }
+        }
+    }
+
+    private String fingerprint(final List<URI> dependencies) {
+        final StringBuilder sb = new StringBuilder();
+        for (URI dependency : dependencies) {
+            if ("file".equals(dependency.getScheme())) {
+                final File jar = new File(dependency);
+                sb.append(dependency).append(':').append(jar.length()).append(':').append(jar.lastModified()).append(';');
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Length and modification time of the target files, missing ones included, and of the folders holding them, which
+     * change when a file is added or removed
+     */
+    private String targetFingerprint(final List<String> targetContent) {
+        final StringBuilder sb = new StringBuilder();
+        final TreeSet<File> folders = new TreeSet<>();
+        for (String file : targetContent) {
+            final File target = new File(file);
+            sb.append(file).append(':').append(target.length()).append(':').append(target.lastModified()).append(';');
+            if (target.getParentFile() != null) {
+                folders.add(target.getParentFile());
+            }
+        }
+        for (File folder : folders) {
+            sb.append(folder).append(':').append(folder.lastModified()).append(';');
+        }
+        return sb.toString();
+    }
+
+    private void hashFile(final MessageDigest digest,
+                          final Path file) throws IOException {
+        final byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+    }
+
+    private void update(final MessageDigest digest,
+                        final String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private String toHex(final byte[] bytes) {
+        final StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+
+    private static class CachedBuild {
+
+        private final KieCompilationResponse response;
+        private final String dependenciesFingerprint;
+        private final String targetFingerprint;
+        private final long weight;
+
+        CachedBuild(final KieCompilationResponse response,
+                    final String dependenciesFingerprint,
+                    final String targetFingerprint,
+                    final long weight) {
+            this.response = response;
+            this.dependenciesFingerprint = dependenciesFingerprint;
+            this.targetFingerprint = targetFingerprint;
+            this.weight = weight;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.compiler.service.executors;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.kie.workbench.common.services.backend.compiler.impl.kie.KieCompilationResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.uberfire.java.nio.file.Path;
+
+/**
+ * Admission control of the local builds: every repository (every project on the local file system) runs at most a
+ * configured number of builds at once, the others wait in a FIFO of the repository without holding a thread of the
+ * executor. Identical requests share the same build only while it waits in the FIFO: a request never gets the result of
+ * a build that started before it, which could miss the changes saved in between
+ */
+class BuildScheduler {
+
+    static final String MAX_BUILDS_PER_REPOSITORY = "org.kie.workbench.compiler.scheduler.maxBuildsPerRepository";
+
+    private static final Logger logger = LoggerFactory.getLogger(BuildScheduler.class);
+    private final ExecutorService executor;
+    private final int maxBuildsPerRepository;
+    private final Map<String, Task> queued = new HashMap<>();
+    private final Map<String, Lane> lanes = new HashMap<>();
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong started = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private int queueDepth;
+
+    BuildScheduler(final ExecutorService executor) {
+        this(executor,
+             Integer.parseInt(System.getProperty(MAX_BUILDS_PER_REPOSITORY, "2")));
+    }
+
+    BuildScheduler(final ExecutorService executor,
+                   final int maxBuildsPerRepository) {
+        this.executor = executor;
+        this.maxBuildsPerRepository = Math.max(1, maxBuildsPerRepository);
+    }
+
+    /**
+     * The lane of the projects stored in a git repository is the repository itself, whatever the branch, every project on
+     * disk has its own lane
+     */
+    static String laneOf(final Path projectPath) {
+        final Path root = projectPath.getRoot();
+        if (root == null || "file".equals(root.toUri().getScheme())) {
+            return projectPath.toUri().toString();
+        }
+        return repositoryOf(root.toUri().toString());
+    }
+
+    /**
+     * The root of a git file system is <code>scheme://branch@space/repository/</code>, the branch is dropped
+     */
+    static String repositoryOf(final String rootUri) {
+        final int authority = rootUri.indexOf("://");
+        if (authority < 0) {
+            return rootUri;
+        }
+        final int start = authority + 3;
+        final int at = rootUri.indexOf('@', start);
+        final int slash = rootUri.indexOf('/', start);
+        if (at < 0 || (slash >= 0 && slash < at)) {
+            return rootUri;
+        }
+        return rootUri.substring(0, start) + rootUri.substring(at + 1);
+    }
+
+    /**
+     * @param requestKey identifies the build for the coalescing, null if the build must always run
+     * @return a future of the caller's own, completing or cancelling it doesn't affect the other callers of the same build
+     */
+    CompletableFuture<KieCompilationResponse> submit(final String laneKey,
+                                                     final String requestKey,
+                                                     final Supplier<KieCompilationResponse> build) {
+        submitted.incrementAndGet();
+        final Task task = new Task(laneKey, requestKey, build, new CompletableFuture<>());
+        final boolean startNow;
+        synchronized (lanes) {
+            final Task waiting = requestKey != null ? queued.get(requestKey) : null;
+            if (waiting != null) {
+                coalesced.incrementAndGet();
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Build {} already queued, sharing its result", requestKey);
+                }
+                return waiting.future.thenApply(Function.identity());
+            }
+            final Lane lane = lanes.computeIfAbsent(laneKey, k -> new Lane());
+            startNow = lane.running < maxBuildsPerRepository;
+            if (startNow) {
+                lane.running++;
+            } else {
+                lane.pending.add(task);
+                queueDepth++;
+                if (requestKey != null) {
+                    queued.put(requestKey, task);
+                }
+            }
+        }
+        if (startNow) {
+            start(task);
+        }
+        return task.future.thenApply(Function.identity());
+    }
+
+    int getQueueDepth() {
+        synchronized (lanes) {
+            return queueDepth;
+        }
+    }
+
+    long getSubmitted() {
+        return submitted.get();
+    }
+
+    long getCoalesced() {
+        return coalesced.get();
+    }
+
+    long getAverageWaitMillis() {
+        final long count = started.get();
+        return count == 0 ? 0 : totalWaitNanos.get() / count / 1_000_000;
+    }
+
+    long getMaxWaitMillis() {
+        return maxWaitNanos.get() / 1_000_000;
+    }
+
+    private void start(final Task task) {
+        final long wait = System.nanoTime() - task.submittedAt;
+        started.incrementAndGet();
+        totalWaitNanos.addAndGet(wait);
+        maxWaitNanos.accumulateAndGet(wait, Math::max);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Build on {} started after {} ms, queue depth:{}", task.laneKey, wait / 1_000_000, getQueueDepth());
+        }
+        try {
+            CompletableFuture.supplyAsync(task.build, executor)
+                    .whenComplete((res, ex) -> {
+                        finish(task);
+                        if (ex != null) {
+                            task.future.completeExceptionally(ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+                        } else {
+                            task.future.complete(res);
+                        }
+                    });
+        } catch (RejectedExecutionException e) {
+            finish(task);
+            task.future.completeExceptionally(e);
+        }
+    }
+
+    private void finish(final Task task) {
+        final Task next;
+        synchronized (lanes) {
+            final Lane lane = lanes.get(task.laneKey);
+            next = lane.pending.poll();
+            if (next != null) {
+                queueDepth--;
+                if (next.requestKey != null) {
+                    queued.remove(next.requestKey, next);
+                }
+            } else if (--lane.running == 0) {
+                lanes.remove(task.laneKey);
+            }
+        }
+        if (next != null) {
+            start(next);
+        }
+    }
+
+    private static class Lane {
+
+        private int running;
+        private final Queue<Task> pending = new ArrayDeque<>();
+    }
+
+    private static class Task {
+
+        private final String laneKey;
+        private final String requestKey;
+        private final Supplier<KieCompilationResponse> build;
+        private final CompletableFuture<KieCompilationResponse> future;
+        private final long submittedAt = System.nanoTime();
+
+        Task(final String laneKey,
+             final String requestKey,
+             final Supplier<KieCompilationResponse> build,
+             final CompletableFuture<KieCompilationResponse> future) {
+            this.laneKey = laneKey;
+            this.requestKey = requestKey;
+            this.build = build;
+            this.future = future;
+        }
+    }
+}
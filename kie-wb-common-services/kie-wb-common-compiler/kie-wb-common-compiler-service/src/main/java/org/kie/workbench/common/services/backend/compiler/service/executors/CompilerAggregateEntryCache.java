@@ -25,6 +25,10 @@ class CompilerAggregateEntryCache {
 
     private AFCompiler compiler;
     private WorkspaceCompilationInfo info;
+    private long weight;
+    private long lastAccess;
+    private int inFlightBuilds;
+    private boolean evicted;
 
     public CompilerAggregateEntryCache(AFCompiler compiler,
                                        WorkspaceCompilationInfo info) {
@@ -43,4 +47,38 @@ class CompilerAggregateEntryCache {
     public void setInfo(WorkspaceCompilationInfo info) {
         this.info = info;
     }
+
+    long getWeight() {
+        return weight;
+    }
+
+    void setWeight(long weight) {
+        this.weight = weight;
+    }
+
+    long getLastAccess() {
+        return lastAccess;
+    }
+
+    void retain(long now) {
+        inFlightBuilds++;
+        lastAccess = now;
+    }
+
+    int release(long now) {
+        lastAccess = now;
+        return --inFlightBuilds;
+    }
+
+    boolean isInUse() {
+        return inFlightBuilds > 0;
+    }
+
+    boolean isEvicted() {
+        return evicted;
+    }
+
+    void markEvicted() {
+        evicted = true;
+    }
 }
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.compiler.service.executors;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.kie.workbench.common.services.backend.compiler.impl.kie.KieCompilationResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.uberfire.java.nio.file.Path;
+
+/**
+ * LRU of the compilers used for the local builds, bounded by number of entries, estimated heap footprint and idle time.
+ * A compiler in use is never evicted, so two compilers never work on the same project at the same time: the cache
+ * can exceed its bounds until the builds are over. A compiler heavier than the max weight on its own is not kept
+ * once its builds are over
+ */
+class CompilerInstanceCache {
+
+    static final String MAX_ENTRIES = "org.kie.workbench.compiler.cache.maxEntries";
+    static final String MAX_WEIGHT_MB = "org.kie.workbench.compiler.cache.maxWeightMb";
+    static final String MAX_IDLE_MINUTES = "org.kie.workbench.compiler.cache.maxIdleMinutes";
+    /**
+     * Rough footprint of a compiler before its first build: Maven container, JGit handles and incremental build state
+     */
+    static final long BASE_WEIGHT = 32L * 1024 * 1024;
+    private static final long ENTRY_WEIGHT = 1024L;
+    private static final long MB = 1024L * 1024;
+
+    private static final Logger logger = LoggerFactory.getLogger(CompilerInstanceCache.class);
+    private final int maxEntries;
+    private final long maxWeight;
+    private final long maxIdleMillis;
+    private final Map<Path, CompilerAggregateEntryCache> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long rejections;
+
+    CompilerInstanceCache() {
+        this(Integer.parseInt(System.getProperty(MAX_ENTRIES, "20")),
+             Long.parseLong(System.getProperty(MAX_WEIGHT_MB, "1024")) * MB,
+             Long.parseLong(System.getProperty(MAX_IDLE_MINUTES, "60")) * 60 * 1000);
+    }
+
+    CompilerInstanceCache(final int maxEntries,
+                          final long maxWeight,
+                          final long maxIdleMillis) {
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+        this.maxIdleMillis = maxIdleMillis;
+    }
+
+    /**
+     * Returns the compiler of the project, creating it if needed, and marks it in use until {@link #release} is called
+     */
+    synchronized CompilerAggregateEntryCache acquire(final Path projectPath,
+                                                     final Function<Path, CompilerAggregateEntryCache> factory) {
+        final long now = System.currentTimeMillis();
+        evictIdle(now);
+        CompilerAggregateEntryCache entry = entries.get(projectPath);
+        if (entry == null) {
+            misses++;
+            entry = factory.apply(projectPath);
+            entry.setWeight(BASE_WEIGHT);
+            entries.put(projectPath, entry);
+            weight += BASE_WEIGHT;
+        } else {
+            hits++;
+        }
+        entry.retain(now);
+        evictOverflow();
+        return entry;
+    }
+
+    /**
+     * Marks the end of a build, updating the footprint estimate of the compiler with the result of the build
+     */
+    synchronized void release(final CompilerAggregateEntryCache entry,
+                              final KieCompilationResponse response) {
+        if (response != null && !entry.isEvicted()) {
+            final long newWeight = estimateWeight(response);
+            weight += newWeight - entry.getWeight();
+            entry.setWeight(newWeight);
+        }
+        if (entry.release(System.currentTimeMillis()) == 0 && !entry.isEvicted() && entry.getWeight() > maxWeight) {
+            reject(entry);
+        }
+        evictOverflow();
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    synchronized long getWeight() {
+        return weight;
+    }
+
+    synchronized long getHits() {
+        return hits;
+    }
+
+    synchronized long getMisses() {
+        return misses;
+    }
+
+    synchronized long getEvictions() {
+        return evictions;
+    }
+
+    synchronized long getRejections() {
+        return rejections;
+    }
+
+    static long estimateWeight(final KieCompilationResponse response) {
+        long estimate = BASE_WEIGHT;
+        final Map<String, byte[]> store = response.getProjectClassLoaderStore();
+        if (store != null) {
+            for (byte[] bytes : store.values()) {
+                estimate += bytes.length;
+            }
+        }
+        if (response.getTargetContent() != null) {
+            estimate += ENTRY_WEIGHT * response.getTargetContent().size();
+        }
+        if (response.getDependencies() != null) {
+            estimate += ENTRY_WEIGHT * response.getDependencies().size();
+        }
+        return estimate;
+    }
+
+    private void evictIdle(final long now) {
+        final Iterator<Map.Entry<Path, CompilerAggregateEntryCache>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            final CompilerAggregateEntryCache entry = it.next().getValue();
+            if (!entry.isInUse() && now - entry.getLastAccess() > maxIdleMillis) {
+                it.remove();
+                evicted(entry, "idle");
+            }
+        }
+    }
+
+    private void evictOverflow() {
+        final Iterator<Map.Entry<Path, CompilerAggregateEntryCache>> it = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || weight > maxWeight) && it.hasNext()) {
+            final CompilerAggregateEntryCache entry = it.next().getValue();
+            if (!entry.isInUse()) {
+                it.remove();
+                evicted(entry, "size");
+            }
+        }
+    }
+
+    private void reject(final CompilerAggregateEntryCache entry) {
+        entries.values().remove(entry);
+        weight -= entry.getWeight();
+        rejections++;
+        entry.markEvicted();
+        logger.warn("Compiler of {} not cached, its estimated weight {} MB exceeds {} of {} MB",
+                    entry.getInfo().getPrjPath(), entry.getWeight() / MB, MAX_WEIGHT_MB, maxWeight / MB);
+        cleanUp(entry);
+    }
+
+    private void evicted(final CompilerAggregateEntryCache entry,
+                         final String reason) {
+        weight -= entry.getWeight();
+        evictions++;
+        entry.markEvicted();
+        if (logger.isDebugEnabled()) {
+            logger.debug("Evicted compiler of {} ({}), weight:{} entries:{} hits:{} misses:{} evictions:{}",
+                         entry.getInfo().getPrjPath(), reason, weight, entries.size(), hits, misses, evictions);
+        }
+        cleanUp(entry);
+    }
+
+    private void cleanUp(final CompilerAggregateEntryCache entry) {
+        try {
+            entry.getCompiler().cleanInternalCache();
+        } catch (Exception e) {
+            logger.warn("Unable to clean the compiler of {}: {}", entry.getInfo().getPrjPath(), e.getMessage());
+        }
+    }
+}
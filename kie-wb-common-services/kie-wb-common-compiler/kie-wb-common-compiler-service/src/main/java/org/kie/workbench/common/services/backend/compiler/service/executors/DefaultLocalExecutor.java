@@ -16,12 +16,14 @@
 package org.kie.workbench.common.services.backend.compiler.service.executors;
 
 import java.io.InputStream;
+import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
 
-import org.guvnor.common.services.backend.cache.LRUCache;
 import org.kie.workbench.common.services.backend.compiler.AFCompiler;
 import org.kie.workbench.common.services.backend.compiler.CompilationRequest;
 import org.kie.workbench.common.services.backend.compiler.configuration.KieDecorator;
@@ -37,21 +39,38 @@ import org.uberfire.java.nio.file.Path;
  */
 public class DefaultLocalExecutor implements CompilerExecutor {
 
-    private ExecutorService executor;
-    private LRUCache<Path, CompilerAggregateEntryCache> compilerCacheForLocalInvocation;
+    private BuildScheduler scheduler;
+    private CompilerInstanceCache compilerCacheForLocalInvocation;
+    private BuildResultCache buildResultCache;
 
     public DefaultLocalExecutor(ExecutorService executorService) {
-        executor = executorService;
-        compilerCacheForLocalInvocation = new LRUCache<Path, CompilerAggregateEntryCache>() {
-        };
+        this(executorService,
+             new BuildResultCache(),
+             new CompilerInstanceCache());
     }
 
-    private AFCompiler getCompiler(Path projectPath) {
-        CompilerAggregateEntryCache info = compilerCacheForLocalInvocation.getEntry(projectPath);
-        if (info != null && info.getCompiler() != null) {
-            return info.getCompiler();
-        } else {
-            return getNewCachedAFCompiler(projectPath);
+    DefaultLocalExecutor(ExecutorService executorService,
+                         BuildResultCache buildResultCache,
+                         CompilerInstanceCache compilerInstanceCache) {
+        scheduler = new BuildScheduler(executorService);
+        this.buildResultCache = buildResultCache;
+        compilerCacheForLocalInvocation = compilerInstanceCache;
+    }
+
+    private CompilerAggregateEntryCache getCompiler(Path projectPath) {
+        return compilerCacheForLocalInvocation.acquire(projectPath,
+                                                       this::setupCompileInfo);
+    }
+
+    private KieCompilationResponse compileWith(CompilerAggregateEntryCache entry,
+                                               Function<AFCompiler, KieCompilationResponse> build) {
+        KieCompilationResponse res = null;
+        try {
+            res = build.apply(entry.getCompiler());
+            return res;
+        } finally {
+            compilerCacheForLocalInvocation.release(entry,
+                                                    res);
         }
     }
 
@@ -65,13 +84,6 @@ public class DefaultLocalExecutor implements CompilerExecutor {
                                              skipProjectDepCreation);
     }
 
-    private AFCompiler getNewCachedAFCompiler(Path projectPath) {
-        CompilerAggregateEntryCache info = setupCompileInfo(projectPath);
-        compilerCacheForLocalInvocation.setEntry(projectPath,
-                                                 info);
-        return info.getCompiler();
-    }
-
     private CompilerAggregateEntryCache setupCompileInfo(Path workingDir) {
         final AFCompiler compiler = KieMavenCompilerFactory.getCompiler(EnumSet.of(KieDecorator.ENABLE_LOGGING,
                                                                                    KieDecorator.UPDATE_JGIT_BEFORE_BUILD,
@@ -89,7 +101,6 @@ public class DefaultLocalExecutor implements CompilerExecutor {
                                                                     boolean skipProjectDepCreation,
                                                                     String goal) {
         WorkspaceCompilationInfo info = new WorkspaceCompilationInfo(projectPath);
-        AFCompiler compiler = getCompiler(projectPath);
         CompilationRequest req;
         if (settingXML != null) {
             req = getDefaultRequest(mavenRepoPath,
@@ -102,8 +113,67 @@ public class DefaultLocalExecutor implements CompilerExecutor {
                                     skipProjectDepCreation,
                                     new String[]{goal});
         }
-        return CompletableFuture.supplyAsync(() -> ((KieCompilationResponse) compiler.compile(req)),
-                                             executor);
+        String requestKey = getRequestKey(projectPath,
+                                          mavenRepoPath,
+                                          settingXML,
+                                          String.valueOf(skipProjectDepCreation),
+                                          goal);
+        if (!buildResultCache.isEnabled() || !MavenCLIArgs.COMPILE.equals(goal)) {
+            return scheduler.submit(BuildScheduler.laneOf(projectPath),
+                                    requestKey,
+                                    () -> invalidateOnInstall(compileWith(getCompiler(projectPath),
+                                                                          c -> (KieCompilationResponse) c.compile(req)),
+                                                              goal));
+        }
+        return scheduler.submit(BuildScheduler.laneOf(projectPath),
+                                requestKey,
+                                () -> {
+                                    buildResultCache.checkSettings(settingXML);
+                                    return compileWithBuildResultCache(req,
+                                                                       projectPath,
+                                                                       mavenRepoPath,
+                                                                       settingXML,
+                                                                       String.valueOf(skipProjectDepCreation),
+                                                                       goal);
+                                });
+    }
+
+    /**
+     * An installed artifact can be a dependency of the cached builds, they are built again
+     */
+    private KieCompilationResponse invalidateOnInstall(KieCompilationResponse res,
+                                                       String... goals) {
+        if (res != null && res.isSuccessful() && Arrays.asList(goals).contains(MavenCLIArgs.INSTALL)) {
+            buildResultCache.invalidate();
+        }
+        return res;
+    }
+
+    private String getRequestKey(Path projectPath,
+                                 String... buildParams) {
+        StringBuilder sb = new StringBuilder(projectPath.toUri().toString());
+        for (String param : buildParams) {
+            sb.append('|').append(param);
+        }
+        return sb.toString();
+    }
+
+    private KieCompilationResponse compileWithBuildResultCache(CompilationRequest req,
+                                                               Path projectPath,
+                                                               String... buildParams) {
+        Optional<String> key = buildResultCache.computeKey(projectPath,
+                                                           buildParams);
+        if (key.isPresent()) {
+            Optional<KieCompilationResponse> cached = buildResultCache.get(key.get());
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+        }
+        KieCompilationResponse res = compileWith(getCompiler(projectPath),
+                                                 c -> (KieCompilationResponse) c.compile(req));
+        key.ifPresent(k -> buildResultCache.put(k,
+                                                res));
+        return res;
     }
 
     private CompletableFuture<KieCompilationResponse> internalBuild(Path projectPath,
@@ -111,13 +181,18 @@ public class DefaultLocalExecutor implements CompilerExecutor {
                                                                     boolean skipProjectDepCreation,
                                                                     String[] args) {
         WorkspaceCompilationInfo info = new WorkspaceCompilationInfo(projectPath);
-        AFCompiler compiler = getCompiler(projectPath);
         CompilationRequest req = getDefaultRequest(mavenRepoPath,
                                                    info,
                                                    skipProjectDepCreation,
                                                    args);
-        return CompletableFuture.supplyAsync(() -> ((KieCompilationResponse) compiler.compile(req)),
-                                             executor);
+        return scheduler.submit(BuildScheduler.laneOf(projectPath),
+                                getRequestKey(projectPath,
+                                              mavenRepoPath,
+                                              String.valueOf(skipProjectDepCreation),
+                                              String.join(" ", args)),
+                                () -> invalidateOnInstall(compileWith(getCompiler(projectPath),
+                                                                      c -> (KieCompilationResponse) c.compile(req)),
+                                                          args));
     }
 
     private CompletableFuture<KieCompilationResponse> internalBuild(Path projectPath,
@@ -127,7 +202,6 @@ public class DefaultLocalExecutor implements CompilerExecutor {
                                                                     String goal,
                                                                     Map<Path, InputStream> override) {
         WorkspaceCompilationInfo info = new WorkspaceCompilationInfo(projectPath);
-        AFCompiler compiler = getCompiler(projectPath);
         CompilationRequest req;
         if (settingXML != null) {
             req = getDefaultRequest(mavenRepoPath,
@@ -140,9 +214,12 @@ public class DefaultLocalExecutor implements CompilerExecutor {
                                     skipProjectDepCreation,
                                     new String[]{goal});
         }
-        return CompletableFuture.supplyAsync(() -> ((KieCompilationResponse) compiler.compile(req,
-                                                                                              override)),
-                                             executor);
+        // builds with overridden resources are never coalesced, their content is not part of the request key
+        return scheduler.submit(BuildScheduler.laneOf(projectPath),
+                                null,
+                                () -> compileWith(getCompiler(projectPath),
+                                                  c -> (KieCompilationResponse) c.compile(req,
+                                                                                          override)));
     }
 
     /************************************ Suitable for the Local Builds ***********************************************/
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.compiler.service.executors;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.workbench.common.services.backend.compiler.TestUtil;
+import org.kie.workbench.common.services.backend.compiler.impl.DefaultKieCompilationResponse;
+import org.kie.workbench.common.services.backend.compiler.impl.kie.KieCompilationResponse;
+import org.uberfire.java.nio.file.Files;
+import org.uberfire.java.nio.file.Path;
+import org.uberfire.java.nio.file.Paths;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BuildResultCacheTest {
+
+    private Path tmpRoot;
+    private Path project;
+    private BuildResultCache cache;
+
+    @Before
+    public void setUp() {
+        tmpRoot = Files.createTempDirectory("buildcache");
+        project = Files.createDirectories(Paths.get(tmpRoot.toString(), "dummy"));
+        write("pom.xml", "<project/>");
+        write("src/main/java/org/kie/Person.java", "class Person {}");
+        cache = new BuildResultCache(10);
+    }
+
+    @After
+    public void tearDown() {
+        TestUtil.rm(tmpRoot.toFile());
+    }
+
+    @Test
+    public void sameContentSameKey() {
+        assertThat(cache.computeKey(project, "repo", "compile")).isEqualTo(cache.computeKey(project, "repo", "compile"));
+        assertThat(cache.computeKey(project, "repo", "compile")).isNotEqualTo(cache.computeKey(project, "repo", "install"));
+    }
+
+    @Test
+    public void sourceChangeChangesKey() {
+        Optional<String> before = cache.computeKey(project, "compile");
+        write("src/main/java/org/kie/Person.java", "class Person { String name; }");
+        assertThat(cache.computeKey(project, "compile")).isNotEqualTo(before);
+    }
+
+    @Test
+    public void targetAndHiddenFilesAreIgnored() {
+        Optional<String> before = cache.computeKey(project, "compile");
+        write("target/classes/org/kie/Person.class", "bytecode");
+        write(".git/HEAD", "ref");
+        assertThat(cache.computeKey(project, "compile")).isEqualTo(before);
+    }
+
+    @Test
+    public void missingProjectHasNoKey() {
+        assertThat(cache.computeKey(Paths.get(tmpRoot.toString(), "missing"), "compile")).isNotPresent();
+    }
+
+    @Test
+    public void onlySuccessfulBuildsAreCached() {
+        String key = cache.computeKey(project, "compile").get();
+        cache.put(key, new DefaultKieCompilationResponse(false, ""));
+        assertThat(cache.get(key)).isNotPresent();
+
+        KieCompilationResponse res = new DefaultKieCompilationResponse(true, "");
+        cache.put(key, res);
+        assertThat(cache.get(key)).isPresent();
+
+        cache.invalidate();
+        assertThat(cache.get(key)).isNotPresent();
+    }
+
+    @Test
+    public void leastRecentlyUsedIsEvicted() {
+        BuildResultCache small = new BuildResultCache(1);
+        small.put("a", new DefaultKieCompilationResponse(true, ""));
+        small.put("b", new DefaultKieCompilationResponse(true, ""));
+        assertThat(small.get("a")).isNotPresent();
+        assertThat(small.get("b")).isPresent();
+    }
+
+    @Test
+    public void eachCallerGetsItsOwnCopy() {
+        KieCompilationResponse res = new DefaultKieCompilationResponse(true, new ArrayList<>(Arrays.asList("[INFO] BUILD SUCCESS")), "uuid");
+        cache.put("a", res);
+
+        KieCompilationResponse first = cache.get("a").get();
+        first.getMavenOutput().clear();
+        KieCompilationResponse second = cache.get("a").get();
+
+        assertThat(first).isNotSameAs(res).isNotSameAs(second);
+        assertThat(second.getMavenOutput()).containsExactly("[INFO] BUILD SUCCESS");
+        assertThat(res.getMavenOutput()).containsExactly("[INFO] BUILD SUCCESS");
+    }
+
+    @Test
+    public void evictionByWeight() {
+        KieCompilationResponse res = new DefaultKieCompilationResponse(true, "");
+        BuildResultCache small = new BuildResultCache(10, BuildResultCache.estimateWeight(res) + 1);
+        small.put("a", res);
+        small.put("b", new DefaultKieCompilationResponse(true, ""));
+
+        assertThat(small.size()).isEqualTo(1);
+        assertThat(small.getWeight()).isEqualTo(BuildResultCache.estimateWeight(res));
+        assertThat(small.get("a")).isNotPresent();
+        assertThat(small.get("b")).isPresent();
+    }
+
+    @Test
+    public void settingsChangeInvalidates() {
+        Path settings = Paths.get(tmpRoot.toString(), "settings.xml");
+        Files.write(settings, "<settings/>".getBytes(StandardCharsets.UTF_8));
+        cache.checkSettings(settings.toString());
+        cache.put("a", new DefaultKieCompilationResponse(true, ""));
+
+        cache.checkSettings(settings.toString());
+        assertThat(cache.get("a")).isPresent();
+
+        Files.write(settings, "<settings><offline>true</offline></settings>".getBytes(StandardCharsets.UTF_8));
+        cache.checkSettings(settings.toString());
+        assertThat(cache.get("a")).isNotPresent();
+    }
+
+    @Test
+    public void targetRewrittenByAnotherBuildIsDetected() {
+        write("target/classes/org/kie/Person.class", "bytecode of A");
+        String classFile = Paths.get(project.toString(), "target/classes/org/kie/Person.class").toFile().getAbsolutePath();
+        cache.put("a", new DefaultKieCompilationResponse(true,
+                                                         new ArrayList<>(),
+                                                         new ArrayList<>(Arrays.asList(classFile)),
+                                                         new ArrayList<>(),
+                                                         project,
+                                                         "uuid"));
+        assertThat(cache.get("a")).isPresent();
+
+        write("target/classes/org/kie/Person.class", "bytecode of the build of B");
+
+        assertThat(cache.get("a")).isNotPresent();
+    }
+
+    private void write(String relativePath, String content) {
+        Path file = Paths.get(project.toString(), relativePath);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
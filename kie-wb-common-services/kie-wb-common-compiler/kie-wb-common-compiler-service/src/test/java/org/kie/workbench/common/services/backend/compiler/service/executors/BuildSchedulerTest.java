@@ -0,0 +1,133 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.compiler.service.executors;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.workbench.common.services.backend.compiler.impl.DefaultKieCompilationResponse;
+import org.kie.workbench.common.services.backend.compiler.impl.kie.KieCompilationResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BuildSchedulerTest {
+
+    private ExecutorService executor;
+    private BuildScheduler scheduler;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        scheduler = new BuildScheduler(executor, 1);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void identicalQueuedRequestsShareTheBuild() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger builds = new AtomicInteger();
+        CompletableFuture<KieCompilationResponse> running = scheduler.submit("repo", "other", blockingBuild(release, builds));
+        CompletableFuture<KieCompilationResponse> first = scheduler.submit("repo", "key", blockingBuild(release, builds));
+        CompletableFuture<KieCompilationResponse> second = scheduler.submit("repo", "key", blockingBuild(release, builds));
+        assertThat(second).isNotSameAs(first);
+
+        second.cancel(true);
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS).isSuccessful()).isTrue();
+        assertThat(first.get(5, TimeUnit.SECONDS).isSuccessful()).isTrue();
+        assertThat(second).isCancelled();
+        assertThat(builds.get()).isEqualTo(2);
+        assertThat(scheduler.getCoalesced()).isEqualTo(1);
+        assertThat(scheduler.getSubmitted()).isEqualTo(3);
+    }
+
+    @Test
+    public void requestIsNotSharedWithARunningBuild() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger builds = new AtomicInteger();
+        CompletableFuture<KieCompilationResponse> first = scheduler.submit("repo", "key", blockingBuild(release, builds));
+        CompletableFuture<KieCompilationResponse> second = scheduler.submit("repo", "key", blockingBuild(release, builds));
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS).isSuccessful()).isTrue();
+        assertThat(second.get(5, TimeUnit.SECONDS).isSuccessful()).isTrue();
+        assertThat(builds.get()).isEqualTo(2);
+        assertThat(scheduler.getCoalesced()).isZero();
+    }
+
+    @Test
+    public void branchesOfARepositoryShareTheLane() {
+        assertThat(BuildScheduler.repositoryOf("default://master@space/repo/"))
+                .isEqualTo(BuildScheduler.repositoryOf("default://dev@space/repo/"))
+                .isEqualTo("default://space/repo/");
+        assertThat(BuildScheduler.repositoryOf("default://space/repo/")).isEqualTo("default://space/repo/");
+    }
+
+    @Test
+    public void buildsOfTheSameRepositoryAreQueued() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger builds = new AtomicInteger();
+        CompletableFuture<KieCompilationResponse> first = scheduler.submit("repo", "a", blockingBuild(release, builds));
+        CompletableFuture<KieCompilationResponse> second = scheduler.submit("repo", "b", blockingBuild(release, builds));
+        CompletableFuture<KieCompilationResponse> other = scheduler.submit("other", "c", blockingBuild(new CountDownLatch(0), builds));
+
+        assertThat(other.get(5, TimeUnit.SECONDS).isSuccessful()).isTrue();
+        assertThat(scheduler.getQueueDepth()).isEqualTo(1);
+        assertThat(second).isNotDone();
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS).isSuccessful()).isTrue();
+        assertThat(second.get(5, TimeUnit.SECONDS).isSuccessful()).isTrue();
+        assertThat(scheduler.getQueueDepth()).isEqualTo(0);
+        assertThat(builds.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void failedBuildReleasesTheLane() throws Exception {
+        CompletableFuture<KieCompilationResponse> failed = scheduler.submit("repo", "a", () -> {
+            throw new IllegalStateException("boom");
+        });
+        CompletableFuture<KieCompilationResponse> next = scheduler.submit("repo", "b", blockingBuild(new CountDownLatch(0), new AtomicInteger()));
+
+        assertThat(next.get(5, TimeUnit.SECONDS).isSuccessful()).isTrue();
+        assertThat(failed).isCompletedExceptionally();
+    }
+
+    private Supplier<KieCompilationResponse> blockingBuild(CountDownLatch release,
+                                                           AtomicInteger builds) {
+        return () -> {
+            builds.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new DefaultKieCompilationResponse(true, "");
+        };
+    }
+}
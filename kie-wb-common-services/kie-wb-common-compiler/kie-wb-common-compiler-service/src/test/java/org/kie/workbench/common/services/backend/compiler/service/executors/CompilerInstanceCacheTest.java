@@ -0,0 +1,167 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.compiler.service.executors;
+
+import java.io.InputStream;
+import java.util.Map;
+
+import org.junit.Test;
+import org.kie.workbench.common.services.backend.compiler.AFCompiler;
+import org.kie.workbench.common.services.backend.compiler.CompilationRequest;
+import org.kie.workbench.common.services.backend.compiler.impl.DefaultKieCompilationResponse;
+import org.kie.workbench.common.services.backend.compiler.impl.WorkspaceCompilationInfo;
+import org.kie.workbench.common.services.backend.compiler.impl.kie.KieCompilationResponse;
+import org.uberfire.java.nio.file.Path;
+import org.uberfire.java.nio.file.Paths;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompilerInstanceCacheTest {
+
+    private final Path first = Paths.get("file:///tmp/first");
+    private final Path second = Paths.get("file:///tmp/second");
+
+    @Test
+    public void hitsAndMissesAreCounted() {
+        CompilerInstanceCache cache = new CompilerInstanceCache(10, Long.MAX_VALUE, Long.MAX_VALUE);
+        CompilerAggregateEntryCache entry = cache.acquire(first, this::newEntry);
+        cache.release(entry, null);
+        assertThat(cache.acquire(first, this::newEntry)).isSameAs(entry);
+
+        assertThat(cache.getMisses()).isEqualTo(1);
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.getWeight()).isEqualTo(CompilerInstanceCache.BASE_WEIGHT);
+    }
+
+    @Test
+    public void evictionByCountCleansTheCompiler() {
+        CompilerInstanceCache cache = new CompilerInstanceCache(1, Long.MAX_VALUE, Long.MAX_VALUE);
+        CompilerAggregateEntryCache firstEntry = cache.acquire(first, this::newEntry);
+        cache.release(firstEntry, null);
+        CompilerAggregateEntryCache secondEntry = cache.acquire(second, this::newEntry);
+        cache.release(secondEntry, null);
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.getEvictions()).isEqualTo(1);
+        assertThat(((StubCompiler) firstEntry.getCompiler()).cleaned).isTrue();
+        assertThat(((StubCompiler) secondEntry.getCompiler()).cleaned).isFalse();
+    }
+
+    @Test
+    public void compilerInUseIsNotEvicted() {
+        CompilerInstanceCache cache = new CompilerInstanceCache(1, Long.MAX_VALUE, Long.MAX_VALUE);
+        CompilerAggregateEntryCache firstEntry = cache.acquire(first, this::newEntry);
+        CompilerAggregateEntryCache secondEntry = cache.acquire(second, this::newEntry);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(firstEntry.isEvicted()).isFalse();
+        assertThat(cache.acquire(first, this::newEntry)).isSameAs(firstEntry);
+        cache.release(firstEntry, null);
+
+        cache.release(firstEntry, null);
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(firstEntry.isEvicted()).isTrue();
+        assertThat(((StubCompiler) firstEntry.getCompiler()).cleaned).isTrue();
+        assertThat(secondEntry.isEvicted()).isFalse();
+    }
+
+    @Test
+    public void compilerInUseIsNotEvictedWhenIdleTooLong() throws Exception {
+        CompilerInstanceCache cache = new CompilerInstanceCache(10, Long.MAX_VALUE, 1);
+        CompilerAggregateEntryCache firstEntry = cache.acquire(first, this::newEntry);
+        Thread.sleep(5);
+        cache.acquire(second, this::newEntry);
+
+        assertThat(firstEntry.isEvicted()).isFalse();
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void compilerHeavierThanMaxWeightIsRejected() {
+        CompilerInstanceCache cache = new CompilerInstanceCache(10, CompilerInstanceCache.BASE_WEIGHT - 1, Long.MAX_VALUE);
+        CompilerAggregateEntryCache firstEntry = cache.acquire(first, this::newEntry);
+        assertThat(firstEntry.isEvicted()).isFalse();
+
+        cache.release(firstEntry, null);
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getWeight()).isZero();
+        assertThat(cache.getRejections()).isEqualTo(1);
+        assertThat(cache.getEvictions()).isZero();
+        assertThat(((StubCompiler) firstEntry.getCompiler()).cleaned).isTrue();
+    }
+
+    @Test
+    public void evictionByWeight() {
+        CompilerInstanceCache cache = new CompilerInstanceCache(10, CompilerInstanceCache.BASE_WEIGHT + 1, Long.MAX_VALUE);
+        CompilerAggregateEntryCache firstEntry = cache.acquire(first, this::newEntry);
+        cache.release(firstEntry, null);
+        CompilerAggregateEntryCache secondEntry = cache.acquire(second, this::newEntry);
+        cache.release(secondEntry, null);
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.getWeight()).isEqualTo(CompilerInstanceCache.BASE_WEIGHT);
+        assertThat(firstEntry.isEvicted()).isTrue();
+    }
+
+    @Test
+    public void evictionByIdleTime() throws Exception {
+        CompilerInstanceCache cache = new CompilerInstanceCache(10, Long.MAX_VALUE, 1);
+        CompilerAggregateEntryCache firstEntry = cache.acquire(first, this::newEntry);
+        cache.release(firstEntry, null);
+        Thread.sleep(5);
+        cache.acquire(second, this::newEntry);
+
+        assertThat(firstEntry.isEvicted()).isTrue();
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void weightFollowsTheBuildResult() {
+        CompilerInstanceCache cache = new CompilerInstanceCache(10, Long.MAX_VALUE, Long.MAX_VALUE);
+        CompilerAggregateEntryCache entry = cache.acquire(first, this::newEntry);
+        KieCompilationResponse res = new DefaultKieCompilationResponse(true, "");
+        cache.release(entry, res);
+        assertThat(cache.getWeight()).isEqualTo(CompilerInstanceCache.estimateWeight(res));
+    }
+
+    private CompilerAggregateEntryCache newEntry(Path path) {
+        return new CompilerAggregateEntryCache(new StubCompiler(),
+                                               new WorkspaceCompilationInfo(path));
+    }
+
+    private static class StubCompiler implements AFCompiler<KieCompilationResponse> {
+
+        private boolean cleaned;
+
+        @Override
+        public KieCompilationResponse compile(CompilationRequest req) {
+            return new DefaultKieCompilationResponse(true, "");
+        }
+
+        @Override
+        public KieCompilationResponse compile(CompilationRequest req,
+                                              Map<Path, InputStream> override) {
+            return compile(req);
+        }
+
+        @Override
+        public Boolean cleanInternalCache() {
+            cleaned = true;
+            return Boolean.TRUE;
+        }
+    }
+}
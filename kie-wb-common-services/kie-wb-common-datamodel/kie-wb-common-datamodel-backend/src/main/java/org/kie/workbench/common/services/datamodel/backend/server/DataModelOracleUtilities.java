@@ -313,123 +313,80 @@ public class DataModelOracleUtilities {
     //Filter Model Fields by the types used
     private static Map<String, ModelField[]> filterModelFields(final Set<String> usedFullyQualifiedClassNames,
                                                                final Map<String, ModelField[]> moduleModelFields) {
-        final Map<String, ModelField[]> scopedModelFields = new HashMap<String, ModelField[]>();
-        for (Map.Entry<String, ModelField[]> e : moduleModelFields.entrySet()) {
-            final String mfQualifiedType = e.getKey();
-            final ModelField[] mfModelFields = e.getValue();
-            if (isTypeUsed(mfQualifiedType,
-                           usedFullyQualifiedClassNames)) {
-                scopedModelFields.put(mfQualifiedType,
-                                      mfModelFields);
-            }
-        }
-        return scopedModelFields;
+        return filterByType(usedFullyQualifiedClassNames,
+                            moduleModelFields);
     }
 
     //Filter Collection Types by the types used
     private static Map<String, Boolean> filterCollectionTypes(final Set<String> usedFullyQualifiedClassNames,
                                                               final Map<String, Boolean> moduleCollectionTypes) {
-        final Map<String, Boolean> scopedCollectionTypes = new HashMap<String, Boolean>();
-        for (Map.Entry<String, Boolean> e : moduleCollectionTypes.entrySet()) {
-            final String collectionQualifiedType = e.getKey();
-            if (isTypeUsed(collectionQualifiedType,
-                           usedFullyQualifiedClassNames)) {
-                scopedCollectionTypes.put(collectionQualifiedType,
-                                          e.getValue());
-            }
-        }
-        return scopedCollectionTypes;
+        return filterByType(usedFullyQualifiedClassNames,
+                            moduleCollectionTypes);
     }
 
     //Filter Event Types by the types used
     private static Map<String, Boolean> filterEventTypes(final Set<String> usedFullyQualifiedClassNames,
                                                          final Map<String, Boolean> moduleEventTypes) {
-        final Map<String, Boolean> scopedEventTypes = new HashMap<String, Boolean>();
-        for (Map.Entry<String, Boolean> e : moduleEventTypes.entrySet()) {
-            final String eventQualifiedType = e.getKey();
-            if (isTypeUsed(eventQualifiedType,
-                           usedFullyQualifiedClassNames)) {
-                scopedEventTypes.put(eventQualifiedType,
-                                     e.getValue());
-            }
-        }
-        return scopedEventTypes;
+        return filterByType(usedFullyQualifiedClassNames,
+                            moduleEventTypes);
     }
 
     //Filter TypeSource by the types used
     private static Map<String, TypeSource> filterTypeSources(final Set<String> usedFullyQualifiedClassNames,
                                                              final Map<String, TypeSource> moduleTypeSources) {
-        final Map<String, TypeSource> scopedTypeSources = new HashMap<String, TypeSource>();
-        for (Map.Entry<String, TypeSource> e : moduleTypeSources.entrySet()) {
-            final String typeQualifiedType = e.getKey();
-            if (isTypeUsed(typeQualifiedType,
-                           usedFullyQualifiedClassNames)) {
-                scopedTypeSources.put(typeQualifiedType,
-                                      e.getValue());
-            }
-        }
-        return scopedTypeSources;
+        return filterByType(usedFullyQualifiedClassNames,
+                            moduleTypeSources);
     }
 
     //Filter Super Types by the types used
     private static Map<String, List<String>> filterSuperTypes(final Set<String> usedFullyQualifiedClassNames,
                                                               final Map<String, List<String>> moduleSuperTypes) {
-        final Map<String, List<String>> scopedSuperTypes = new HashMap<String, List<String>>();
-        for (Map.Entry<String, List<String>> e : moduleSuperTypes.entrySet()) {
-            final String typeQualifiedType = e.getKey();
-            final List<String> superTypeQualifiedTypes = e.getValue();
-            if (isTypeUsed(typeQualifiedType,
-                           usedFullyQualifiedClassNames)) {
-                scopedSuperTypes.put(typeQualifiedType,
-                                     superTypeQualifiedTypes);
-            }
-        }
-        return scopedSuperTypes;
+        return filterByType(usedFullyQualifiedClassNames,
+                            moduleSuperTypes);
     }
 
     //Filter Type Annotations by the types used
     private static Map<String, Set<Annotation>> filterTypeAnnotations(final Set<String> usedFullyQualifiedClassNames,
                                                                       final Map<String, Set<Annotation>> moduleTypeAnnotations) {
-        final Map<String, Set<Annotation>> scopedTypeAnnotations = new HashMap<String, Set<Annotation>>();
-        for (Map.Entry<String, Set<Annotation>> e : moduleTypeAnnotations.entrySet()) {
-            final String typeAnnotationQualifiedType = e.getKey();
-            if (isTypeUsed(typeAnnotationQualifiedType,
-                           usedFullyQualifiedClassNames)) {
-                scopedTypeAnnotations.put(typeAnnotationQualifiedType,
-                                          e.getValue());
-            }
-        }
-        return scopedTypeAnnotations;
+        return filterByType(usedFullyQualifiedClassNames,
+                            moduleTypeAnnotations);
     }
 
     //Filter Type Fields Annotations by the types used
     private static Map<String, Map<String, Set<Annotation>>> filterTypeFieldsAnnotations(final Set<String> usedFullyQualifiedClassNames,
                                                                                          final Map<String, Map<String, Set<Annotation>>> moduleTypeFieldsAnnotations) {
-        final Map<String, Map<String, Set<Annotation>>> scopedTypeFieldsAnnotations = new HashMap<String, Map<String, Set<Annotation>>>();
-        for (Map.Entry<String, Map<String, Set<Annotation>>> e : moduleTypeFieldsAnnotations.entrySet()) {
-            final String typeAnnotationQualifiedType = e.getKey();
-            if (isTypeUsed(typeAnnotationQualifiedType,
-                           usedFullyQualifiedClassNames)) {
-                scopedTypeFieldsAnnotations.put(typeAnnotationQualifiedType,
-                                                e.getValue());
-            }
-        }
-        return scopedTypeFieldsAnnotations;
+        return filterByType(usedFullyQualifiedClassNames,
+                            moduleTypeFieldsAnnotations);
     }
 
     //Filter Method Information (used by ActionCallXXX and ExpressionBuilder) by the types used
     private static Map<String, List<MethodInfo>> filterMethodInformation(final Set<String> usedFullyQualifiedClassNames,
                                                                          final Map<String, List<MethodInfo>> moduleMethodInformation) {
-        final Map<String, List<MethodInfo>> scopedMethodInformation = new HashMap<String, List<MethodInfo>>();
-        for (Map.Entry<String, List<MethodInfo>> e : moduleMethodInformation.entrySet()) {
-            final String miQualifiedType = e.getKey();
-            if (isTypeUsed(miQualifiedType,
+        return filterByType(usedFullyQualifiedClassNames,
+                            moduleMethodInformation);
+    }
+
+    //Types are looked up one by one when fewer than the module types, e.g. a single type for the incremental payloads
+    private static <T> Map<String, T> filterByType(final Set<String> usedFullyQualifiedClassNames,
+                                                   final Map<String, T> moduleTypes) {
+        final Map<String, T> scopedTypes = new HashMap<>();
+        if (usedFullyQualifiedClassNames.size() < moduleTypes.size()) {
+            for (String usedType : usedFullyQualifiedClassNames) {
+                if (moduleTypes.containsKey(usedType)) {
+                    scopedTypes.put(usedType,
+                                    moduleTypes.get(usedType));
+                }
+            }
+            return scopedTypes;
+        }
+        for (Map.Entry<String, T> e : moduleTypes.entrySet()) {
+            if (isTypeUsed(e.getKey(),
                            usedFullyQualifiedClassNames)) {
-                scopedMethodInformation.put(miQualifiedType,
-                                            e.getValue());
+                scopedTypes.put(e.getKey(),
+                                e.getValue());
             }
         }
-        return scopedMethodInformation;
+        return scopedTypes;
     }
 
     //Filter Field Parameter Types by the types used
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.datamodel.backend.server.builder.packages;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.kie.soup.project.datamodel.commons.oracle.PackageDataModelOracleImpl;
+import org.kie.soup.project.datamodel.oracle.Annotation;
+import org.kie.soup.project.datamodel.oracle.ExtensionKind;
+import org.kie.soup.project.datamodel.oracle.MethodInfo;
+import org.kie.soup.project.datamodel.oracle.ModelField;
+import org.kie.soup.project.datamodel.oracle.ModuleDataModelOracle;
+import org.kie.soup.project.datamodel.oracle.TypeSource;
+
+/**
+ * PackageDataModelOracle reading the fact types straight from the (cached, immutable) module oracle instead of
+ * copying them. The enums, extensions and globals of the package are loaded on their first access, a caller only
+ * looking up fact types never reads the package resources.
+ */
+public class LazyPackageDataModelOracle extends PackageDataModelOracleImpl {
+
+    private final ModuleDataModelOracle moduleOracle;
+    private final PackageDataModelOracleBuilder builder;
+    private final Consumer<PackageDataModelOracleBuilder> packageLoader;
+    private volatile boolean packageLoaded;
+
+    LazyPackageDataModelOracle(final String packageName,
+                               final ModuleDataModelOracle moduleOracle,
+                               final PackageDataModelOracleBuilder builder,
+                               final Consumer<PackageDataModelOracleBuilder> packageLoader) {
+        this.moduleOracle = moduleOracle;
+        this.builder = builder;
+        this.packageLoader = packageLoader;
+        setPackageName(packageName);
+    }
+
+    public boolean isPackageLoaded() {
+        return packageLoaded;
+    }
+
+    private void assertPackageLoaded() {
+        if (!packageLoaded) {
+            synchronized (this) {
+                if (!packageLoaded) {
+                    packageLoader.accept(builder);
+                    builder.loadPackage(this);
+                    packageLoaded = true;
+                }
+            }
+        }
+    }
+
+    @Override
+    public Map<String, ModelField[]> getModuleModelFields() {
+        return moduleOracle.getModuleModelFields();
+    }
+
+    @Override
+    public Map<String, String> getModuleFieldParametersType() {
+        return moduleOracle.getModuleFieldParametersType();
+    }
+
+    @Override
+    public Map<String, String[]> getModuleJavaEnumDefinitions() {
+        return moduleOracle.getModuleJavaEnumDefinitions();
+    }
+
+    @Override
+    public Map<String, List<MethodInfo>> getModuleMethodInformation() {
+        return moduleOracle.getModuleMethodInformation();
+    }
+
+    @Override
+    public Map<String, Boolean> getModuleCollectionTypes() {
+        return moduleOracle.getModuleCollectionTypes();
+    }
+
+    @Override
+    public Map<String, Boolean> getModuleEventTypes() {
+        return moduleOracle.getModuleEventTypes();
+    }
+
+    @Override
+    public Map<String, TypeSource> getModuleTypeSources() {
+        return moduleOracle.getModuleTypeSources();
+    }
+
+    @Override
+    public Map<String, List<String>> getModuleSuperTypes() {
+        return moduleOracle.getModuleSuperTypes();
+    }
+
+    @Override
+    public Map<String, Set<Annotation>> getModuleTypeAnnotations() {
+        return moduleOracle.getModuleTypeAnnotations();
+    }
+
+    @Override
+    public Map<String, Map<String, Set<Annotation>>> getModuleTypeFieldsAnnotations() {
+        return moduleOracle.getModuleTypeFieldsAnnotations();
+    }
+
+    @Override
+    public List<String> getModulePackageNames() {
+        return moduleOracle.getModulePackageNames();
+    }
+
+    @Override
+    public Map<String, String[]> getPackageWorkbenchDefinitions() {
+        assertPackageLoaded();
+        return super.getPackageWorkbenchDefinitions();
+    }
+
+    @Override
+    public Map<String, String> getPackageGlobals() {
+        assertPackageLoaded();
+        return super.getPackageGlobals();
+    }
+
+    @Override
+    public <T> List<T> getExtensions(final ExtensionKind<T> kind) {
+        assertPackageLoaded();
+        return super.getExtensions(kind);
+    }
+
+    @Override
+    public Map<ExtensionKind<?>, List<?>> getAllExtensions() {
+        assertPackageLoaded();
+        return super.getAllExtensions();
+    }
+}
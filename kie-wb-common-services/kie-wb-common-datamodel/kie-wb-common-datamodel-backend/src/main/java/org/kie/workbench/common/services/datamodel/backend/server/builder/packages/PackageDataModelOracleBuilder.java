@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.kie.soup.project.datamodel.commons.oracle.ModuleDataModelOracleImpl;
 import org.kie.soup.project.datamodel.commons.oracle.PackageDataModelOracleImpl;
@@ -119,19 +120,33 @@ public final class PackageDataModelOracleBuilder {
         packageOracle.addModulePackageNames(pd.getModulePackageNames());
 
         //Add Package DMO specifics
-        loadEnums();
-        loadPackageElements();
-        loadGlobals();
-        loadModuleOracle();
+        loadPackage(packageOracle);
 
         return packageOracle;
     }
 
-    private void loadModuleOracle() {
+    /**
+     * @param packageLoader adds the enums, extensions and globals of the package, called on their first access
+     */
+    public PackageDataModelOracle buildLazily(final Consumer<PackageDataModelOracleBuilder> packageLoader) {
+        return new LazyPackageDataModelOracle(packageName,
+                                              moduleOracle,
+                                              this,
+                                              packageLoader);
+    }
+
+    void loadPackage(final PackageDataModelOracleImpl packageOracle) {
+        loadEnums(packageOracle);
+        loadPackageElements(packageOracle);
+        loadGlobals(packageOracle);
+        loadModuleOracle(packageOracle);
+    }
+
+    private void loadModuleOracle(final PackageDataModelOracleImpl packageOracle) {
         packageOracle.setPackageName(packageName);
     }
 
-    private void loadEnums() {
+    private void loadEnums(final PackageDataModelOracleImpl packageOracle) {
         final Map<String, String[]> loadableEnums = new HashMap<>();
         for (Map.Entry<String, String[]> e : factFieldEnums.entrySet()) {
             final String qualifiedFactField = e.getKey();
@@ -141,11 +156,11 @@ public final class PackageDataModelOracleBuilder {
         packageOracle.addPackageWorkbenchEnumDefinitions(loadableEnums);
     }
 
-    private void loadPackageElements() {
+    private void loadPackageElements(final PackageDataModelOracleImpl packageOracle) {
         packageOracle.addExtensions(extensions);
     }
 
-    private void loadGlobals() {
+    private void loadGlobals(final PackageDataModelOracleImpl packageOracle) {
         packageOracle.addPackageGlobals(packageGlobalTypes);
     }
 
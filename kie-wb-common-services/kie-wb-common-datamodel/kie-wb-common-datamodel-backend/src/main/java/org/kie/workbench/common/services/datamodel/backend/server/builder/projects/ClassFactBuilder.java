@@ -69,9 +69,27 @@ public class ClassFactBuilder extends BaseFactBuilder {
               clazz,
               isEvent,
               typeSourceResolver);
-        this.superTypes = getSuperTypes(clazz);
-        this.annotations.addAll(AnnotationUtils.getClassAnnotations(clazz));
-        loadClassFields(clazz, discoveredFieldFactBuilders);
+        final String cacheKey = ClassFactMetaDataCache.keyOf(clazz);
+        final ClassFactMetaData cached = ClassFactMetaDataCache.get(cacheKey);
+        final ClassFactMetaData.Resolved resolved = cached != null ? cached.resolve(clazz.getClassLoader()) : null;
+        if (resolved != null) {
+            this.superTypes = new ArrayList<String>(cached.getSuperTypes());
+            this.annotations.addAll(cached.newAnnotations());
+            loadClassFields(cached, resolved, discoveredFieldFactBuilders);
+        } else {
+            final ClassFactMetaData metaData = cacheKey != null ? new ClassFactMetaData() : null;
+            this.superTypes = getSuperTypes(clazz);
+            this.annotations.addAll(AnnotationUtils.getClassAnnotations(clazz));
+            loadClassFields(clazz, discoveredFieldFactBuilders, metaData);
+            if (metaData != null) {
+                metaData.complete(superTypes,
+                                  annotations,
+                                  fieldParametersType,
+                                  fieldAnnotations);
+                ClassFactMetaDataCache.put(cacheKey,
+                                           metaData);
+            }
+        }
     }
 
     @Override
@@ -95,8 +113,12 @@ public class ClassFactBuilder extends BaseFactBuilder {
         return strings;
     }
 
+    /**
+     * @param metaData records what is found for the classes shared by the modules, null for the others
+     */
     private void loadClassFields(final Class<?> clazz,
-                                 final Map<String, FactBuilder> discoveredFieldFactBuilders) throws IOException {
+                                 final Map<String, FactBuilder> discoveredFieldFactBuilders,
+                                 final ClassFactMetaData metaData) throws IOException {
         if (clazz == null) {
             return;
         }
@@ -124,10 +146,18 @@ public class ClassFactBuilder extends BaseFactBuilder {
                                     f.getOrigin(),
                                     f.getAccessorAndMutator(),
                                     genericReturnType));
+            if (metaData != null) {
+                metaData.addField(fieldName,
+                                  returnType.getName(),
+                                  f.getOrigin(),
+                                  f.getAccessorAndMutator(),
+                                  genericReturnType);
+            }
 
             addEnumsForField(factType,
                              fieldName,
-                             returnType);
+                             returnType,
+                             metaData);
 
             //To prevent recursion we keep track of all ClassFactBuilder's created and re-use where applicable
             if (DenyLists.isReturnTypeInDenyList(returnType)) {
@@ -135,12 +165,23 @@ public class ClassFactBuilder extends BaseFactBuilder {
             }
 
             discoverFieldFactBuilder(genericReturnType, returnType, discoveredFieldFactBuilders);
+            if (metaData != null) {
+                metaData.addDiscoveredType(genericReturnType,
+                                           returnType,
+                                           null);
+            }
 
             // Check types on generic arguments
             if (f.getGenericType() instanceof ParameterizedType) {
                 ParameterizedType parameterizedType = (ParameterizedType) f.getGenericType();
 
                 for (Type parameterType : parameterizedType.getActualTypeArguments()) {
+                    if (metaData != null && parameterType instanceof Class) {
+                        metaData.addDiscoveredType(((Class<?>) parameterType).getName(),
+                                                   (Class<?>) parameterType,
+                                                   parameterType.getTypeName());
+                    }
+
                     if (discoveredFieldFactBuilders.containsKey(parameterType.getTypeName())) {
                         continue;
                     }
@@ -175,6 +216,45 @@ public class ClassFactBuilder extends BaseFactBuilder {
         }
         this.methodInformation.put(factType,
                                    methodInformation);
+        if (metaData != null) {
+            metaData.addMethods(methodInspector.getMethodData());
+        }
+    }
+
+    /**
+     * Same as {@link #loadClassFields(Class, Map, ClassFactMetaData)} from the metadata recorded by another module
+     */
+    private void loadClassFields(final ClassFactMetaData metaData,
+                                 final ClassFactMetaData.Resolved resolved,
+                                 final Map<String, FactBuilder> discoveredFieldFactBuilders) throws IOException {
+        final String factType = getType();
+
+        for (final ModelField field : metaData.newModelFields()) {
+            addField(field);
+        }
+
+        for (final Map.Entry<String, String[]> e : metaData.newEnums().entrySet()) {
+            getDataModelBuilder().addEnum(factType,
+                                          e.getKey(),
+                                          e.getValue());
+        }
+
+        final List<ClassFactMetaData.DiscoveredType> discoveredTypes = metaData.getDiscoveredTypes();
+        for (int i = 0; i < discoveredTypes.size(); i++) {
+            final ClassFactMetaData.DiscoveredType discoveredType = discoveredTypes.get(i);
+            final String skipIfDiscovered = discoveredType.getSkipIfDiscovered();
+            if (skipIfDiscovered != null && discoveredFieldFactBuilders.containsKey(skipIfDiscovered)) {
+                continue;
+            }
+            discoverFieldFactBuilder(discoveredType.getGenericTypeName(),
+                                     resolved.getDiscoveredTypes().get(i),
+                                     discoveredFieldFactBuilders);
+        }
+
+        this.fieldParametersType.putAll(metaData.getFieldParametersType());
+        this.fieldAnnotations.putAll(metaData.newFieldAnnotations());
+        this.methodInformation.put(factType,
+                                   resolved.getMethodInfos());
     }
 
     protected void discoverFieldFactBuilder(final String genericTypeName,
@@ -198,7 +278,8 @@ public class ClassFactBuilder extends BaseFactBuilder {
 
     private void addEnumsForField(final String className,
                                   final String fieldName,
-                                  final Class<?> fieldClazz) {
+                                  final Class<?> fieldClazz,
+                                  final ClassFactMetaData metaData) {
         if (fieldClazz.isEnum()) {
             final Field[] enumFields = fieldClazz.getDeclaredFields();
             final List<String> enumValues = new ArrayList<String>();
@@ -217,6 +298,10 @@ public class ClassFactBuilder extends BaseFactBuilder {
             getDataModelBuilder().addEnum(className,
                                           fieldName,
                                           a);
+            if (metaData != null) {
+                metaData.addEnum(fieldName,
+                                 a);
+            }
         }
     }
 
@@ -0,0 +1,339 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.datamodel.backend.server.builder.projects;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.kie.soup.project.datamodel.oracle.Annotation;
+import org.kie.soup.project.datamodel.oracle.FieldAccessorsAndMutators;
+import org.kie.soup.project.datamodel.oracle.MethodInfo;
+import org.kie.soup.project.datamodel.oracle.ModelField;
+
+/**
+ * What a ClassFactBuilder found inspecting a class: fields, methods, annotations, enums and the field types to inspect
+ * next. Only names are kept, so an entry shared by the modules does not keep their ClassLoaders reachable.
+ */
+final class ClassFactMetaData implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Map<String, Class<?>> PRIMITIVES = new HashMap<>();
+    private static final Set<Class<?>> VALUE_TYPES = new HashSet<>(Arrays.asList(String.class, Boolean.class, Character.class,
+                                                                                 Byte.class, Short.class, Integer.class,
+                                                                                 Long.class, Float.class, Double.class));
+
+    static {
+        for (Class<?> primitive : new Class<?>[]{boolean.class, byte.class, char.class, short.class, int.class,
+                long.class, float.class, double.class, void.class}) {
+            PRIMITIVES.put(primitive.getName(),
+                           primitive);
+        }
+    }
+
+    private final List<FieldData> fields = new ArrayList<>();
+    private final Map<String, String[]> enums = new LinkedHashMap<>();
+    private final List<DiscoveredType> discoveredTypes = new ArrayList<>();
+    private final List<MethodData> methods = new ArrayList<>();
+    private final Map<String, String> fieldParametersType = new HashMap<>();
+    private final List<String> superTypes = new ArrayList<>();
+    private final List<AnnotationData> annotations = new ArrayList<>();
+    private final Map<String, List<AnnotationData>> fieldAnnotations = new HashMap<>();
+    private boolean persistable = true;
+
+    void addField(final String name,
+                  final String className,
+                  final ModelField.FIELD_ORIGIN origin,
+                  final FieldAccessorsAndMutators accessorAndMutator,
+                  final String genericType) {
+        fields.add(new FieldData(name,
+                                 className,
+                                 origin.name(),
+                                 accessorAndMutator.name(),
+                                 genericType));
+    }
+
+    void addEnum(final String fieldName,
+                 final String[] values) {
+        enums.put(fieldName,
+                  values.clone());
+    }
+
+    /**
+     * @param skipIfDiscovered the type is not added if this name has already been discovered by the module, or null
+     */
+    void addDiscoveredType(final String genericTypeName,
+                           final Class<?> type,
+                           final String skipIfDiscovered) {
+        discoveredTypes.add(new DiscoveredType(genericTypeName,
+                                               type.getName(),
+                                               skipIfDiscovered));
+    }
+
+    void addMethods(final Collection<MethodData> methods) {
+        this.methods.addAll(methods);
+    }
+
+    void complete(final List<String> superTypes,
+                  final Set<Annotation> annotations,
+                  final Map<String, String> fieldParametersType,
+                  final Map<String, Set<Annotation>> fieldAnnotations) {
+        this.superTypes.addAll(superTypes);
+        this.annotations.addAll(toData(annotations));
+        this.fieldParametersType.putAll(fieldParametersType);
+        for (Map.Entry<String, Set<Annotation>> e : fieldAnnotations.entrySet()) {
+            this.fieldAnnotations.put(e.getKey(),
+                                      toData(e.getValue()));
+        }
+    }
+
+    /**
+     * Annotation values of types not in the JDK can't be read back without the module ClassLoader
+     */
+    boolean isPersistable() {
+        return persistable;
+    }
+
+    /**
+     * @return the types referred by name loaded through the ClassLoader of the inspected class, or null if one of
+     * them can't be loaded anymore
+     */
+    Resolved resolve(final ClassLoader classLoader) {
+        try {
+            final List<Class<?>> types = new ArrayList<>(discoveredTypes.size());
+            for (DiscoveredType type : discoveredTypes) {
+                types.add(loadClass(type.className,
+                                    classLoader));
+            }
+            final List<MethodInfo> methodInfos = new ArrayList<>(methods.size());
+            for (MethodData method : methods) {
+                methodInfos.add(new MethodInfo(method.name,
+                                               new ArrayList<>(method.params),
+                                               loadClass(method.returnType,
+                                                         classLoader),
+                                               method.parametricReturnType,
+                                               method.genericType));
+            }
+            return new Resolved(types,
+                                methodInfos);
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+
+    List<ModelField> newModelFields() {
+        final List<ModelField> modelFields = new ArrayList<>(fields.size());
+        for (FieldData field : fields) {
+            modelFields.add(new ModelField(field.name,
+                                           field.className,
+                                           ModelField.FIELD_CLASS_TYPE.REGULAR_CLASS,
+                                           ModelField.FIELD_ORIGIN.valueOf(field.origin),
+                                           FieldAccessorsAndMutators.valueOf(field.accessorAndMutator),
+                                           field.genericType));
+        }
+        return modelFields;
+    }
+
+    Map<String, String[]> newEnums() {
+        final Map<String, String[]> copy = new LinkedHashMap<>();
+        enums.forEach((fieldName, values) -> copy.put(fieldName,
+                                                      values.clone()));
+        return copy;
+    }
+
+    List<DiscoveredType> getDiscoveredTypes() {
+        return Collections.unmodifiableList(discoveredTypes);
+    }
+
+    Map<String, String> getFieldParametersType() {
+        return Collections.unmodifiableMap(fieldParametersType);
+    }
+
+    List<String> getSuperTypes() {
+        return Collections.unmodifiableList(superTypes);
+    }
+
+    Set<Annotation> newAnnotations() {
+        return fromData(annotations);
+    }
+
+    Map<String, Set<Annotation>> newFieldAnnotations() {
+        final Map<String, Set<Annotation>> copy = new HashMap<>();
+        fieldAnnotations.forEach((fieldName, data) -> copy.put(fieldName,
+                                                               fromData(data)));
+        return copy;
+    }
+
+    private List<AnnotationData> toData(final Set<Annotation> annotations) {
+        final List<AnnotationData> data = new ArrayList<>(annotations.size());
+        for (Annotation annotation : annotations) {
+            final Map<String, Object> parameters = new LinkedHashMap<>(annotation.getParameters());
+            for (Object value : parameters.values()) {
+                persistable &= isJdkType(value);
+            }
+            data.add(new AnnotationData(annotation.getQualifiedTypeName(),
+                                        parameters));
+        }
+        return data;
+    }
+
+    private static Set<Annotation> fromData(final List<AnnotationData> data) {
+        final Set<Annotation> annotations = new LinkedHashSet<>();
+        for (AnnotationData annotationData : data) {
+            final Annotation annotation = new Annotation(annotationData.qualifiedTypeName);
+            annotationData.parameters.forEach(annotation::addParameter);
+            annotations.add(annotation);
+        }
+        return annotations;
+    }
+
+    private static boolean isJdkType(final Object value) {
+        return value == null || isValueType(value.getClass());
+    }
+
+    /**
+     * The annotation values that can be saved: primitives, their wrappers, strings, JDK enums and arrays of them
+     */
+    static boolean isValueType(Class<?> type) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        return type.isPrimitive() || VALUE_TYPES.contains(type) || (Enum.class.isAssignableFrom(type) && type.getName().startsWith("java."));
+    }
+
+    private static Class<?> loadClass(final String name,
+                                      final ClassLoader classLoader) throws ClassNotFoundException {
+        final Class<?> primitive = PRIMITIVES.get(name);
+        return primitive != null ? primitive : Class.forName(name,
+                                                             false,
+                                                             classLoader);
+    }
+
+    static class Resolved {
+
+        private final List<Class<?>> discoveredTypes;
+        private final List<MethodInfo> methodInfos;
+
+        private Resolved(final List<Class<?>> discoveredTypes,
+                         final List<MethodInfo> methodInfos) {
+            this.discoveredTypes = discoveredTypes;
+            this.methodInfos = methodInfos;
+        }
+
+        List<Class<?>> getDiscoveredTypes() {
+            return discoveredTypes;
+        }
+
+        List<MethodInfo> getMethodInfos() {
+            return methodInfos;
+        }
+    }
+
+    static class DiscoveredType implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String genericTypeName;
+        private final String className;
+        private final String skipIfDiscovered;
+
+        private DiscoveredType(final String genericTypeName,
+                               final String className,
+                               final String skipIfDiscovered) {
+            this.genericTypeName = genericTypeName;
+            this.className = className;
+            this.skipIfDiscovered = skipIfDiscovered;
+        }
+
+        String getGenericTypeName() {
+            return genericTypeName;
+        }
+
+        String getSkipIfDiscovered() {
+            return skipIfDiscovered;
+        }
+    }
+
+    static class MethodData implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String name;
+        private final List<String> params;
+        private final String returnType;
+        private final String parametricReturnType;
+        private final String genericType;
+
+        MethodData(final String name,
+                   final List<String> params,
+                   final Class<?> returnType,
+                   final String parametricReturnType,
+                   final String genericType) {
+            this.name = name;
+            this.params = new ArrayList<>(params);
+            this.returnType = returnType.getName();
+            this.parametricReturnType = parametricReturnType;
+            this.genericType = genericType;
+        }
+    }
+
+    private static class FieldData implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String name;
+        private final String className;
+        private final String origin;
+        private final String accessorAndMutator;
+        private final String genericType;
+
+        private FieldData(final String name,
+                          final String className,
+                          final String origin,
+                          final String accessorAndMutator,
+                          final String genericType) {
+            this.name = name;
+            this.className = className;
+            this.origin = origin;
+            this.accessorAndMutator = accessorAndMutator;
+            this.genericType = genericType;
+        }
+    }
+
+    private static class AnnotationData implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String qualifiedTypeName;
+        private final LinkedHashMap<String, Object> parameters;
+
+        private AnnotationData(final String qualifiedTypeName,
+                               final Map<String, Object> parameters) {
+            this.qualifiedTypeName = qualifiedTypeName;
+            this.parameters = new LinkedHashMap<>(parameters);
+        }
+    }
+}
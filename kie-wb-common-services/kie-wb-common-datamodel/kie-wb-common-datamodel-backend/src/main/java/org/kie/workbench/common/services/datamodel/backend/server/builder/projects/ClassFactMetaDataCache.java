@@ -0,0 +1,290 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.datamodel.backend.server.builder.projects;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Fact type metadata of the classes coming from the JDK or from a jar, shared by all the modules: fifty modules
+ * depending on the same model jar inspect its classes once. The key is the class name plus the location, length and
+ * last modified time of every jar the metadata is read from: the jar of the class, of its super classes and interfaces
+ * and of the enums of its fields. A jar rewritten in the local repository (e.g. a reinstalled SNAPSHOT) changes the key.
+ * The classes of the modules themselves, and the jar classes depending on them, are never cached.
+ */
+public final class ClassFactMetaDataCache {
+
+    public static final String ENABLED = "org.kie.workbench.datamodel.factTypeCache.enabled";
+    public static final String MAX_ENTRIES = "org.kie.workbench.datamodel.factTypeCache.maxEntries";
+
+    private static final String FILE_PROTOCOL = "file";
+    private static final String JRT_PROTOCOL = "jrt";
+    private static final String JAR_EXT = ".jar";
+    private static final String JAVA_VERSION = System.getProperty("java.version");
+    private static final Logger logger = LoggerFactory.getLogger(ClassFactMetaDataCache.class);
+
+    private static final boolean enabled = Boolean.parseBoolean(System.getProperty(ENABLED, "true"));
+    private static final int maxEntries = Integer.getInteger(MAX_ENTRIES, 20000);
+    private static final Map<String, ClassFactMetaData> entries = new LinkedHashMap<String, ClassFactMetaData>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, ClassFactMetaData> eldest) {
+            return size() > maxEntries;
+        }
+    };
+    private static long hits;
+    private static long misses;
+    private static boolean dirty;
+
+    private ClassFactMetaDataCache() {
+    }
+
+    /**
+     * @return null if the metadata of the class can't be shared
+     */
+    static String keyOf(final Class<?> clazz) {
+        if (!enabled) {
+            return null;
+        }
+        if (clazz.getClassLoader() == null) {
+            return "java:" + JAVA_VERSION + '!' + clazz.getName();
+        }
+        try {
+            final Set<String> locations = new LinkedHashSet<>();
+            for (Class<?> type : closureOf(clazz)) {
+                if (type.getClassLoader() == null) {
+                    continue;
+                }
+                final String location = locationOf(type);
+                if (location == null) {
+                    return null;
+                }
+                locations.add(location);
+            }
+            return String.join(";", locations) + ':' + JAVA_VERSION + '!' + clazz.getName();
+        } catch (SecurityException | URISyntaxException | IllegalArgumentException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * The classes the metadata of a class is read from: the class, its super classes, its interfaces and the enums it
+     * exposes through its accessors and public fields
+     */
+    static Set<Class<?>> closureOf(final Class<?> clazz) {
+        final Set<Class<?>> closure = new LinkedHashSet<>();
+        addHierarchy(clazz,
+                     closure);
+        for (Method method : clazz.getMethods()) {
+            addEnum(method.getReturnType(),
+                    closure);
+            for (Class<?> parameterType : method.getParameterTypes()) {
+                addEnum(parameterType,
+                        closure);
+            }
+        }
+        for (Field field : clazz.getFields()) {
+            addEnum(field.getType(),
+                    closure);
+        }
+        return closure;
+    }
+
+    private static void addHierarchy(final Class<?> clazz,
+                                     final Set<Class<?>> closure) {
+        if (clazz == null || !closure.add(clazz)) {
+            return;
+        }
+        addHierarchy(clazz.getSuperclass(),
+                     closure);
+        for (Class<?> type : clazz.getInterfaces()) {
+            addHierarchy(type,
+                         closure);
+        }
+    }
+
+    private static void addEnum(final Class<?> type,
+                                final Set<Class<?>> closure) {
+        if (type.isEnum()) {
+            closure.add(type);
+        }
+    }
+
+    /**
+     * @return null if the class isn't loaded from a jar or from the JDK modules
+     */
+    private static String locationOf(final Class<?> clazz) throws URISyntaxException {
+        final CodeSource codeSource = clazz.getProtectionDomain().getCodeSource();
+        final URL location = codeSource != null ? codeSource.getLocation() : null;
+        if (location == null) {
+            return null;
+        }
+        if (JRT_PROTOCOL.equals(location.getProtocol())) {
+            return location.toExternalForm();
+        }
+        if (!FILE_PROTOCOL.equals(location.getProtocol()) || !location.getPath().endsWith(JAR_EXT)) {
+            return null;
+        }
+        final File jar = Paths.get(location.toURI()).toFile();
+        return location.toExternalForm() + ':' + jar.length() + ':' + jar.lastModified();
+    }
+
+    static synchronized ClassFactMetaData get(final String key) {
+        if (key == null) {
+            return null;
+        }
+        final ClassFactMetaData metaData = entries.get(key);
+        if (metaData != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return metaData;
+    }
+
+    static synchronized void put(final String key,
+                                 final ClassFactMetaData metaData) {
+        entries.put(key,
+                    metaData);
+        dirty = true;
+    }
+
+    public static synchronized int size() {
+        return entries.size();
+    }
+
+    public static synchronized long getHits() {
+        return hits;
+    }
+
+    public static synchronized long getMisses() {
+        return misses;
+    }
+
+    public static synchronized void clear() {
+        entries.clear();
+        dirty = false;
+    }
+
+    /**
+     * Adds the entries saved by a previous run, the entries of jars since then rewritten are never looked up again
+     * and are the first to be evicted
+     */
+    @SuppressWarnings("unchecked")
+    public static void load(final File file) {
+        if (!enabled || !file.isFile()) {
+            return;
+        }
+        try (ObjectInputStream in = new MetaDataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            final Map<String, ClassFactMetaData> saved = (Map<String, ClassFactMetaData>) in.readObject();
+            synchronized (ClassFactMetaDataCache.class) {
+                saved.forEach(entries::putIfAbsent);
+            }
+            logger.debug("{} fact types metadata loaded from {}",
+                         saved.size(),
+                         file);
+        } catch (Exception e) {
+            logger.warn("Unable to load the fact types metadata from {}: {}",
+                        file,
+                        e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the entries only when some have been added since the last save
+     */
+    public static void save(final File file) {
+        final Map<String, ClassFactMetaData> snapshot = new HashMap<>();
+        synchronized (ClassFactMetaDataCache.class) {
+            if (!enabled || !dirty) {
+                return;
+            }
+            entries.forEach((key, metaData) -> {
+                if (metaData.isPersistable()) {
+                    snapshot.put(key,
+                                 metaData);
+                }
+            });
+            dirty = false;
+        }
+        try {
+            final File tmp = new File(file.getPath() + ".tmp");
+            try (ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+                out.writeObject(snapshot);
+            }
+            Files.move(tmp.toPath(),
+                       file.toPath(),
+                       StandardCopyOption.REPLACE_EXISTING);
+        } catch (Exception e) {
+            logger.warn("Unable to save the fact types metadata to {}: {}",
+                        file,
+                        e.getMessage());
+        }
+    }
+
+    /**
+     * Reads back only the classes a saved cache is made of, any other class in the file fails the load
+     */
+    private static class MetaDataInputStream extends ObjectInputStream {
+
+        private static final Set<Class<?>> ALLOWED = new HashSet<>(Arrays.asList(HashMap.class, LinkedHashMap.class,
+                                                                                 ArrayList.class, Number.class, Enum.class));
+
+        MetaDataInputStream(final InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(final ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            final Class<?> type = super.resolveClass(desc);
+            if (ALLOWED.contains(type)
+                    || ClassFactMetaData.isValueType(type)
+                    || type == ClassFactMetaData.class
+                    || type.getName().startsWith(ClassFactMetaData.class.getName() + '$')) {
+                return type;
+            }
+            throw new InvalidClassException(desc.getName(),
+                                            "not allowed in the fact types metadata cache");
+        }
+    }
+}
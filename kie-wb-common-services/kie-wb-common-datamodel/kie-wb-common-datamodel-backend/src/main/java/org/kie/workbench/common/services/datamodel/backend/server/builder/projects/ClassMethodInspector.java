@@ -20,9 +20,9 @@ import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 
 import org.kie.soup.project.datamodel.oracle.MethodInfo;
 import org.kie.workbench.common.services.datamodel.backend.server.builder.util.DenyLists;
@@ -32,7 +32,7 @@ import org.kie.workbench.common.services.datamodel.backend.server.builder.util.D
  */
 public class ClassMethodInspector {
 
-    private final Set<MethodInfo> methods = new HashSet<MethodInfo>();
+    private final Map<MethodInfo, ClassFactMetaData.MethodData> methods = new HashMap<>();
 
     public ClassMethodInspector(final Class<?> clazz,
                                 final ClassToGenericClassConverter converter) {
@@ -49,13 +49,21 @@ public class ClassMethodInspector {
 
                 Class<?>[] listParam = aMethod.getParameterTypes();
 
+                final List<String> params = convertParameterTypes(converter,
+                                                                  listParam);
+                final String parametricReturnType = obtainGenericType(aMethod.getGenericReturnType());
+                final String genericType = converter.translateClassToGenericType(aMethod.getReturnType());
                 MethodInfo info = new MethodInfo(methodName,
-                                                 convertParameterTypes(converter,
-                                                                       listParam),
+                                                 params,
                                                  aMethod.getReturnType(),
-                                                 obtainGenericType(aMethod.getGenericReturnType()),
-                                                 converter.translateClassToGenericType(aMethod.getReturnType()));
-                this.methods.add(info);
+                                                 parametricReturnType,
+                                                 genericType);
+                this.methods.putIfAbsent(info,
+                                         new ClassFactMetaData.MethodData(methodName,
+                                                                          params,
+                                                                          aMethod.getReturnType(),
+                                                                          parametricReturnType,
+                                                                          genericType));
             }
         }
     }
@@ -123,14 +131,21 @@ public class ClassMethodInspector {
 
     public List<String> getMethodNames() {
         List<String> methodList = new ArrayList<String>();
-        for (MethodInfo info : methods) {
+        for (MethodInfo info : methods.keySet()) {
             methodList.add(info.getName());
         }
         return methodList;
     }
 
     public List<MethodInfo> getMethodInfos() {
-        return new ArrayList<MethodInfo>(this.methods);
+        return new ArrayList<MethodInfo>(this.methods.keySet());
+    }
+
+    /**
+     * @return the methods by name, in the order of {@link #getMethodInfos()}
+     */
+    List<ClassFactMetaData.MethodData> getMethodData() {
+        return new ArrayList<>(this.methods.values());
     }
 
     private String obtainGenericType(final Type type) {
@@ -162,20 +162,21 @@ public class LRUDataModelOracleCache extends LRUCache<Package, PackageDataModelO
         final ModuleDataModelOracle moduleOracle = cacheModules.assertModuleDataModelOracle(module);
         dmoBuilder.setModuleOracle(moduleOracle);
 
-        //Add Guvnor enumerations
-        loadEnumsForPackage(dmoBuilder,
-                            module,
-                            pkg);
-
-        //Add DSLs
-        loadExtensionsForPackage(dmoBuilder,
-                                 pkg);
-
-        //Add Globals
-        loadGlobalsForPackage(dmoBuilder,
-                              pkg);
-
-        return dmoBuilder.build();
+        //The package resources are only read by the callers needing them, not by the ones looking up fact types
+        return dmoBuilder.buildLazily(builder -> {
+            //Add Guvnor enumerations
+            loadEnumsForPackage(builder,
+                                module,
+                                pkg);
+
+            //Add DSLs
+            loadExtensionsForPackage(builder,
+                                     pkg);
+
+            //Add Globals
+            loadGlobalsForPackage(builder,
+                                  pkg);
+        });
     }
 
     private void loadEnumsForPackage(final PackageDataModelOracleBuilder dmoBuilder,
@@ -0,0 +1,309 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.datamodel.backend.server.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.enterprise.event.Reception;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.guvnor.common.services.project.builder.events.InvalidateDMOModuleCacheEvent;
+import org.guvnor.common.services.project.model.Module;
+import org.kie.soup.commons.validation.PortablePreconditions;
+import org.kie.workbench.common.services.backend.builder.core.LRUBuilderCache;
+import org.kie.workbench.common.services.backend.builder.core.ManagedSchedulerProducer;
+import org.kie.workbench.common.services.datamodel.backend.server.builder.projects.ClassFactMetaDataCache;
+import org.kie.workbench.common.services.shared.project.KieModule;
+import org.kie.workbench.common.services.shared.project.KieModuleService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.uberfire.backend.server.util.Paths;
+import org.uberfire.commons.concurrent.Managed;
+import org.uberfire.commons.services.cdi.Startup;
+import org.uberfire.io.IOService;
+
+/**
+ * Builds the Builders and the DataModelOracles of the modules in the background, so the first user opening a module
+ * finds warm caches: on startup the modules used the most recently before the last shutdown, then every module whose
+ * caches have been invalidated. The delays are waited on the managed scheduler, the builds run on the managed executor
+ * at the lowest thread priority, at most a configured number at once.
+ * The fact types metadata of the dependency jars is saved along, so the first build after a restart doesn't inspect them.
+ * Both files are kept in a work directory of their own, never in the git repositories folder.
+ */
+@ApplicationScoped
+@Startup
+public class ModuleCachePreWarmer {
+
+    static final String PREWARM_ENABLED = "org.kie.workbench.prewarm.enabled";
+    static final String PREWARM_MODULES = "org.kie.workbench.prewarm.modules";
+    static final String PREWARM_THREADS = "org.kie.workbench.prewarm.threads";
+    static final String PREWARM_DELAY = "org.kie.workbench.prewarm.delayMillis";
+    static final String PREWARM_DIR = "org.kie.workbench.prewarm.dir";
+    static final String PREWARM_FILE = "org.kie.workbench.prewarm.file";
+    static final String PREWARM_FACT_TYPES_FILE = "org.kie.workbench.prewarm.factTypesFile";
+
+    private static final Logger logger = LoggerFactory.getLogger(ModuleCachePreWarmer.class);
+    private static final long SAVE_PERIOD_MINUTES = 5;
+
+    private IOService ioService;
+    private KieModuleService moduleService;
+    private LRUBuilderCache builderCache;
+    private LRUModuleDataModelOracleCache moduleOracleCache;
+    private ExecutorService executor;
+    private ScheduledExecutorService scheduler;
+
+    private final Map<String, WarmTask> pending = new ConcurrentHashMap<>();
+    private final int maxModules = Integer.getInteger(PREWARM_MODULES, 5);
+    private final Semaphore permits = new Semaphore(Math.max(1, Integer.getInteger(PREWARM_THREADS, 1)));
+    private final long delay = Long.getLong(PREWARM_DELAY, 5000);
+    private final File workDir = new File(System.getProperty(PREWARM_DIR,
+                                                             new File(System.getProperty("java.io.tmpdir"),
+                                                                      "kie-prewarm").getPath()));
+    private final File recentlyUsedFile = new File(System.getProperty(PREWARM_FILE,
+                                                                      new File(workDir,
+                                                                               "modules").getPath()));
+    private final File factTypesFile = new File(System.getProperty(PREWARM_FACT_TYPES_FILE,
+                                                                   new File(workDir,
+                                                                            "fact-types").getPath()));
+    private volatile boolean started;
+    private volatile long lastSave = System.currentTimeMillis();
+
+    public ModuleCachePreWarmer() {
+        //CDI proxy
+    }
+
+    @Inject
+    public ModuleCachePreWarmer(final @Named("ioStrategy") IOService ioService,
+                                final KieModuleService moduleService,
+                                final LRUBuilderCache builderCache,
+                                final @Named("ModuleDataModelOracleCache") LRUModuleDataModelOracleCache moduleOracleCache,
+                                final @Managed ExecutorService executor,
+                                final @Named(ManagedSchedulerProducer.MANAGED_SCHEDULER) ScheduledExecutorService scheduler) {
+        this.ioService = ioService;
+        this.moduleService = moduleService;
+        this.builderCache = builderCache;
+        this.moduleOracleCache = moduleOracleCache;
+        this.executor = executor;
+        this.scheduler = scheduler;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!Boolean.parseBoolean(System.getProperty(PREWARM_ENABLED, "true"))) {
+            return;
+        }
+        started = true;
+        scheduler.schedule(() -> executor.execute(this::warmRecentlyUsed),
+                           delay,
+                           TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (started) {
+            started = false;
+            pending.values().forEach(WarmTask::cancel);
+            pending.clear();
+            save();
+        }
+    }
+
+    public void onInvalidateModuleCache(@Observes(notifyObserver = Reception.IF_EXISTS) final InvalidateDMOModuleCacheEvent event) {
+        PortablePreconditions.checkNotNull("event",
+                                           event);
+        if (!started) {
+            return;
+        }
+        final KieModule module = moduleService.resolveModule(event.getResourcePath());
+        if (module != null) {
+            schedule(module.getRootPath().toURI(),
+                     () -> module);
+        }
+    }
+
+    /**
+     * Trailing debounce: every invalidation of a module postpones its build, which starts once the module did not
+     * change for the configured delay. A build that finds no free permit is postponed the same way.
+     */
+    void schedule(final String moduleUri,
+                  final ModuleResolver resolver) {
+        pending.compute(moduleUri,
+                        (uri, previous) -> {
+                            if (previous != null) {
+                                previous.cancel();
+                            }
+                            final WarmTask task = new WarmTask(moduleUri,
+                                                               resolver);
+                            task.future = scheduler.schedule(task,
+                                                             delay,
+                                                             TimeUnit.MILLISECONDS);
+                            return task;
+                        });
+    }
+
+    void warmRecentlyUsed() {
+        ClassFactMetaDataCache.load(factTypesFile);
+        for (String moduleUri : readRecentlyUsed()) {
+            final ModuleResolver resolver =
+                    () -> moduleService.resolveModule(Paths.convert(ioService.get(URI.create(moduleUri))));
+            if (!warm(moduleUri,
+                      resolver)) {
+                schedule(moduleUri,
+                         resolver);
+            }
+        }
+    }
+
+    /**
+     * @return false if the maximum number of modules are already being warmed
+     */
+    private boolean warm(final String moduleUri,
+                         final ModuleResolver resolver) {
+        if (!permits.tryAcquire()) {
+            return false;
+        }
+        final Thread thread = Thread.currentThread();
+        final int priority = thread.getPriority();
+        thread.setPriority(Thread.MIN_PRIORITY);
+        try {
+            final KieModule module = resolver.resolve();
+            if (module == null) {
+                return true;
+            }
+            final long start = System.currentTimeMillis();
+            moduleOracleCache.assertModuleDataModelOracle(module);
+            logger.debug("Caches of {} pre-warmed in {} ms",
+                         moduleUri,
+                         System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            logger.warn("Unable to pre-warm the caches of {}: {}",
+                        moduleUri,
+                        e.getMessage());
+        } finally {
+            thread.setPriority(priority);
+            permits.release();
+        }
+        if (System.currentTimeMillis() - lastSave > TimeUnit.MINUTES.toMillis(SAVE_PERIOD_MINUTES)) {
+            save();
+        }
+        return true;
+    }
+
+    List<String> readRecentlyUsed() {
+        if (!recentlyUsedFile.isFile()) {
+            return Collections.emptyList();
+        }
+        try {
+            final List<String> lines = Files.readAllLines(recentlyUsedFile.toPath(),
+                                                          StandardCharsets.UTF_8);
+            return lines.subList(0,
+                                 Math.min(maxModules,
+                                          lines.size()));
+        } catch (IOException e) {
+            logger.warn("Unable to read the recently used modules from {}: {}",
+                        recentlyUsedFile,
+                        e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    private void save() {
+        lastSave = System.currentTimeMillis();
+        recentlyUsedFile.getAbsoluteFile().getParentFile().mkdirs();
+        factTypesFile.getAbsoluteFile().getParentFile().mkdirs();
+        saveRecentlyUsed();
+        ClassFactMetaDataCache.save(factTypesFile);
+    }
+
+    void saveRecentlyUsed() {
+        try {
+            final List<String> lines = new ArrayList<>();
+            for (Module module : builderCache.getRecentlyUsedModules(maxModules)) {
+                lines.add(module.getRootPath().toURI());
+            }
+            if (!lines.isEmpty()) {
+                Files.write(recentlyUsedFile.toPath(),
+                            lines,
+                            StandardCharsets.UTF_8);
+            }
+        } catch (Exception e) {
+            logger.warn("Unable to save the recently used modules to {}: {}",
+                        recentlyUsedFile,
+                        e.getMessage());
+        }
+    }
+
+    @FunctionalInterface
+    interface ModuleResolver {
+
+        KieModule resolve();
+    }
+
+    /**
+     * The pending build of a module, run only if no later invalidation replaced it meanwhile
+     */
+    private class WarmTask implements Runnable {
+
+        private final String moduleUri;
+        private final ModuleResolver resolver;
+        private volatile ScheduledFuture<?> future;
+
+        WarmTask(final String moduleUri,
+                 final ModuleResolver resolver) {
+            this.moduleUri = moduleUri;
+            this.resolver = resolver;
+        }
+
+        @Override
+        public void run() {
+            if (started && pending.remove(moduleUri,
+                                          this)) {
+                executor.execute(() -> {
+                    if (!warm(moduleUri,
+                              resolver)) {
+                        schedule(moduleUri,
+                                 resolver);
+                    }
+                });
+            }
+        }
+
+        void cancel() {
+            if (future != null) {
+                future.cancel(false);
+            }
+        }
+    }
+}
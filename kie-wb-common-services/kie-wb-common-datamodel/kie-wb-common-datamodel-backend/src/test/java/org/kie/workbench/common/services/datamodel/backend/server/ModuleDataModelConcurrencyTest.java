@@ -30,6 +30,8 @@ import org.guvnor.common.services.project.builder.events.InvalidateDMOModuleCach
 import org.guvnor.common.services.project.builder.model.BuildResults;
 import org.guvnor.common.services.project.builder.service.BuildService;
 import org.guvnor.test.WeldJUnitRunner;
+import org.junit.After;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.kie.workbench.common.services.datamodel.backend.server.service.DataModelService;
@@ -77,6 +79,18 @@ public class ModuleDataModelConcurrencyTest {
     @Inject
     private Event<InvalidateDMOModuleCacheEvent> invalidateDMOModuleCacheEvent;
 
+    @Before
+    public void setUp() {
+        //every change runs its own incremental build
+        System.setProperty(org.kie.workbench.common.services.backend.builder.core.ResourceChangeIncrementalBuilder.BATCH_WINDOW,
+                           "0");
+    }
+
+    @After
+    public void tearDown() {
+        System.clearProperty(org.kie.workbench.common.services.backend.builder.core.ResourceChangeIncrementalBuilder.BATCH_WINDOW);
+    }
+
     @Test
     public void testConcurrentResourceUpdates() throws URISyntaxException {
         final URL pomUrl = this.getClass().getResource("/DataModelBackendTest1/pom.xml");
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.datamodel.backend.server.builder.packages;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.soup.project.datamodel.commons.util.RawMVELEvaluator;
+import org.kie.soup.project.datamodel.oracle.FieldAccessorsAndMutators;
+import org.kie.soup.project.datamodel.oracle.ModelField;
+import org.kie.soup.project.datamodel.oracle.ModuleDataModelOracle;
+import org.kie.soup.project.datamodel.oracle.PackageDataModelOracle;
+import org.kie.workbench.common.services.datamodel.backend.server.builder.projects.ModuleDataModelOracleBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LazyPackageDataModelOracleTest {
+
+    private ModuleDataModelOracle moduleOracle;
+    private AtomicInteger loads;
+    private PackageDataModelOracle packageOracle;
+
+    @Before
+    public void setUp() {
+        moduleOracle = ModuleDataModelOracleBuilder.newModuleOracleBuilder(new RawMVELEvaluator())
+                .addFact("org.test.Person")
+                .addField(new ModelField("age",
+                                         Integer.class.getName(),
+                                         ModelField.FIELD_CLASS_TYPE.REGULAR_CLASS,
+                                         ModelField.FIELD_ORIGIN.DECLARED,
+                                         FieldAccessorsAndMutators.BOTH,
+                                         "Integer"))
+                .end()
+                .build();
+        loads = new AtomicInteger();
+        packageOracle = PackageDataModelOracleBuilder.newPackageOracleBuilder(new RawMVELEvaluator(),
+                                                                              "org.test")
+                .setModuleOracle(moduleOracle)
+                .buildLazily(builder -> {
+                    loads.incrementAndGet();
+                    builder.addEnum("org.test.Person",
+                                    "age",
+                                    new String[]{"1", "2"});
+                });
+    }
+
+    @Test
+    public void testFactTypesDoNotLoadThePackage() {
+        assertThat(packageOracle.getPackageName()).isEqualTo("org.test");
+        assertThat(packageOracle.getModuleModelFields()).containsKey("org.test.Person");
+        assertThat(packageOracle.getModuleModelFields().get("org.test.Person")).hasSize(2);
+
+        assertThat(loads.get()).isZero();
+        assertThat(((LazyPackageDataModelOracle) packageOracle).isPackageLoaded()).isFalse();
+    }
+
+    @Test
+    public void testPackageIsLoadedOnceOnFirstAccess() {
+        assertThat(packageOracle.getPackageWorkbenchDefinitions()).containsKey("org.test.Person#age");
+        assertThat(packageOracle.getPackageGlobals()).isEmpty();
+        assertThat(packageOracle.getAllExtensions()).isEmpty();
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(packageOracle.getPackageName()).isEqualTo("org.test");
+    }
+}
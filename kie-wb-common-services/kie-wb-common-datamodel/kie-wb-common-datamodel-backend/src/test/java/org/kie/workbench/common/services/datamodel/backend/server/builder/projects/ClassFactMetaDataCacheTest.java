@@ -0,0 +1,149 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.workbench.common.services.datamodel.backend.server.builder.projects;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.kie.soup.project.datamodel.commons.util.RawMVELEvaluator;
+import org.kie.soup.project.datamodel.oracle.ModelField;
+import org.kie.soup.project.datamodel.oracle.ModuleDataModelOracle;
+import org.kie.soup.project.datamodel.oracle.TypeSource;
+import org.kie.workbench.common.services.datamodel.backend.server.testclasses.superclasses.PapaSmurf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClassFactMetaDataCacheTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Before
+    public void setUp() {
+        ClassFactMetaDataCache.clear();
+    }
+
+    @After
+    public void tearDown() {
+        ClassFactMetaDataCache.clear();
+    }
+
+    @Test
+    public void testOnlyJdkAndJarClassesAreShared() {
+        assertThat(ClassFactMetaDataCache.keyOf(String.class)).endsWith("!java.lang.String");
+        assertThat(ClassFactMetaDataCache.keyOf(Test.class)).contains(".jar:").endsWith("!org.junit.Test");
+        assertThat(ClassFactMetaDataCache.keyOf(PapaSmurf.class)).isNull();
+    }
+
+    @Test
+    public void testKeyCoversTheSuperTypesAndTheEnums() {
+        assertThat(ClassFactMetaDataCache.closureOf(Thread.class)).contains(Thread.class,
+                                                                            Object.class,
+                                                                            Runnable.class,
+                                                                            Thread.State.class);
+    }
+
+    @Test
+    public void testSharedMetaDataBuildsTheSameOracle() throws Exception {
+        final ModuleDataModelOracle inspected = build(Thread.class);
+        final int entries = ClassFactMetaDataCache.size();
+        final long hits = ClassFactMetaDataCache.getHits();
+        final long misses = ClassFactMetaDataCache.getMisses();
+
+        final ModuleDataModelOracle shared = build(Thread.class);
+
+        assertThat(entries).isGreaterThan(1);
+        assertThat(ClassFactMetaDataCache.size()).isEqualTo(entries);
+        assertThat(ClassFactMetaDataCache.getHits() - hits).isGreaterThanOrEqualTo(entries);
+        assertThat(ClassFactMetaDataCache.getMisses()).isEqualTo(misses);
+        assertSameOracle(inspected,
+                         shared);
+    }
+
+    @Test
+    public void testSavedMetaDataIsSharedAfterRestart() throws Exception {
+        final ModuleDataModelOracle inspected = build(Thread.class);
+        final int entries = ClassFactMetaDataCache.size();
+        final File file = new File(temporaryFolder.getRoot(),
+                                   "fact-types");
+        ClassFactMetaDataCache.save(file);
+
+        ClassFactMetaDataCache.clear();
+        ClassFactMetaDataCache.load(file);
+        final long misses = ClassFactMetaDataCache.getMisses();
+
+        assertThat(ClassFactMetaDataCache.size()).isEqualTo(entries);
+        assertSameOracle(inspected,
+                         build(Thread.class));
+        assertThat(ClassFactMetaDataCache.getMisses()).isEqualTo(misses);
+    }
+
+    @Test
+    public void testClassesOutsideOfTheCacheAreNotLoaded() throws Exception {
+        final File file = new File(temporaryFolder.getRoot(),
+                                   "fact-types");
+        final Map<String, Object> saved = new HashMap<>();
+        saved.put("key",
+                  new TreeSet<>(Collections.singleton("value")));
+        try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(file))) {
+            out.writeObject(saved);
+        }
+
+        ClassFactMetaDataCache.load(file);
+
+        assertThat(ClassFactMetaDataCache.size()).isZero();
+    }
+
+    private ModuleDataModelOracle build(final Class<?> clazz) throws Exception {
+        return ModuleDataModelOracleBuilder.newModuleOracleBuilder(new RawMVELEvaluator())
+                .addClass(clazz,
+                          false,
+                          type -> TypeSource.JAVA_DEPENDENCY)
+                .build();
+    }
+
+    private void assertSameOracle(final ModuleDataModelOracle expected,
+                                  final ModuleDataModelOracle actual) {
+        assertThat(actual.getModuleModelFields().keySet()).isEqualTo(expected.getModuleModelFields().keySet());
+        expected.getModuleModelFields().forEach((type, fields) -> assertThat(names(actual.getModuleModelFields().get(type)))
+                .as(type)
+                .isEqualTo(names(fields)));
+        assertThat(actual.getModuleMethodInformation()).isEqualTo(expected.getModuleMethodInformation());
+        assertThat(actual.getModuleFieldParametersType()).isEqualTo(expected.getModuleFieldParametersType());
+        assertThat(actual.getModuleSuperTypes()).isEqualTo(expected.getModuleSuperTypes());
+        assertThat(actual.getModuleJavaEnumDefinitions().keySet()).isEqualTo(expected.getModuleJavaEnumDefinitions().keySet());
+        expected.getModuleJavaEnumDefinitions().forEach((field, values) -> assertThat(actual.getModuleJavaEnumDefinitions().get(field))
+                .as(field)
+                .containsExactly(values));
+    }
+
+    private static String names(final ModelField[] fields) {
+        final StringBuilder sb = new StringBuilder();
+        Arrays.stream(fields).forEach(f -> sb.append(f.getName()).append(':').append(f.getClassName()).append(':').append(f.getType()).append(';'));
+        return sb.toString();
+    }
+}
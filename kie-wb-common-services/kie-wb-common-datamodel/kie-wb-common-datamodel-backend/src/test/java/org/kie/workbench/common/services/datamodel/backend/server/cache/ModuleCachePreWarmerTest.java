@@ -0,0 +1,181 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.datamodel.backend.server.cache;
+
+import java.io.File;
+import java.net.URI;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.services.backend.builder.core.LRUBuilderCache;
+import org.kie.workbench.common.services.shared.project.KieModule;
+import org.kie.workbench.common.services.shared.project.KieModuleService;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.io.IOService;
+import org.uberfire.java.nio.fs.file.SimpleFileSystemProvider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ModuleCachePreWarmerTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Mock
+    private IOService ioService;
+
+    @Mock
+    private KieModuleService moduleService;
+
+    @Mock
+    private LRUBuilderCache builderCache;
+
+    @Mock
+    private LRUModuleDataModelOracleCache moduleOracleCache;
+
+    @Mock
+    private ExecutorService executor;
+
+    @Mock
+    private ScheduledExecutorService scheduler;
+
+    @Mock
+    private ScheduledFuture<?> future;
+
+    @Mock
+    private KieModule module;
+
+    @Mock
+    private Path rootPath;
+
+    private File moduleFolder;
+
+    private ModuleCachePreWarmer preWarmer;
+
+    @Before
+    public void setUp() throws Exception {
+        moduleFolder = temporaryFolder.newFolder("module");
+        System.setProperty(ModuleCachePreWarmer.PREWARM_FILE,
+                           new File(temporaryFolder.getRoot(),
+                                    "recently-used").getPath());
+        preWarmer = new ModuleCachePreWarmer(ioService,
+                                             moduleService,
+                                             builderCache,
+                                             moduleOracleCache,
+                                             executor,
+                                             scheduler);
+    }
+
+    @After
+    public void tearDown() {
+        System.clearProperty(ModuleCachePreWarmer.PREWARM_FILE);
+    }
+
+    @Test
+    public void testNothingToWarmOnFirstStart() {
+        assertThat(preWarmer.readRecentlyUsed()).isEmpty();
+    }
+
+    @Test
+    public void testRecentlyUsedModulesAreWarmedAfterRestart() {
+        when(module.getRootPath()).thenReturn(rootPath);
+        when(rootPath.toURI()).thenReturn(moduleFolder.toURI().toString());
+        when(builderCache.getRecentlyUsedModules(5)).thenReturn(Collections.singletonList(module));
+
+        preWarmer.saveRecentlyUsed();
+
+        final ModuleCachePreWarmer restarted = new ModuleCachePreWarmer(ioService,
+                                                                        moduleService,
+                                                                        builderCache,
+                                                                        moduleOracleCache,
+                                                                        executor,
+                                                                        scheduler);
+        assertThat(restarted.readRecentlyUsed()).containsExactly(moduleFolder.toURI().toString());
+
+        when(ioService.get(any(URI.class))).thenReturn(new SimpleFileSystemProvider().getPath(moduleFolder.toURI()));
+        when(moduleService.resolveModule(any(Path.class))).thenReturn(module);
+
+        restarted.warmRecentlyUsed();
+
+        verify(moduleOracleCache).assertModuleDataModelOracle(module);
+    }
+
+    @Test
+    public void testInvalidationsPostponeTheBuildUntilTheModuleIsQuiet() {
+        doReturn(future).when(scheduler).schedule(any(Runnable.class),
+                                                  anyLong(),
+                                                  any(TimeUnit.class));
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(executor).execute(any(Runnable.class));
+        final AtomicInteger priority = new AtomicInteger();
+        when(moduleOracleCache.assertModuleDataModelOracle(module)).thenAnswer(invocation -> {
+            priority.set(Thread.currentThread().getPriority());
+            return null;
+        });
+        final String moduleUri = moduleFolder.toURI().toString();
+
+        preWarmer.init();
+        preWarmer.schedule(moduleUri,
+                           () -> module);
+        preWarmer.schedule(moduleUri,
+                           () -> module);
+
+        final ArgumentCaptor<Runnable> tasks = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler,
+               times(3)).schedule(tasks.capture(),
+                                  eq(5000L),
+                                  eq(TimeUnit.MILLISECONDS));
+        verify(future).cancel(false);
+        final List<Runnable> scheduled = tasks.getAllValues();
+
+        // the first invalidation has been superseded by the second one
+        scheduled.get(1).run();
+        verify(moduleOracleCache,
+               never()).assertModuleDataModelOracle(module);
+
+        scheduled.get(2).run();
+        verify(moduleOracleCache).assertModuleDataModelOracle(module);
+        assertThat(priority.get()).isEqualTo(Thread.MIN_PRIORITY);
+        assertThat(Thread.currentThread().getPriority()).isNotEqualTo(Thread.MIN_PRIORITY);
+    }
+}
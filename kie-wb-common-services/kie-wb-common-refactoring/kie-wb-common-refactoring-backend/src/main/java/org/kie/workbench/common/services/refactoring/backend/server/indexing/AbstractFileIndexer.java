@@ -15,9 +15,14 @@
  */
 package org.kie.workbench.common.services.refactoring.backend.server.indexing;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import javax.annotation.PreDestroy;
+import javax.enterprise.event.Observes;
 import javax.inject.Inject;
 import javax.inject.Named;
 
@@ -28,16 +33,20 @@ import org.kie.workbench.common.services.refactoring.ResourceReference;
 import org.kie.workbench.common.services.refactoring.SharedPart;
 import org.kie.workbench.common.services.refactoring.backend.server.impact.ResourceReferenceCollector;
 import org.kie.workbench.common.services.refactoring.backend.server.util.KObjectUtil;
+import org.kie.workbench.common.services.refactoring.model.index.events.IndexingFinishedEvent;
+import org.kie.workbench.common.services.refactoring.model.index.events.IndexingStartedEvent;
 import org.kie.workbench.common.services.refactoring.model.index.terms.IndexTerm;
 import org.kie.workbench.common.services.shared.project.KieModuleService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.uberfire.backend.server.util.Paths;
+import org.uberfire.commons.concurrent.Managed;
 import org.uberfire.ext.metadata.engine.Indexer;
 import org.uberfire.ext.metadata.model.KObject;
 import org.uberfire.ext.metadata.model.KObjectKey;
 import org.uberfire.ext.metadata.model.KProperty;
 import org.uberfire.io.IOService;
+import org.uberfire.java.nio.file.DirectoryStream;
 import org.uberfire.java.nio.file.Path;
 
 /**
@@ -54,6 +63,14 @@ public abstract class AbstractFileIndexer implements Indexer {
     @Inject
     protected KieModuleService moduleService;
 
+    @Inject
+    @Managed
+    private ExecutorService executorService;
+
+    private IndexerMetrics metrics;
+    private IndexingReadAhead readAhead;
+    private boolean readAheadInitialized;
+
     /**
      * This method fills a {@link DefaultIndexBuilder} instance with the default information.
      * If the index builder could not be built, it should either throw an exception or return null.
@@ -71,7 +88,17 @@ public abstract class AbstractFileIndexer implements Indexer {
      */
     @Override
     public KObject toKObject(Path path) {
+        final IndexingReadAhead readAhead = getReadAhead();
+        if (readAhead != null) {
+            return readAhead.toKObject(path);
+        }
+        return index(path);
+    }
+
+    private KObject index(final Path path) {
         KObject index = null;
+        boolean failed = true;
+        final long start = System.nanoTime();
 
         try {
             // create a builder with the default information
@@ -88,16 +115,73 @@ public abstract class AbstractFileIndexer implements Indexer {
             index = KObjectUtil.toKObject(path,
                                           IndexTerm.REFACTORING_CLASSIFIER,
                                           indexElements);
+            failed = false;
         } catch (Exception e) {
             // Unexpected parsing or processing error
             logger.error("Unable to index '" + path.toUri().toString() + "'.",
                          e.getMessage(),
                          e);
+        } finally {
+            getMetrics().indexed(System.nanoTime() - start,
+                                 failed);
         }
 
         return index;
     }
 
+    public void onIndexingStarted(@Observes final IndexingStartedEvent event) {
+        final IndexingReadAhead readAhead = getReadAhead();
+        if (readAhead != null) {
+            readAhead.batchStarted();
+        }
+    }
+
+    public void onIndexingFinished(@Observes final IndexingFinishedEvent event) {
+        final IndexingReadAhead readAhead = getReadAhead();
+        if (readAhead != null) {
+            readAhead.batchFinished();
+        }
+    }
+
+    @PreDestroy
+    public void unregisterMetrics() {
+        if (metrics != null) {
+            IndexerMetrics.unregister(getIndexerId());
+            metrics = null;
+        }
+    }
+
+    private IndexerMetrics getMetrics() {
+        if (metrics == null) {
+            metrics = IndexerMetrics.of(getIndexerId());
+        }
+        return metrics;
+    }
+
+    private synchronized IndexingReadAhead getReadAhead() {
+        if (!readAheadInitialized) {
+            readAhead = IndexingReadAhead.newIfEnabled(this::index,
+                                                       this::supportsPath,
+                                                       this::listFolder,
+                                                       executorService,
+                                                       getMetrics());
+            readAheadInitialized = true;
+        }
+        return readAhead;
+    }
+
+    private List<Path> listFolder(final Path folder) {
+        final List<Path> paths = new ArrayList<>();
+        try (DirectoryStream<Path> stream = ioService.newDirectoryStream(folder)) {
+            for (Path path : stream) {
+                paths.add(path);
+            }
+        } catch (Exception e) {
+            logger.debug("Unable to list '" + folder.toUri().toString() + "' to index ahead: " + e.getMessage());
+        }
+        return paths;
+    }
+
     protected DefaultIndexBuilder getIndexBuilder(Path path) {
         final Module module = moduleService.resolveModule(Paths.convert(path));
         if (module == null) {
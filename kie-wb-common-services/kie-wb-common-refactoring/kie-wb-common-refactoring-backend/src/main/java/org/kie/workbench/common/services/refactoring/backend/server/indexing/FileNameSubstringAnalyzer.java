@@ -0,0 +1,87 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.refactoring.backend.server.indexing;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.core.KeywordTokenizer;
+import org.apache.lucene.analysis.core.LowerCaseFilter;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.analysis.tokenattributes.PositionIncrementAttribute;
+
+/**
+ * Indexes every suffix of a (lower cased) file name, so that a file name containing a text is found with a
+ * {@link org.apache.lucene.search.PrefixQuery} on that text instead of a leading wildcard query scanning all the terms
+ */
+public class FileNameSubstringAnalyzer extends Analyzer {
+
+    public FileNameSubstringAnalyzer() {
+        super();
+    }
+
+    @Override
+    protected TokenStreamComponents createComponents( final String fieldName ) {
+        final KeywordTokenizer src = new KeywordTokenizer();
+        final TokenStream tok = new SuffixFilter( new LowerCaseFilter( src ) );
+
+        return new TokenStreamComponents( src, tok );
+    }
+
+    private static final class SuffixFilter extends TokenFilter {
+
+        private final CharTermAttribute termAtt = addAttribute( CharTermAttribute.class );
+        private final PositionIncrementAttribute posIncAtt = addAttribute( PositionIncrementAttribute.class );
+
+        private char[] token;
+        private int start;
+
+        private SuffixFilter( final TokenStream input ) {
+            super( input );
+        }
+
+        @Override
+        public boolean incrementToken() throws IOException {
+            if ( token == null ) {
+                if ( !input.incrementToken() ) {
+                    return false;
+                }
+                token = Arrays.copyOf( termAtt.buffer(), termAtt.length() );
+                start = 0;
+            } else {
+                posIncAtt.setPositionIncrement( 0 );
+            }
+            termAtt.copyBuffer( token, start, token.length - start );
+            do {
+                start++;
+            } while ( start < token.length && Character.isLowSurrogate( token[ start ] ) );
+            if ( start >= token.length ) {
+                token = null;
+            }
+            return true;
+        }
+
+        @Override
+        public void reset() throws IOException {
+            super.reset();
+            token = null;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.refactoring.backend.server.indexing;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Throughput of an indexer, registered in JMX on its first indexed file and unregistered when the indexer is
+ * destroyed. The time is the time spent indexing the files, on the indexing thread or on the read-ahead workers.
+ */
+class IndexerMetrics implements IndexerMetricsMBean {
+
+    static final String MBEAN_NAME = "org.kie.workbench.common.services.refactoring:type=Indexer,name=";
+
+    private static final Logger logger = LoggerFactory.getLogger(IndexerMetrics.class);
+    private static final Map<String, IndexerMetrics> metrics = new ConcurrentHashMap<>();
+
+    private final AtomicLong indexed = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong indexingTimeNanos = new AtomicLong();
+    private final AtomicLong readAheadHits = new AtomicLong();
+    private volatile boolean registered;
+
+    static IndexerMetrics of(final String indexerId) {
+        return metrics.computeIfAbsent(String.valueOf(indexerId),
+                                       IndexerMetrics::register);
+    }
+
+    private static IndexerMetrics register(final String indexerId) {
+        final IndexerMetrics indexerMetrics = new IndexerMetrics();
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(indexerMetrics,
+                                                                     objectName(indexerId));
+            indexerMetrics.registered = true;
+        } catch (InstanceAlreadyExistsException e) {
+            logger.debug("MBean of indexer {} already registered",
+                         indexerId);
+        } catch (JMException e) {
+            logger.warn("Unable to register the MBean of indexer {}: {}",
+                        indexerId,
+                        e.getMessage());
+        }
+        return indexerMetrics;
+    }
+
+    static void unregister(final String indexerId) {
+        final IndexerMetrics indexerMetrics = metrics.remove(String.valueOf(indexerId));
+        if (indexerMetrics == null || !indexerMetrics.registered) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName(String.valueOf(indexerId)));
+            indexerMetrics.registered = false;
+        } catch (JMException e) {
+            logger.warn("Unable to unregister the MBean of indexer {}: {}",
+                        indexerId,
+                        e.getMessage());
+        }
+    }
+
+    static boolean isRegistered(final String indexerId) {
+        final IndexerMetrics indexerMetrics = metrics.get(String.valueOf(indexerId));
+        return indexerMetrics != null && indexerMetrics.registered;
+    }
+
+    private static ObjectName objectName(final String indexerId) throws JMException {
+        return new ObjectName(MBEAN_NAME + ObjectName.quote(indexerId));
+    }
+
+    void indexed(final long nanos,
+                 final boolean failed) {
+        indexed.incrementAndGet();
+        indexingTimeNanos.addAndGet(nanos);
+        if (failed) {
+            failures.incrementAndGet();
+        }
+    }
+
+    void readAheadHit() {
+        readAheadHits.incrementAndGet();
+    }
+
+    @Override
+    public long getIndexed() {
+        return indexed.get();
+    }
+
+    @Override
+    public long getFailures() {
+        return failures.get();
+    }
+
+    @Override
+    public long getIndexingTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(indexingTimeNanos.get());
+    }
+
+    @Override
+    public double getFilesPerSecond() {
+        final long nanos = indexingTimeNanos.get();
+        return nanos == 0 ? 0 : indexed.get() * (double) TimeUnit.SECONDS.toNanos(1) / nanos;
+    }
+
+    @Override
+    public long getReadAheadHits() {
+        return readAheadHits.get();
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.refactoring.backend.server.indexing;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.uberfire.ext.metadata.model.KObject;
+import org.uberfire.java.nio.file.Path;
+
+/**
+ * Overlaps the reading, parsing and visiting of the files of a folder walked by the batch indexing of a repository. The
+ * batch walks the repository on the thread notifying its start, each batch has its own read ahead state until it
+ * finishes. When two consecutive files of the walk belong to the same folder the next supported files of that folder are
+ * indexed on the worker pool, at most {@link #READ_AHEAD} of them at a time, and handed over to the walk when it asks for
+ * them. The engine keeps writing the index on its own thread. The files indexed out of a batch (e.g. the update of a
+ * single file) are indexed directly: they never list a folder nor get a file indexed ahead.
+ * <p>
+ * Disabled unless {@link #WORKERS} is set, the indexers must then be safe to call from several threads.
+ */
+class IndexingReadAhead {
+
+    static final String WORKERS = "org.kie.workbench.indexing.workers";
+    static final String READ_AHEAD = "org.kie.workbench.indexing.readAhead";
+
+    private static final long EXPIRY_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    private static final int workers = Integer.getInteger(WORKERS, 0);
+    private static final int readAhead = Integer.getInteger(READ_AHEAD, workers * 2);
+
+    private final Function<Path, KObject> indexing;
+    private final Predicate<Path> supports;
+    private final Function<Path, List<Path>> lister;
+    private final Executor workerPool;
+    private final int maxPending;
+    private final IndexerMetrics metrics;
+    private final ThreadLocal<Walk> walks = new ThreadLocal<>();
+
+    IndexingReadAhead(final Function<Path, KObject> indexing,
+                      final Predicate<Path> supports,
+                      final Function<Path, List<Path>> lister,
+                      final Executor workerPool,
+                      final int maxPending,
+                      final IndexerMetrics metrics) {
+        this.indexing = indexing;
+        this.supports = supports;
+        this.lister = lister;
+        this.workerPool = workerPool;
+        this.maxPending = maxPending;
+        this.metrics = metrics;
+    }
+
+    /**
+     * @param workerPool the managed executor of the container, null if not available
+     * @return null if the read ahead is disabled
+     */
+    static IndexingReadAhead newIfEnabled(final Function<Path, KObject> indexing,
+                                          final Predicate<Path> supports,
+                                          final Function<Path, List<Path>> lister,
+                                          final Executor workerPool,
+                                          final IndexerMetrics metrics) {
+        if (workers <= 0 || readAhead <= 0 || workerPool == null) {
+            return null;
+        }
+        return new IndexingReadAhead(indexing,
+                                     supports,
+                                     lister,
+                                     workerPool,
+                                     readAhead,
+                                     metrics);
+    }
+
+    /**
+     * Called on the thread of the batch, the files indexed on this thread until the batch finishes are walked
+     */
+    void batchStarted() {
+        final Walk previous = walks.get();
+        if (previous != null) {
+            previous.cancel();
+        }
+        walks.set(new Walk());
+    }
+
+    /**
+     * Called on the thread of the batch, the files still pending are dropped
+     */
+    void batchFinished() {
+        final Walk walk = walks.get();
+        if (walk != null) {
+            walk.cancel();
+            walks.remove();
+        }
+    }
+
+    KObject toKObject(final Path path) {
+        final Walk walk = walks.get();
+        final CompletableFuture<KObject> result = walk != null ? walk.next(path) : null;
+        if (result != null) {
+            try {
+                final KObject kObject = result.join();
+                metrics.readAheadHit();
+                return kObject;
+            } catch (CompletionException e) {
+                return indexing.apply(path);
+            }
+        }
+        return indexing.apply(path);
+    }
+
+    /**
+     * @return the files indexed ahead for the batch of the calling thread
+     */
+    int getPendingCount() {
+        final Walk walk = walks.get();
+        return walk != null ? walk.pending.size() : 0;
+    }
+
+    /**
+     * Read ahead state of a batch, only used by the thread of the batch
+     */
+    private class Walk {
+
+        private final Map<Path, Pending> pending = new LinkedHashMap<>();
+        private Path lastFolder;
+        private List<Path> siblings;
+        private Map<Path, Integer> positions;
+        private int next;
+
+        /**
+         * @return the file indexed ahead, null if it has to be indexed by the caller
+         */
+        private CompletableFuture<KObject> next(final Path path) {
+            expirePending();
+            final Pending p = pending.remove(path);
+            final CompletableFuture<KObject> result = p != null ? p.result : null;
+            final Path folder = path.getParent();
+            if (result == null && !Objects.equals(folder,
+                                                  lastFolder)) {
+                startFolder(folder);
+            } else if (siblings == null && folder != null) {
+                listFolder(folder);
+            }
+            readAhead(path);
+            return result;
+        }
+
+        private void cancel() {
+            for (Pending p : pending.values()) {
+                p.result.cancel(false);
+            }
+            pending.clear();
+        }
+
+        private void startFolder(final Path folder) {
+            cancel();
+            lastFolder = folder;
+            siblings = null;
+            positions = null;
+            next = 0;
+        }
+
+        private void listFolder(final Path folder) {
+            siblings = lister.apply(folder);
+            positions = new HashMap<>();
+            for (int i = 0; i < siblings.size(); i++) {
+                positions.put(siblings.get(i),
+                              i);
+            }
+        }
+
+        private void readAhead(final Path path) {
+            if (siblings == null) {
+                return;
+            }
+            final Integer position = positions.get(path);
+            if (position != null) {
+                next = Math.max(next,
+                                position + 1);
+            }
+            while (pending.size() < maxPending && next < siblings.size()) {
+                final Path sibling = siblings.get(next++);
+                if (supports.test(sibling)) {
+                    pending.put(sibling,
+                                new Pending(CompletableFuture.supplyAsync(() -> indexing.apply(sibling),
+                                                                          workerPool)));
+                }
+            }
+        }
+
+        /**
+         * A file indexed ahead but never asked for, e.g. because the engine walks the folder in another order, must not
+         * be handed over once it may have changed
+         */
+        private void expirePending() {
+            final long now = System.nanoTime();
+            for (Iterator<Pending> i = pending.values().iterator(); i.hasNext(); ) {
+                final Pending p = i.next();
+                if (now - p.submitted > EXPIRY_NANOS) {
+                    p.result.cancel(false);
+                    i.remove();
+                }
+            }
+        }
+    }
+
+    private static class Pending {
+
+        private final CompletableFuture<KObject> result;
+        private final long submitted = System.nanoTime();
+
+        private Pending(final CompletableFuture<KObject> result) {
+            this.result = result;
+        }
+    }
+}
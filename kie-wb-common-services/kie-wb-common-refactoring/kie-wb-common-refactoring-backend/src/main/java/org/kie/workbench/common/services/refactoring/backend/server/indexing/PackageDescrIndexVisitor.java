@@ -19,7 +19,6 @@ import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 
 import org.drools.compiler.compiler.DrlExprParser;
@@ -100,6 +99,8 @@ public class PackageDescrIndexVisitor extends ResourceReferenceCollector {
     private final DefaultIndexBuilder builder;
     private final PackageDescr packageDescr;
     private final PackageDescrIndexVisitorContext context = new PackageDescrIndexVisitorContext();
+    private final Map<String, String> resolvedTypeNames = new HashMap<>();
+    private Map<String, String> moduleTypeNames;
 
     private static class PackageDescrIndexVisitorContext {
 
@@ -709,6 +710,11 @@ public class PackageDescrIndexVisitor extends ResourceReferenceCollector {
         if (typeName.contains(".")) {
             return typeName;
         }
+        return resolvedTypeNames.computeIfAbsent(typeName,
+                                                 this::resolveFullyQualifiedClassName);
+    }
+
+    private String resolveFullyQualifiedClassName(final String typeName) {
         for (ImportDescr importDescr : packageDescr.getImports()) {
             if (importDescr.getTarget().endsWith(typeName)) {
                 return importDescr.getTarget();
@@ -716,20 +722,38 @@ public class PackageDescrIndexVisitor extends ResourceReferenceCollector {
         }
 
         // We are guessing, like a blindman playing blackjack... there has to be a better way..
-        for (Entry<String, ModelField[]> entry : dmo.getModuleModelFields().entrySet()) {
-            ModelField[] mfs = entry.getValue();
-            String key = entry.getKey();
-            for (ModelField mf : mfs) {
-                if (mf.getClassType().equals(ModelField.FIELD_CLASS_TYPE.REGULAR_CLASS)) {
-                    if (mf.getClassName().endsWith("." + typeName)) {
-                        return mf.getClassName();
-                    } else if (mf.getType().endsWith("." + typeName)) {
-                        return mf.getType();
+        final String fullyQualifiedClassName = getModuleTypeNames().get(typeName);
+        if (fullyQualifiedClassName != null) {
+            return fullyQualifiedClassName;
+        }
+        return packageDescr.getName() + "." + typeName;
+    }
+
+    /**
+     * The class names of the module fields by simple name, the first field found wins. Built once per visited
+     * resource instead of scanning all the module fields for every unqualified type name.
+     */
+    private Map<String, String> getModuleTypeNames() {
+        if (moduleTypeNames == null) {
+            moduleTypeNames = new HashMap<>();
+            for (ModelField[] mfs : dmo.getModuleModelFields().values()) {
+                for (ModelField mf : mfs) {
+                    if (mf.getClassType().equals(ModelField.FIELD_CLASS_TYPE.REGULAR_CLASS)) {
+                        addModuleTypeName(mf.getClassName());
+                        addModuleTypeName(mf.getType());
                     }
                 }
             }
         }
-        return packageDescr.getName() + "." + typeName;
+        return moduleTypeNames;
+    }
+
+    private void addModuleTypeName(final String className) {
+        final int i = className.lastIndexOf('.');
+        if (i >= 0) {
+            moduleTypeNames.putIfAbsent(className.substring(i + 1),
+                                        className);
+        }
     }
 
     private String getPackagePrefix() {
@@ -23,9 +23,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
-import java.util.function.IntFunction;
 import java.util.function.Predicate;
-import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.annotation.PostConstruct;
 import javax.enterprise.context.ApplicationScoped;
@@ -59,6 +57,8 @@ import org.uberfire.paging.PageResponse;
 @ApplicationScoped
 public class RefactoringQueryServiceImpl implements RefactoringQueryService {
 
+    private static final int ALL_HITS = 0;
+
     private Logger logger = LoggerFactory.getLogger(RefactoringQueryServiceImpl.class);
 
     private MetadataConfig config;
@@ -107,16 +107,16 @@ public class RefactoringQueryServiceImpl implements RefactoringQueryService {
         final Sort sort = namedQuery.getSortOrder();
 
         try {
+            if (!request.distinctResults()) {
+                return (int) config.getIndexProvider().findHitsByQuery(Collections.emptyList(),
+                                                                       query);
+            }
             List<KObject> found = config.getIndexProvider().findByQuery(Collections.EMPTY_LIST,
                                                                         query,
                                                                         sort,
-                                                                        0);
-
-            if (request.distinctResults()) {
-                found = distinct(found);
-            }
+                                                                        ALL_HITS);
 
-            return found.size();
+            return distinct(found).size();
         } catch (final Exception ex) {
             String message = "Error during Query!";
             logger.error(message,
@@ -163,15 +163,16 @@ public class RefactoringQueryServiceImpl implements RefactoringQueryService {
         final int pageSize = request.getPageSize();
         final int startIndex = request.getStartRowIndex();
 
+        if (pageSize <= 0) {
+            return emptyResponse;
+        }
+
         List<KObject> kObjects
                 = search(query,
                          sort,
-                         () -> (startIndex),
-                         // start index of docs to get
-                         (numHits) -> (numHits - startIndex > pageSize ? pageSize : numHits - startIndex),
-                         request.distinctResults()
-                         // num docs to add to response
-        );
+                         startIndex,
+                         pageSize,
+                         request.distinctResults());
 
         if (!kObjects.isEmpty()) {
             final ResponseBuilder responseBuilder = namedQuery.getResponseBuilder();
@@ -202,12 +203,9 @@ public class RefactoringQueryServiceImpl implements RefactoringQueryService {
         final List<KObject> kObjects
                 = search(query,
                          sort,
-                         () -> (0),
-                         // start index of docs to get
-                         (numHits) -> (numHits),
-                         false
-                         // num docs to add to response
-        );
+                         0,
+                         ALL_HITS,
+                         false);
 
         if (!kObjects.isEmpty()) {
             final ResponseBuilder responseBuilder = namedQuery.getResponseBuilder();
@@ -217,10 +215,15 @@ public class RefactoringQueryServiceImpl implements RefactoringQueryService {
         }
     }
 
+    /**
+     * Only the hits up to the end of the requested page are read from the index. When duplicates have to be removed
+     * the hits are read again, twice as many each time, until the page is full or all the hits have been read.
+     * @param numOfHits number of hits to return, {@link #ALL_HITS} for all of them
+     */
     private List<KObject> search(final Query query,
                                  final Sort sort,
-                                 final Supplier<Integer> startIndexSupplier,
-                                 final IntFunction<Integer> numOfHitsToReturnSupplier,
+                                 final int startIndex,
+                                 final int numOfHits,
                                  final boolean distinct,
                                  final ClusterSegment... clusterSegments) {
 
@@ -229,23 +232,31 @@ public class RefactoringQueryServiceImpl implements RefactoringQueryService {
                     .map(clusterSegment -> clusterSegment.getClusterId())
                     .collect(Collectors.toList());
 
-            List<KObject> found = config.getIndexProvider().findByQuery(indices,
-                                                                        query,
-                                                                        sort,
-                                                                        0);
-
-            if (distinct) {
-                found = distinct(found);
+            final int endIndex = numOfHits == ALL_HITS ? Integer.MAX_VALUE : startIndex + numOfHits;
+            int limit = numOfHits == ALL_HITS ? ALL_HITS : endIndex;
+            List<KObject> found;
+            while (true) {
+                found = config.getIndexProvider().findByQuery(indices,
+                                                              query,
+                                                              sort,
+                                                              limit);
+                final boolean allHitsRead = limit == ALL_HITS || found.size() < limit;
+                if (distinct) {
+                    found = distinct(found);
+                }
+                if (allHitsRead || found.size() >= endIndex) {
+                    break;
+                }
+                limit = limit > Integer.MAX_VALUE / 2 ? ALL_HITS : limit * 2;
             }
-            final int startIndex = startIndexSupplier.get();
-            final int numOfHitsToReturn = numOfHitsToReturnSupplier.apply(found.size());
 
+            if (startIndex >= found.size()) {
+                return Collections.emptyList();
+            }
             return found.subList(startIndex,
-                                 startIndex + numOfHitsToReturn);
-        } catch (
-                final Exception ex)
-
-        {
+                                 Math.min(endIndex,
+                                          found.size()));
+        } catch (final Exception ex) {
             throw new RuntimeException("Error during Query!",
                                        ex);
         }
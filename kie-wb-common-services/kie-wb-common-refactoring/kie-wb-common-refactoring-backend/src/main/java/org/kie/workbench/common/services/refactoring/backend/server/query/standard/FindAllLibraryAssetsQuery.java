@@ -79,7 +79,7 @@ public class FindAllLibraryAssetsQuery
                                              null// not required
                                      },
                                      (t) -> (t instanceof LibraryValueRepositoryRootIndexTerm),
-                                     (t) -> (t instanceof LibraryValueFileNameIndexTerm),
+                                     (t) -> (t instanceof LibraryValueFileNameIndexTerm || t instanceof LibraryValueFileNameSubstringIndexTerm),
                                      (t) -> (t instanceof LibraryFileExtensionIndexTerm)
         );
 
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.refactoring.backend.server.query.standard;
+
+import org.jboss.errai.common.client.api.annotations.Portable;
+import org.kie.soup.commons.validation.PortablePreconditions;
+import org.kie.workbench.common.services.refactoring.model.index.terms.valueterms.ValueIndexTerm;
+
+/**
+ * Matches the library file names containing a text, the text is matched as is (no wildcards)
+ */
+@Portable
+public class LibraryValueFileNameSubstringIndexTerm extends LibraryFileNameSubstringIndexTerm implements ValueIndexTerm {
+
+    private String text;
+
+    public LibraryValueFileNameSubstringIndexTerm() {
+        //Errai marshalling
+    }
+
+    public LibraryValueFileNameSubstringIndexTerm(final String text) {
+        this.text = PortablePreconditions.checkNotNull("text",
+                                                       text);
+    }
+
+    @Override
+    public String getValue() {
+        return text;
+    }
+
+    @Override
+    public TermSearchType getSearchType() {
+        // every suffix of the file names is indexed
+        return TermSearchType.PREFIX;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.refactoring.backend.server.indexing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.analysis.tokenattributes.PositionIncrementAttribute;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class FileNameSubstringAnalyzerTest {
+
+    private final FileNameSubstringAnalyzer analyzer = new FileNameSubstringAnalyzer();
+
+    @Test
+    public void testAllSuffixesAreIndexed() throws Exception {
+        assertEquals(Arrays.asList("my-rule.drl",
+                                   "y-rule.drl",
+                                   "-rule.drl",
+                                   "rule.drl",
+                                   "ule.drl",
+                                   "le.drl",
+                                   "e.drl",
+                                   ".drl",
+                                   "drl",
+                                   "rl",
+                                   "l"),
+                     tokens("My-Rule.drl"));
+    }
+
+    @Test
+    public void testSuffixesShareThePosition() throws Exception {
+        try (TokenStream stream = analyzer.tokenStream("field",
+                                                       "abc")) {
+            final PositionIncrementAttribute posIncAtt = stream.addAttribute(PositionIncrementAttribute.class);
+            final List<Integer> increments = new ArrayList<>();
+            stream.reset();
+            while (stream.incrementToken()) {
+                increments.add(posIncAtt.getPositionIncrement());
+            }
+            stream.end();
+            assertEquals(Arrays.asList(1,
+                                       0,
+                                       0),
+                         increments);
+        }
+    }
+
+    @Test
+    public void testAnalyzerIsReusable() throws Exception {
+        assertEquals(Arrays.asList("ab",
+                                   "b"),
+                     tokens("ab"));
+        assertEquals(Arrays.asList("c"),
+                     tokens("C"));
+    }
+
+    private List<String> tokens(final String text) throws Exception {
+        final List<String> tokens = new ArrayList<>();
+        try (TokenStream stream = analyzer.tokenStream("field",
+                                                       text)) {
+            final CharTermAttribute termAtt = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                tokens.add(termAtt.toString());
+            }
+            stream.end();
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.refactoring.backend.server.indexing;
+
+import java.lang.management.ManagementFactory;
+import javax.management.ObjectName;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class IndexerMetricsTest {
+
+    private static final String INDEXER_ID = "IndexerMetricsTest";
+
+    @Test
+    public void testMBeanIsUnregistered() throws Exception {
+        final ObjectName name = new ObjectName(IndexerMetrics.MBEAN_NAME + ObjectName.quote(INDEXER_ID));
+
+        final IndexerMetrics metrics = IndexerMetrics.of(INDEXER_ID);
+        assertSame(metrics,
+                   IndexerMetrics.of(INDEXER_ID));
+        assertTrue(IndexerMetrics.isRegistered(INDEXER_ID));
+        assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+
+        IndexerMetrics.unregister(INDEXER_ID);
+
+        assertFalse(IndexerMetrics.isRegistered(INDEXER_ID));
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+    }
+
+    @Test
+    public void testUnregisterOfUnknownIndexerIsIgnored() {
+        IndexerMetrics.unregister("unknown");
+
+        assertFalse(IndexerMetrics.isRegistered("unknown"));
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.refactoring.backend.server.indexing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.uberfire.ext.metadata.model.KObject;
+import org.uberfire.java.nio.file.Path;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+public class IndexingReadAheadTest {
+
+    private final List<Path> indexed = new ArrayList<>();
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final List<Path> listed = new ArrayList<>();
+    private final Map<Path, KObject> kObjects = new HashMap<>();
+    private final IndexerMetrics metrics = new IndexerMetrics();
+
+    private Path folder;
+    private Path otherFolder;
+    private List<Path> files;
+
+    private IndexingReadAhead readAhead;
+
+    @Before
+    public void setUp() {
+        folder = mock(Path.class);
+        otherFolder = mock(Path.class);
+        files = Arrays.asList(file(folder),
+                              file(folder),
+                              file(folder),
+                              file(folder),
+                              file(folder));
+        final Function<Path, List<Path>> lister = f -> {
+            listed.add(f);
+            return f == folder ? files : new ArrayList<>();
+        };
+        final Executor workers = tasks::add;
+        readAhead = new IndexingReadAhead(this::index,
+                                          path -> path != files.get(3),
+                                          lister,
+                                          workers,
+                                          2,
+                                          metrics);
+    }
+
+    @Test
+    public void testSingleFileIsNotReadAhead() {
+        readAhead.batchStarted();
+        readAhead.toKObject(files.get(2));
+
+        assertEquals(Arrays.asList(files.get(2)),
+                     indexed);
+        assertEquals(0,
+                     listed.size());
+        assertEquals(0,
+                     readAhead.getPendingCount());
+    }
+
+    @Test
+    public void testFilesOutOfABatchAreNotReadAhead() {
+        readAhead.toKObject(files.get(0));
+        readAhead.toKObject(files.get(1));
+
+        assertEquals(0,
+                     listed.size());
+        assertEquals(0,
+                     tasks.size());
+        assertEquals(Arrays.asList(files.get(0),
+                                   files.get(1)),
+                     indexed);
+    }
+
+    @Test
+    public void testUpdateDuringABatchDoesNotGetThePendingFiles() throws Exception {
+        readAhead.batchStarted();
+        readAhead.toKObject(files.get(0));
+        readAhead.toKObject(files.get(1));
+        runTasks();
+
+        final Thread update = new Thread(() -> readAhead.toKObject(files.get(2)));
+        update.start();
+        update.join();
+
+        assertEquals(0,
+                     metrics.getReadAheadHits());
+        assertEquals(2,
+                     readAhead.getPendingCount());
+        assertEquals(1,
+                     listed.size());
+    }
+
+    @Test
+    public void testPendingFilesAreDroppedWhenTheBatchFinishes() {
+        readAhead.batchStarted();
+        readAhead.toKObject(files.get(0));
+        readAhead.toKObject(files.get(1));
+        assertEquals(2,
+                     readAhead.getPendingCount());
+
+        readAhead.batchFinished();
+        runTasks();
+
+        assertEquals(0,
+                     readAhead.getPendingCount());
+        assertEquals(2,
+                     indexed.size());
+    }
+
+    @Test
+    public void testFolderWalkIsReadAhead() {
+        readAhead.batchStarted();
+        readAhead.toKObject(files.get(0));
+        readAhead.toKObject(files.get(1));
+
+        assertEquals(Arrays.asList(folder),
+                     listed);
+        // files.get(3) is not supported
+        assertEquals(2,
+                     readAhead.getPendingCount());
+        assertEquals(2,
+                     tasks.size());
+
+        runTasks();
+        final KObject kObject = readAhead.toKObject(files.get(2));
+        assertSame(kObject(files.get(2)),
+                   kObject);
+        assertEquals(1,
+                     metrics.getReadAheadHits());
+
+        runTasks();
+        readAhead.toKObject(files.get(4));
+        assertEquals(2,
+                     metrics.getReadAheadHits());
+        assertEquals(files.size() - 1,
+                     indexed.size());
+        assertEquals(1,
+                     listed.size());
+    }
+
+    @Test
+    public void testPendingFilesAreDroppedOnAnotherFolder() {
+        readAhead.batchStarted();
+        readAhead.toKObject(files.get(0));
+        readAhead.toKObject(files.get(1));
+        assertEquals(2,
+                     readAhead.getPendingCount());
+
+        readAhead.toKObject(file(otherFolder));
+        runTasks();
+
+        assertEquals(0,
+                     readAhead.getPendingCount());
+        assertEquals(3,
+                     indexed.size());
+    }
+
+    private void runTasks() {
+        final List<Runnable> toRun = new ArrayList<>(tasks);
+        tasks.clear();
+        toRun.forEach(Runnable::run);
+    }
+
+    private KObject index(final Path path) {
+        indexed.add(path);
+        return kObject(path);
+    }
+
+    private KObject kObject(final Path path) {
+        return kObjects.computeIfAbsent(path,
+                                        p -> mock(KObject.class));
+    }
+
+    private static Path file(final Path folder) {
+        final Path file = mock(Path.class);
+        doReturn(folder).when(file).getParent();
+        return file;
+    }
+}
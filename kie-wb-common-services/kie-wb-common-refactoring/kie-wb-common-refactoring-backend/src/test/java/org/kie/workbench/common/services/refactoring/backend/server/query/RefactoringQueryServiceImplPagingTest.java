@@ -0,0 +1,204 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.refactoring.backend.server.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Sort;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.services.refactoring.backend.server.query.response.ResponseBuilder;
+import org.kie.workbench.common.services.refactoring.model.query.RefactoringPageRequest;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.uberfire.ext.metadata.MetadataConfig;
+import org.uberfire.ext.metadata.model.KObject;
+import org.uberfire.ext.metadata.provider.IndexProvider;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class RefactoringQueryServiceImplPagingTest {
+
+    private static final String QUERY_NAME = "query";
+
+    @Mock
+    private MetadataConfig config;
+
+    @Mock
+    private IndexProvider indexProvider;
+
+    @Mock
+    private NamedQueries namedQueries;
+
+    @Mock
+    private NamedQuery namedQuery;
+
+    @Mock
+    private ResponseBuilder responseBuilder;
+
+    private final List<KObject> hits = new ArrayList<>();
+
+    private RefactoringQueryServiceImpl service;
+
+    @Before
+    public void setUp() {
+        doReturn(indexProvider).when(config).getIndexProvider();
+        doReturn(namedQuery).when(namedQueries).findNamedQuery(QUERY_NAME);
+        doReturn(mock(Query.class)).when(namedQuery).toQuery(any());
+        doReturn(responseBuilder).when(namedQuery).getResponseBuilder();
+        doAnswer(invocation -> {
+            final int limit = invocation.getArgument(3);
+            return new ArrayList<>(limit == 0 ? hits : hits.subList(0,
+                                                                    Math.min(limit,
+                                                                             hits.size())));
+        }).when(indexProvider).findByQuery(anyList(),
+                                           any(Query.class),
+                                           any(),
+                                           anyInt());
+
+        service = new RefactoringQueryServiceImpl(config,
+                                                  namedQueries);
+        service.init();
+    }
+
+    @Test
+    public void testOnlyHitsUpToThePageAreRead() {
+        addHits(100,
+                1);
+
+        final List<KObject> page = query(20,
+                                         10,
+                                         false);
+
+        assertEquals(hits.subList(20,
+                                  30),
+                     page);
+        verify(indexProvider).findByQuery(anyList(),
+                                          any(Query.class),
+                                          any(),
+                                          eq(30));
+    }
+
+    @Test
+    public void testDistinctPageReadsMoreHitsWhenDuplicated() {
+        addHits(50,
+                3);
+
+        final List<KObject> page = query(5,
+                                         10,
+                                         true);
+
+        assertEquals(10,
+                     page.size());
+        assertEquals(service.distinct(hits).subList(5,
+                                                    15),
+                     page);
+        verify(indexProvider).findByQuery(anyList(),
+                                          any(Query.class),
+                                          any(),
+                                          eq(60));
+    }
+
+    @Test
+    public void testLastPage() {
+        addHits(25,
+                1);
+
+        assertEquals(hits.subList(20,
+                                  25),
+                     query(20,
+                           10,
+                           false));
+        assertEquals(Collections.emptyList(),
+                     query(30,
+                           10,
+                           false));
+    }
+
+    @Test
+    public void testHitCountIsReadFromTheIndex() {
+        doReturn(42L).when(indexProvider).findHitsByQuery(anyList(),
+                                                          any(Query.class));
+
+        assertEquals(42,
+                     service.queryHitCount(new RefactoringPageRequest(QUERY_NAME,
+                                                                      Collections.emptySet(),
+                                                                      0,
+                                                                      10,
+                                                                      false)));
+        verify(indexProvider,
+               never()).findByQuery(anyList(),
+                                    any(Query.class),
+                                    any(),
+                                    anyInt());
+    }
+
+    @Test
+    public void testDistinctHitCount() {
+        addHits(10,
+                2);
+
+        assertEquals(10,
+                     service.queryHitCount(new RefactoringPageRequest(QUERY_NAME,
+                                                                      Collections.emptySet(),
+                                                                      0,
+                                                                      10,
+                                                                      true)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<KObject> query(final int startIndex,
+                                final int pageSize,
+                                final boolean distinct) {
+        final ArgumentCaptor<List<KObject>> page = ArgumentCaptor.forClass(List.class);
+        doReturn(null).when(responseBuilder).buildResponse(anyInt(),
+                                                           anyInt(),
+                                                           page.capture());
+        service.query(new RefactoringPageRequest(QUERY_NAME,
+                                                 Collections.emptySet(),
+                                                 startIndex,
+                                                 pageSize,
+                                                 distinct));
+        return page.getAllValues().isEmpty() ? Collections.emptyList() : page.getValue();
+    }
+
+    private void addHits(final int count,
+                         final int copies) {
+        for (int i = 0; i < count; i++) {
+            final KObject kObject = mock(KObject.class);
+            doReturn("cluster").when(kObject).getClusterId();
+            doReturn("key" + i).when(kObject).getKey();
+            for (int j = 0; j < copies; j++) {
+                hits.add(kObject);
+            }
+        }
+    }
+}
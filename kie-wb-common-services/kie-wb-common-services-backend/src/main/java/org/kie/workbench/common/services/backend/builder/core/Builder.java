@@ -27,10 +27,12 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.LongConsumer;
 import java.util.function.Predicate;
 
 import org.appformer.maven.support.DependencyFilter;
 import org.appformer.maven.support.PomModel;
+import org.drools.compiler.compiler.io.memory.MemoryFileSystem;
 import org.drools.compiler.kie.builder.impl.InternalKieModule;
 import org.drools.compiler.kie.builder.impl.KieBuilderImpl;
 import org.drools.compiler.kie.builder.impl.KieContainerImpl;
@@ -100,7 +102,7 @@ public class Builder implements Serializable {
     private final IOService ioService;
     private final String projectPrefix;
 
-    private final Handles handles = new Handles();
+    private final Handles handles;
     private final KieModuleService moduleService;
     private final ProjectImportsService importsService;
     private final List<BuildValidationHelper> buildValidationHelpers;
@@ -114,6 +116,10 @@ public class Builder implements Serializable {
     private LRUModuleDependenciesClassLoaderCache dependenciesClassLoaderCache;
     private LRUPomModelCache pomModelCache;
     private PackageNameAllowListService packageNameAllowListService;
+    private volatile long estimatedSize;
+    private volatile KieModuleMetaData builtKieModuleMetaData;
+    private LongConsumer buildTimeListener = nanos -> {
+    };
 
     public Builder(final Module project,
                    final IOService ioService,
@@ -142,9 +148,43 @@ public class Builder implements Serializable {
         this.kieFileSystem = kieFileSystem;
         this.dependenciesClassLoaderCache = dependenciesClassLoaderCache;
         this.pomModelCache = pomModelCache;
+        this.handles = new Handles();
 
         DirectoryStream<Path> directoryStream = Files.newDirectoryStream(projectRoot);
         visitPaths(directoryStream);
+        this.estimatedSize = weigh();
+    }
+
+    /**
+     * Copies the state of a Builder without visiting the module again: the cloned KieFileSystem already holds every
+     * resource, only the lookups derived from the resources (handles, java classes, external validators) are copied.
+     */
+    private Builder(final Builder original,
+                    final KieBuilder kieBuilder,
+                    final KieFileSystem kieFileSystem) {
+        this.project = original.project;
+        this.ioService = original.ioService;
+        this.moduleService = original.moduleService;
+        this.importsService = original.importsService;
+        this.buildValidationHelpers = original.buildValidationHelpers;
+        this.packageNameAllowListService = original.packageNameAllowListService;
+        this.classFilter = original.classFilter;
+
+        this.projectGAV = original.projectGAV;
+        this.projectRoot = original.projectRoot;
+        this.projectPrefix = original.projectPrefix;
+        this.kieServices = original.kieServices;
+        this.kieBuilder = kieBuilder;
+        this.kieFileSystem = kieFileSystem;
+        this.dependenciesClassLoaderCache = original.dependenciesClassLoaderCache;
+        this.pomModelCache = original.pomModelCache;
+        this.handles = new Handles(original.handles);
+
+        this.javaResources.addAll(original.javaResources);
+        this.nonKieResourceValidationHelpers.putAll(original.nonKieResourceValidationHelpers);
+        this.nonKieResourceValidationHelperMessages.putAll(original.nonKieResourceValidationHelperMessages);
+        this.estimatedSize = original.estimatedSize;
+        this.builtKieModuleMetaData = original.builtKieModuleMetaData;
     }
 
     public Builder(final Module project,
@@ -170,20 +210,14 @@ public class Builder implements Serializable {
     }
 
     public Builder clone() {
-        final KieFileSystem kieFileSystemClone = kieFileSystemClone();
-        final KieBuilderImpl kieBuilder = kieBuilderClone(kieFileSystemClone);
-
-        return new Builder(project,
-                           ioService,
-                           moduleService,
-                           importsService,
-                           buildValidationHelpers,
-                           dependenciesClassLoaderCache,
-                           pomModelCache,
-                packageNameAllowListService,
-                           classFilter,
-                           kieBuilder,
-                           kieFileSystemClone);
+        synchronized (kieFileSystem) {
+            final KieFileSystem kieFileSystemClone = kieFileSystemClone();
+            final KieBuilderImpl kieBuilder = kieBuilderClone(kieFileSystemClone);
+
+            return new Builder(this,
+                               kieBuilder,
+                               kieFileSystemClone);
+        }
     }
 
     private KieFileSystem kieFileSystemClone() {
@@ -203,6 +237,7 @@ public class Builder implements Serializable {
     }
 
     public BuildResults build() {
+        final long start = System.nanoTime();
         final BuildResults results = new BuildResults(projectGAV);
         synchronized (kieFileSystem) {
             //KieBuilder is not re-usable for successive "full" builds
@@ -268,6 +303,12 @@ public class Builder implements Serializable {
 
         results.addAllBuildMessages(verifyClasses(kieModuleMetaData));
 
+        synchronized (kieFileSystem) {
+            estimatedSize = weigh();
+            builtKieModuleMetaData = kieModuleMetaData;
+        }
+
+        buildTimeListener.accept(System.nanoTime() - start);
         return results;
     }
 
@@ -370,8 +411,10 @@ public class Builder implements Serializable {
         final String destinationPath = destinationPath(path);
         final Resource inputStreamResource = KieServices.Factory.get().getResources().newInputStreamResource(new BufferedInputStream(inputStream));
 
+        final long previousSize = sizeOf(destinationPath);
         kieFileSystem.write(destinationPath,
                             inputStreamResource);
+        estimatedSize += sizeOf(destinationPath) - previousSize;
         handles.put(getBaseFileName(destinationPath),
                     Paths.convert(path));
         addJavaClass(path);
@@ -401,7 +444,9 @@ public class Builder implements Serializable {
     }
 
     private void removeResource(final Path resource) {
-        kieFileSystem.delete(destinationPath(resource));
+        final String destinationPath = destinationPath(resource);
+        estimatedSize -= sizeOf(destinationPath);
+        kieFileSystem.delete(destinationPath);
         removeJavaClass(resource);
     }
 
@@ -537,6 +582,7 @@ public class Builder implements Serializable {
 
     private void buildIncrementally(final IncrementalBuildResults results,
                                     final String... destinationPath) {
+        builtKieModuleMetaData = null;
         try {
             final IncrementalResults incrementalResults = ((InternalKieBuilder) kieBuilder).createFileSet(Message.Level.WARNING, destinationPath).build();
             results.addAllAddedMessages(convertMessages(incrementalResults.getAddedMessages(),
@@ -588,10 +634,31 @@ public class Builder implements Serializable {
     }
 
     public KieModuleMetaData getKieModuleMetaDataIgnoringErrors() {
+        //The metadata of the last full build is still valid as long as no incremental build happened
+        final KieModuleMetaData kieModuleMetaData = builtKieModuleMetaData;
+        if (kieModuleMetaData != null) {
+            return kieModuleMetaData;
+        }
         return KieModuleMetaData.Factory.newKieModuleMetaData(getKieModuleIgnoringErrors(),
                                                               DependencyFilter.COMPILE_FILTER);
     }
 
+    /**
+     * Rough estimate of the memory held by this Builder: the bytes of the resources and, once built, of the
+     * compiled KieModule. The dependencies are shared between the builders and are not accounted. The full builds
+     * measure everything again, the incremental builds only add the size difference of the changed resources.
+     */
+    public long getEstimatedSize() {
+        return estimatedSize;
+    }
+
+    /**
+     * @param buildTimeListener receives the duration in nanoseconds of every full build
+     */
+    void setBuildTimeListener(final LongConsumer buildTimeListener) {
+        this.buildTimeListener = buildTimeListener;
+    }
+
     public TypeSourceResolver getTypeSourceResolver(KieModuleMetaData kieModuleMetaData) {
         return new TypeSourceResolver(kieModuleMetaData,
                                       javaResources);
@@ -631,6 +698,33 @@ public class Builder implements Serializable {
         return kieBuilder != null;
     }
 
+    private long weigh() {
+        long size = sizeOf(((KieFileSystemImpl) kieFileSystem).getMfs());
+        if (kieBuilder != null) {
+            final org.kie.api.builder.KieModule kieModule = ((KieBuilderImpl) kieBuilder).getKieModuleIgnoringErrors();
+            if (kieModule instanceof MemoryKieModule) {
+                size += sizeOf(((MemoryKieModule) kieModule).getMemoryFileSystem());
+            }
+        }
+        return size;
+    }
+
+    private long sizeOf(final String destinationPath) {
+        final byte[] bytes = ((KieFileSystemImpl) kieFileSystem).getMfs().getBytes(destinationPath);
+        return bytes != null ? bytes.length : 0;
+    }
+
+    private static long sizeOf(final MemoryFileSystem mfs) {
+        long size = 0;
+        for (String fileName : mfs.getFileNames()) {
+            final byte[] bytes = mfs.getBytes(fileName);
+            if (bytes != null) {
+                size += bytes.length;
+            }
+        }
+        return size;
+    }
+
     private void visitPaths(final DirectoryStream<Path> directoryStream) {
         for (final Path path : directoryStream) {
             if (Files.isDirectory(path)) {
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.builder.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+class BuilderCacheMetrics implements BuilderCacheMetricsMBean {
+
+    private final LRUBuilderCache cache;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong evictedBytes = new AtomicLong();
+    private final AtomicLong rebuildTimeNanos = new AtomicLong();
+
+    BuilderCacheMetrics(final LRUBuilderCache cache) {
+        this.cache = cache;
+    }
+
+    void hit() {
+        hits.incrementAndGet();
+    }
+
+    void miss() {
+        misses.incrementAndGet();
+    }
+
+    void rebuilt(final long buildNanos) {
+        rebuildTimeNanos.addAndGet(buildNanos);
+    }
+
+    void evicted(final long bytes) {
+        evictions.incrementAndGet();
+        evictedBytes.addAndGet(bytes);
+    }
+
+    @Override
+    public long getHits() {
+        return hits.get();
+    }
+
+    @Override
+    public long getMisses() {
+        return misses.get();
+    }
+
+    @Override
+    public int getEntries() {
+        return cache.getEntriesCount();
+    }
+
+    @Override
+    public long getEstimatedBytes() {
+        return cache.getEstimatedBytes();
+    }
+
+    @Override
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    @Override
+    public long getEvictedBytes() {
+        return evictedBytes.get();
+    }
+
+    @Override
+    public long getRebuildTimeMillis() {
+        return rebuildTimeNanos.get() / 1_000_000;
+    }
+}
@@ -15,9 +15,17 @@
  */
 package org.kie.workbench.common.services.backend.builder.core;
 
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 import org.guvnor.common.services.project.builder.model.BuildMessage;
 import org.kie.scanner.KieModuleMetaData;
@@ -28,18 +36,37 @@ import org.slf4j.LoggerFactory;
 
 import static org.kie.workbench.common.services.backend.builder.core.BuildMessageBuilder.*;
 
+/**
+ * Verifies that the classes of the external dependencies can be loaded and reflected. The outcome of every dependency
+ * class is remembered for the classpath it was verified with (jars, sizes and modification times), so the next builds of
+ * the modules with the same dependencies skip the classes already verified.
+ */
 public class ClassVerifier {
 
     private static final Logger logger = LoggerFactory.getLogger(ClassVerifier.class);
 
+    protected static final String VERIFIER_CACHE_SIZE = "org.kie.builder.verifier.cache.size";
+    protected static final String DEFAULT_VERIFIER_CACHE_SIZE = "20";
+    protected static final int MAX_CLASSPATHS = Integer.parseInt(System.getProperty(VERIFIER_CACHE_SIZE,
+                                                                                   DEFAULT_VERIFIER_CACHE_SIZE));
+
     private final static String ERROR_EXTERNAL_CLASS_VERIFICATION = "Verification of class {0} failed and will not be available for authoring.\n" +
             "Underlying system error is: {1}. Please check the necessary external dependencies for this project are configured correctly.";
 
+    /**
+     * Verification outcomes by classpath, each one maps the verified class to its failure message, empty if verified
+     */
+    private static final Map<String, Map<String, Optional<String>>> verifiedByClasspath = Collections.synchronizedMap(
+            new LinkedHashMap<String, Map<String, Optional<String>>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<String, Map<String, Optional<String>>> eldest) {
+                    return size() > MAX_CLASSPATHS;
+                }
+            });
+
     private final TypeSourceResolver typeSourceResolver;
     private final KieModuleMetaData kieModuleMetaData;
 
-    private final List<BuildMessage> buildMessages = new ArrayList<BuildMessage>();
-
     public ClassVerifier(final KieModuleMetaData kieModuleMetaData,
                          final TypeSourceResolver typeSourceResolver) {
         this.kieModuleMetaData = kieModuleMetaData;
@@ -47,20 +74,54 @@ public class ClassVerifier {
     }
 
     public List<BuildMessage> verify(AllowList allowList) {
+        final long start = System.currentTimeMillis();
+        final Map<String, Optional<String>> verified = getVerifiedClasses();
+        final List<String> packages = kieModuleMetaData.getPackages().stream()
+                .filter(allowList::contains)
+                .collect(Collectors.toList());
+
+        final List<BuildMessage> buildMessages = packages.stream()
+                .map(packageName -> verifyPackage(packageName,
+                                                  verified))
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Verified {} packages in {} ms", packages.size(), System.currentTimeMillis() - start);
+        }
+        return buildMessages;
+    }
 
-        for (final String packageName : kieModuleMetaData.getPackages()) {
-            if (allowList.contains(packageName)) {
-                for (final String className : kieModuleMetaData.getClasses(packageName)) {
-                    verifyClass(packageName,
-                                className);
-                }
+    private List<BuildMessage> verifyPackage(final String packageName,
+                                             final Map<String, Optional<String>> verified) {
+        final long start = System.currentTimeMillis();
+        final List<BuildMessage> buildMessages = new ArrayList<>();
+        int skipped = 0;
+        for (final String className : kieModuleMetaData.getClasses(packageName)) {
+            final String fqcn = toFQCN(packageName,
+                                       className);
+            final Optional<String> outcome = verified != null && isInJar(fqcn) ? verified.get(fqcn) : null;
+            if (outcome != null) {
+                skipped++;
+                outcome.ifPresent(msg -> buildMessages.add(makeWarningMessage(msg)));
+            } else {
+                verifyClass(packageName,
+                            className,
+                            verified,
+                            buildMessages);
             }
         }
+        if (logger.isDebugEnabled()) {
+            logger.debug("Verified package {} in {} ms, {} classes already verified",
+                         packageName, System.currentTimeMillis() - start, skipped);
+        }
         return buildMessages;
     }
 
     private void verifyClass(final String packageName,
-                             final String className) {
+                             final String className,
+                             final Map<String, Optional<String>> verified,
+                             final List<BuildMessage> buildMessages) {
 
         try {
             final Class clazz = kieModuleMetaData.getClass(packageName,
@@ -68,6 +129,10 @@ public class ClassVerifier {
             if (clazz != null) {
                 if (TypeSource.JAVA_DEPENDENCY == typeSourceResolver.getTypeSource(clazz)) {
                     verifyExternalClass(clazz);
+                    if (verified != null && isInJar(toFQCN(packageName, className))) {
+                        verified.put(toFQCN(packageName, className),
+                                     Optional.empty());
+                    }
                 }
             } else {
                 logger.warn(MessageFormat.format(ERROR_EXTERNAL_CLASS_VERIFICATION,
@@ -81,6 +146,39 @@ public class ClassVerifier {
             logger.warn(msg);
             logger.debug("This state is usually encountered when the Project references a class not on the classpath; e.g. in a Maven 'provided' scope or 'optional' dependency.", e);
             buildMessages.add(makeWarningMessage(msg));
+            if (verified != null && isInJar(toFQCN(packageName, className))) {
+                verified.put(toFQCN(packageName, className),
+                             Optional.of(msg));
+            }
+        }
+    }
+
+    /**
+     * Only the classes of the dependency jars are remembered, the classes of the project change at every build
+     */
+    private boolean isInJar(final String fqcn) {
+        final URL resource = kieModuleMetaData.getClassLoader().getResource(fqcn.replace('.', '/') + ".class");
+        return resource != null && "jar".equals(resource.getProtocol());
+    }
+
+    /**
+     * @return the outcomes already known for the dependencies classpath of the module, null if it can't be identified
+     */
+    private Map<String, Optional<String>> getVerifiedClasses() {
+        try {
+            final ClassLoader dependencies = kieModuleMetaData.getClassLoader().getParent();
+            if (!(dependencies instanceof URLClassLoader)) {
+                return null;
+            }
+            final StringBuilder classpath = new StringBuilder();
+            for (URL url : ((URLClassLoader) dependencies).getURLs()) {
+                classpath.append(DependencyJars.fingerprintOf(url)).append(';');
+            }
+            return verifiedByClasspath.computeIfAbsent(classpath.toString(),
+                                                       k -> new ConcurrentHashMap<>());
+        } catch (Exception e) {
+            logger.debug("Unable to identify the dependencies classpath, the classes will be verified", e);
+            return null;
         }
     }
 
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.builder.core;
+
+import java.io.File;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Identity of the entries of a dependencies classpath: location, size and modification time, so a jar rewritten in the
+ * local repository (e.g. a reinstalled SNAPSHOT) changes the identity of the classpath.
+ */
+final class DependencyJars {
+
+    private static final String FILE_PROTOCOL = "file";
+    private static final String JAR_EXT = ".jar";
+
+    private DependencyJars() {
+    }
+
+    /**
+     * @return the jars of the classpath, null if it contains anything else than local jars
+     */
+    static List<String> keyOf(final URL[] urls) {
+        final List<String> jars = new ArrayList<>(urls.length);
+        for (URL url : urls) {
+            if (!FILE_PROTOCOL.equals(url.getProtocol()) || !url.getPath().endsWith(JAR_EXT)) {
+                return null;
+            }
+            jars.add(fingerprintOf(url));
+        }
+        return jars;
+    }
+
+    /**
+     * @return the external form of the URL, followed by the size and the modification time of a local file
+     */
+    static String fingerprintOf(final URL url) {
+        if (!FILE_PROTOCOL.equals(url.getProtocol())) {
+            return url.toExternalForm();
+        }
+        final File file = toFile(url);
+        return url.toExternalForm() + ':' + file.length() + ':' + file.lastModified();
+    }
+
+    /**
+     * The path of a file URL is escaped (spaces, non ASCII characters), it's decoded through the URI. A URL built
+     * without escaping its path isn't a valid URI, its path is used as is.
+     */
+    static File toFile(final URL url) {
+        try {
+            return Paths.get(url.toURI()).toFile();
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return new File(url.getPath());
+        }
+    }
+}
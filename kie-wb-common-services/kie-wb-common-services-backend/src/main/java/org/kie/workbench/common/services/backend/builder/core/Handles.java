@@ -26,6 +26,13 @@ class Handles {
 
     private Map<String, Path> handles = new HashMap<String, Path>();
 
+    Handles() {
+    }
+
+    Handles(final Handles other) {
+        handles.putAll(other.handles);
+    }
+
     void put(String baseFileName, Path path) {
         handles.put(baseFileName, path);
     }
@@ -15,8 +15,13 @@
  */
 package org.kie.workbench.common.services.backend.builder.core;
 
+import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
@@ -26,6 +31,9 @@ import javax.enterprise.inject.Any;
 import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
 import javax.inject.Named;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
 
 import org.guvnor.common.services.backend.cache.LRUCache;
 import org.guvnor.common.services.project.builder.events.InvalidateDMOModuleCacheEvent;
@@ -46,7 +54,8 @@ import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.StreamSupport.stream;
 
 /**
- * A simple LRU cache for Builders
+ * A LRU cache for Builders. Besides the number of entries, the cache is bounded by the estimated size of the Builders
+ * and evicts the Builders idle for too long.
  */
 @ApplicationScoped
 public class LRUBuilderCache extends LRUCache<Module, Builder> {
@@ -56,6 +65,11 @@ public class LRUBuilderCache extends LRUCache<Module, Builder> {
     protected static final String DEFAULT_BUILDER_CACHE_SIZE = "20";
     protected static final int MAX_ENTRIES = Integer.parseInt(validateCacheSize(System.getProperty(BUILDER_CACHE_SIZE,
                                                                                                  DEFAULT_BUILDER_CACHE_SIZE)));
+    protected static final String BUILDER_CACHE_MAX_WEIGHT = "org.kie.builder.cache.maxWeightMb";
+    protected static final String DEFAULT_BUILDER_CACHE_MAX_WEIGHT = "512";
+    protected static final String BUILDER_CACHE_IDLE_TIMEOUT = "org.kie.builder.cache.idleTimeoutMinutes";
+    protected static final String DEFAULT_BUILDER_CACHE_IDLE_TIMEOUT = "60";
+    private static final String MBEAN_NAME = "org.kie.workbench.common.services:type=LRUBuilderCache";
 
     private final List<BuildValidationHelper> buildValidationHelpers = new ArrayList<>();
     private final List<Predicate<String>> classFilters = new ArrayList<>();
@@ -68,10 +82,34 @@ public class LRUBuilderCache extends LRUCache<Module, Builder> {
     private PackageNameAllowListServiceImpl packageNameAllowListService;
     private Instance<Predicate<String>> classFilterBeans;
 
+    private final Map<Module, Usage> usages = new HashMap<>();
+    private final BuilderCacheMetrics metrics = new BuilderCacheMetrics(this);
+    private long maxWeight = Long.parseLong(validateNumber(BUILDER_CACHE_MAX_WEIGHT,
+                                                           System.getProperty(BUILDER_CACHE_MAX_WEIGHT,
+                                                                              DEFAULT_BUILDER_CACHE_MAX_WEIGHT),
+                                                           DEFAULT_BUILDER_CACHE_MAX_WEIGHT)) * 1024 * 1024;
+    private long idleTimeout = Long.parseLong(validateNumber(BUILDER_CACHE_IDLE_TIMEOUT,
+                                                             System.getProperty(BUILDER_CACHE_IDLE_TIMEOUT,
+                                                                                DEFAULT_BUILDER_CACHE_IDLE_TIMEOUT),
+                                                             DEFAULT_BUILDER_CACHE_IDLE_TIMEOUT)) * 60 * 1000;
+    private boolean registered;
+    private long accesses;
+
     public LRUBuilderCache() {
         //CDI proxy
     }
 
+    /**
+     * @param maxWeight estimated bytes of all the Builders, 0 for no limit
+     * @param idleTimeout milliseconds after which an unused Builder is evicted, 0 to never evict idle Builders
+     */
+    LRUBuilderCache(final long maxWeight,
+                    final long idleTimeout) {
+        super(MAX_ENTRIES);
+        this.maxWeight = maxWeight;
+        this.idleTimeout = idleTimeout;
+    }
+
     @Inject
     public LRUBuilderCache(final @Named("ioStrategy") IOService ioService,
                            final KieModuleService moduleService,
@@ -98,18 +136,28 @@ public class LRUBuilderCache extends LRUCache<Module, Builder> {
                false).collect(toCollection(() -> buildValidationHelpers));
         stream(classFilterBeans.spliterator(),
                false).collect(toCollection(() -> classFilters));
+        registerMBean();
     }
 
     @PreDestroy
     public void destroyInstances() {
         buildValidationHelpers.forEach(helper -> buildValidationHelperBeans.destroy(helper));
         classFilters.forEach(filter -> classFilterBeans.destroy(filter));
+        unregisterMBean();
     }
 
     protected static String validateCacheSize(final String value) {
+        return validateNumber(BUILDER_CACHE_SIZE,
+                              value,
+                              DEFAULT_BUILDER_CACHE_SIZE);
+    }
+
+    protected static String validateNumber(final String property,
+                                           final String value,
+                                           final String defaultValue) {
         if (value == null || value.length() == 0 || !value.matches("^[0-9]*$")) {
-            logger.error("Illeagal Argument : Property {} should be a positive integer", BUILDER_CACHE_SIZE);
-            return DEFAULT_BUILDER_CACHE_SIZE;
+            logger.error("Illeagal Argument : Property {} should be a positive integer", property);
+            return defaultValue;
         }
         return value;
     }
@@ -125,6 +173,12 @@ public class LRUBuilderCache extends LRUCache<Module, Builder> {
         }
     }
 
+    @Override
+    public synchronized void invalidateCache(final Module module) {
+        super.invalidateCache(module);
+        usages.remove(module);
+    }
+
     public Builder assertBuilder(POM pom)
             throws NoBuilderFoundException {
         for (Module project : getKeys()) {
@@ -140,30 +194,193 @@ public class LRUBuilderCache extends LRUCache<Module, Builder> {
     }
 
     public Builder getBuilder(final Module module) {
-        return getEntry(module);
+        final Builder builder = getEntry(module);
+        if (builder != null) {
+            touch(module);
+        }
+        return builder;
     }
 
     private Builder makeBuilder(final Module module) {
         Builder builder = getEntry(module);
-        if (builder == null) {
-            builder = new Builder(module,
-                                  ioService,
-                                  moduleService,
-                                  importsService,
-                                  buildValidationHelpers,
-                                  dependenciesClassLoaderCache,
-                                  pomModelCache,
-                    packageNameAllowListService,
-                                  createSingleClassFilterPredicate());
-
-            setEntry(module,
-                     builder);
+        if (builder != null) {
+            metrics.hit();
+            touch(module);
+            return builder;
         }
+        metrics.miss();
+        builder = new Builder(module,
+                              ioService,
+                              moduleService,
+                              importsService,
+                              buildValidationHelpers,
+                              dependenciesClassLoaderCache,
+                              pomModelCache,
+                              packageNameAllowListService,
+                              createSingleClassFilterPredicate());
+        builder.setBuildTimeListener(metrics::rebuilt);
+
+        put(module,
+            builder);
         return builder;
     }
 
+    synchronized void put(final Module module,
+                          final Builder builder) {
+        releaseInvalidated();
+        usages.remove(module);
+        evict(null,
+              builder.getEstimatedSize(),
+              MAX_ENTRIES - 1);
+        setEntry(module,
+                 builder);
+        usages.put(module,
+                   new Usage(builder,
+                             ++accesses));
+    }
+
+    /**
+     * Builders grow once built, the limits are checked again on every access
+     */
+    private synchronized void touch(final Module module) {
+        final Usage usage = usages.get(module);
+        if (usage != null) {
+            usage.lastAccess = System.currentTimeMillis();
+            usage.order = ++accesses;
+        }
+        evict(module,
+              0,
+              MAX_ENTRIES);
+    }
+
+    /**
+     * Evicts the Builders idle for too long, then the least recently used ones until the limits are met
+     * @param keep the module being accessed, never evicted
+     */
+    private void evict(final Module keep,
+                       final long incomingWeight,
+                       final int maxEntries) {
+        final long now = System.currentTimeMillis();
+        long weight = incomingWeight;
+        Module eldest = null;
+        long eldestOrder = Long.MAX_VALUE;
+        for (Map.Entry<Module, Usage> entry : new ArrayList<>(usages.entrySet())) {
+            if (entry.getKey().equals(keep)) {
+                weight += entry.getValue().builder.getEstimatedSize();
+            } else if (idleTimeout > 0 && now - entry.getValue().lastAccess > idleTimeout) {
+                evict(entry.getKey());
+            } else {
+                weight += entry.getValue().builder.getEstimatedSize();
+                if (entry.getValue().order < eldestOrder) {
+                    eldest = entry.getKey();
+                    eldestOrder = entry.getValue().order;
+                }
+            }
+        }
+        if (eldest != null && (usages.size() > maxEntries || (maxWeight > 0 && weight > maxWeight))) {
+            evict(eldest);
+            evict(keep,
+                  incomingWeight,
+                  maxEntries);
+        }
+    }
+
+    private void evict(final Module module) {
+        final Usage usage = usages.remove(module);
+        super.invalidateCache(module);
+        final long size = usage.builder.getEstimatedSize();
+        metrics.evicted(size);
+        logger.debug("Builder of {} evicted, {} bytes",
+                     module.getModuleName(),
+                     size);
+    }
+
+    /**
+     * Builders can be removed by the superclass on its own (e.g. when the whole cache is invalidated)
+     */
+    private void releaseInvalidated() {
+        final Set<Module> cached = new HashSet<>();
+        for (Module module : getKeys()) {
+            cached.add(module);
+        }
+        usages.keySet().retainAll(cached);
+    }
+
+    /**
+     * @return the modules of the cached Builders, the most recently used first
+     */
+    public synchronized List<Module> getRecentlyUsedModules(final int max) {
+        releaseInvalidated();
+        final List<Map.Entry<Module, Usage>> entries = new ArrayList<>(usages.entrySet());
+        entries.sort((e1, e2) -> Long.compare(e2.getValue().order,
+                                              e1.getValue().order));
+        final List<Module> modules = new ArrayList<>();
+        for (int i = 0; i < entries.size() && i < max; i++) {
+            modules.add(entries.get(i).getKey());
+        }
+        return modules;
+    }
+
+    synchronized int getEntriesCount() {
+        return usages.size();
+    }
+
+    synchronized long getEstimatedBytes() {
+        long weight = 0;
+        for (Usage usage : usages.values()) {
+            weight += usage.builder.getEstimatedSize();
+        }
+        return weight;
+    }
+
+    BuilderCacheMetricsMBean getMetrics() {
+        return metrics;
+    }
+
+    private void registerMBean() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(metrics,
+                                                                     new ObjectName(MBEAN_NAME));
+            registered = true;
+        } catch (InstanceAlreadyExistsException e) {
+            logger.debug("MBean {} already registered",
+                         MBEAN_NAME);
+        } catch (JMException e) {
+            logger.warn("Unable to register MBean {}: {}",
+                        MBEAN_NAME,
+                        e.getMessage());
+        }
+    }
+
+    private void unregisterMBean() {
+        if (!registered) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(new ObjectName(MBEAN_NAME));
+            registered = false;
+        } catch (JMException e) {
+            logger.warn("Unable to unregister MBean {}: {}",
+                        MBEAN_NAME,
+                        e.getMessage());
+        }
+    }
+
     private Predicate<String> createSingleClassFilterPredicate() {
         return classFilters.stream().reduce(o -> true,
                                             (p1, p2) -> p1.and(p2));
     }
+
+    private static class Usage {
+
+        private final Builder builder;
+        private long lastAccess = System.currentTimeMillis();
+        private long order;
+
+        Usage(final Builder builder,
+              final long order) {
+            this.builder = builder;
+            this.order = order;
+        }
+    }
 }
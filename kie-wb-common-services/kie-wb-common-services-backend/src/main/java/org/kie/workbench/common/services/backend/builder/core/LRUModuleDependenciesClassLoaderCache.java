@@ -17,6 +17,13 @@
 package org.kie.workbench.common.services.backend.builder.core;
 
 import java.net.URLClassLoader;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
@@ -26,13 +33,23 @@ import org.guvnor.common.services.backend.cache.LRUCache;
 import org.kie.scanner.KieModuleMetaData;
 import org.kie.workbench.common.services.backend.builder.service.BuildInfoService;
 import org.kie.workbench.common.services.shared.project.KieModule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+/**
+ * LRU cache of the dependencies ClassLoader of the modules. The modules resolving exactly the same jars share the same
+ * ClassLoader, which is reference counted by module and dropped once no cached module refers to it anymore.
+ */
 @ApplicationScoped
 @Named("LRUModuleDependenciesClassLoaderCache")
 public class LRUModuleDependenciesClassLoaderCache
         extends LRUCache<KieModule, ClassLoader> {
 
+    private static final Logger logger = LoggerFactory.getLogger(LRUModuleDependenciesClassLoaderCache.class);
+
     private BuildInfoService buildInfoService;
+    private final Map<DependenciesKey, SharedClassLoader> sharedClassLoaders = new HashMap<>();
+    private final Map<KieModule, DependenciesKey> moduleKeys = new HashMap<>();
 
     public LRUModuleDependenciesClassLoaderCache() {
     }
@@ -49,9 +66,8 @@ public class LRUModuleDependenciesClassLoaderCache
     public ClassLoader assertDependenciesClassLoader(final KieModule module) {
         ClassLoader classLoader = getEntry(module);
         if (classLoader == null) {
-            classLoader = buildClassLoader(module);
-            setEntry(module,
-                     classLoader);
+            classLoader = register(module,
+                                   buildClassLoader(module));
         }
         return classLoader;
     }
@@ -82,13 +98,129 @@ public class LRUModuleDependenciesClassLoaderCache
     }
 
     public void setDependenciesClassLoader(final KieModule module,
-                                                        final ClassLoader classLoader) {
-        setEntry(module,
+                                           final ClassLoader classLoader) {
+        register(module,
                  classLoader);
     }
 
+    synchronized int getSharedClassLoadersCount() {
+        return sharedClassLoaders.size();
+    }
+
+    private synchronized ClassLoader register(final KieModule module,
+                                              final ClassLoader classLoader) {
+        releaseEvicted();
+        final DependenciesKey previous = moduleKeys.remove(module);
+        if (previous != null) {
+            release(module,
+                    previous);
+        }
+        ClassLoader shared = classLoader;
+        final DependenciesKey key = DependenciesKey.of(classLoader);
+        if (key != null) {
+            final SharedClassLoader entry = sharedClassLoaders.computeIfAbsent(key,
+                                                                               k -> new SharedClassLoader(classLoader));
+            entry.holders.add(module);
+            moduleKeys.put(module,
+                           key);
+            shared = entry.classLoader;
+            if (logger.isDebugEnabled()) {
+                logger.debug("Dependencies ClassLoader of {} shared by {} modules, {} distinct ClassLoaders",
+                             module.getModuleName(),
+                             entry.holders.size(),
+                             sharedClassLoaders.size());
+            }
+        }
+        setEntry(module,
+                 shared);
+        return shared;
+    }
+
+    /**
+     * The LRU evicts or invalidates the modules on its own, their references are released lazily
+     */
+    private void releaseEvicted() {
+        final Set<KieModule> cached = new HashSet<>();
+        for (KieModule module : getKeys()) {
+            cached.add(module);
+        }
+        final Iterator<Map.Entry<KieModule, DependenciesKey>> it = moduleKeys.entrySet().iterator();
+        while (it.hasNext()) {
+            final Map.Entry<KieModule, DependenciesKey> entry = it.next();
+            if (!cached.contains(entry.getKey())) {
+                it.remove();
+                release(entry.getKey(),
+                        entry.getValue());
+            }
+        }
+    }
+
+    private void release(final KieModule module,
+                         final DependenciesKey key) {
+        final SharedClassLoader entry = sharedClassLoaders.get(key);
+        if (entry != null && entry.holders.remove(module) && entry.holders.isEmpty()) {
+            sharedClassLoaders.remove(key);
+        }
+    }
+
     private ClassLoader buildClassLoader(final KieModule module) {
         return buildClassLoader(module,
                                 KieModuleMetaData.Factory.newKieModuleMetaData(buildInfoService.getBuildInfo(module).getKieModuleIgnoringErrors()));
     }
+
+    private static class SharedClassLoader {
+
+        private final ClassLoader classLoader;
+        private final Set<KieModule> holders = new HashSet<>();
+
+        SharedClassLoader(final ClassLoader classLoader) {
+            this.classLoader = classLoader;
+        }
+    }
+
+    /**
+     * The jars of a ClassLoader and its parent. A jar rewritten in the local repository (e.g. a reinstalled SNAPSHOT)
+     * changes the key, a ClassLoader with folders in its classpath is never shared.
+     */
+    private static class DependenciesKey {
+
+        private final ClassLoader parent;
+        private final List<String> jars;
+
+        private DependenciesKey(final ClassLoader parent,
+                                final List<String> jars) {
+            this.parent = parent;
+            this.jars = jars;
+        }
+
+        static DependenciesKey of(final ClassLoader classLoader) {
+            if (!(classLoader instanceof URLClassLoader)) {
+                return null;
+            }
+            final List<String> jars = DependencyJars.keyOf(((URLClassLoader) classLoader).getURLs());
+            if (jars == null) {
+                return null;
+            }
+            return new DependenciesKey(classLoader.getParent(),
+                                       jars);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof DependenciesKey)) {
+                return false;
+            }
+            final DependenciesKey that = (DependenciesKey) o;
+            return parent == that.parent && jars.equals(that.jars);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(parent),
+                                jars);
+        }
+    }
 }
\ No newline at end of file
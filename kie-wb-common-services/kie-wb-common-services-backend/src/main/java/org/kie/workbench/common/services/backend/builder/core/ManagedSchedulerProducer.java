@@ -0,0 +1,84 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.builder.core;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.Produces;
+import javax.enterprise.inject.Typed;
+import javax.inject.Named;
+import javax.naming.InitialContext;
+import javax.naming.NamingException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Provides the ManagedScheduledExecutorService of the container for the delayed tasks of the backend (debounced
+ * builds, pre-warming), so the delays are waited by the scheduler instead of sleeping threads of the managed executor.
+ * Outside of a Java EE container a single daemon thread is used instead.
+ */
+@ApplicationScoped
+public class ManagedSchedulerProducer {
+
+    public static final String MANAGED_SCHEDULER = "managedScheduler";
+
+    static final String DEFAULT_MANAGED_SCHEDULER_JNDI = "java:comp/DefaultManagedScheduledExecutorService";
+
+    private static final Logger logger = LoggerFactory.getLogger(ManagedSchedulerProducer.class);
+
+    private ScheduledExecutorService scheduler;
+    private ScheduledThreadPoolExecutor unmanagedScheduler;
+
+    @Produces
+    @Typed(ScheduledExecutorService.class)
+    @Named(MANAGED_SCHEDULER)
+    public synchronized ScheduledExecutorService getScheduler() {
+        if (scheduler == null) {
+            scheduler = lookupManagedScheduler();
+        }
+        if (scheduler == null) {
+            logger.debug("No managed scheduled executor service available, using an unmanaged thread");
+            unmanagedScheduler = new ScheduledThreadPoolExecutor(1,
+                                                                 runnable -> {
+                                                                     final Thread thread = new Thread(runnable,
+                                                                                                      "kie-scheduler");
+                                                                     thread.setDaemon(true);
+                                                                     return thread;
+                                                                 });
+            unmanagedScheduler.setRemoveOnCancelPolicy(true);
+            scheduler = unmanagedScheduler;
+        }
+        return scheduler;
+    }
+
+    @PreDestroy
+    public synchronized void destroy() {
+        if (unmanagedScheduler != null) {
+            unmanagedScheduler.shutdownNow();
+        }
+    }
+
+    private ScheduledExecutorService lookupManagedScheduler() {
+        try {
+            return (ScheduledExecutorService) new InitialContext().lookup(DEFAULT_MANAGED_SCHEDULER_JNDI);
+        } catch (NamingException | ClassCastException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.builder.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.workbench.events.ResourceChange;
+
+/**
+ * Collects the changes of the resources of a module until no change happened for a window, then hands them over as
+ * a single batch. A continuous stream of changes is flushed anyway after {@link #MAX_WINDOWS} windows.
+ * The end of the window is awaited on the scheduler, the batch is handed over on the executor.
+ */
+class ResourceChangeBatcher {
+
+    static final int MAX_WINDOWS = 10;
+
+    private static final Logger logger = LoggerFactory.getLogger(ResourceChangeBatcher.class);
+
+    private final ScheduledExecutorService scheduler;
+    private final Executor executor;
+    private final Consumer<Map<Path, Collection<ResourceChange>>> flush;
+    private final Map<String, PendingChanges> pendingChanges = new HashMap<>();
+
+    ResourceChangeBatcher(final ScheduledExecutorService scheduler,
+                          final Executor executor,
+                          final Consumer<Map<Path, Collection<ResourceChange>>> flush) {
+        this.scheduler = scheduler;
+        this.executor = executor;
+        this.flush = flush;
+    }
+
+    void add(final String moduleKey,
+             final Path resource,
+             final ResourceChange change,
+             final long window) {
+        synchronized (pendingChanges) {
+            PendingChanges pending = pendingChanges.get(moduleKey);
+            if (pending == null) {
+                pending = new PendingChanges(window);
+                pendingChanges.put(moduleKey,
+                                   pending);
+                pending.check = scheduler.schedule(() -> check(moduleKey),
+                                                   window,
+                                                   TimeUnit.MILLISECONDS);
+            }
+            pending.lastChange = System.currentTimeMillis();
+            pending.changes.computeIfAbsent(resource,
+                                            r -> new ArrayList<>()).add(change);
+        }
+    }
+
+    /**
+     * Hands over the pending changes of a module right away, in the calling thread
+     */
+    void flush(final String moduleKey) {
+        final PendingChanges pending;
+        synchronized (pendingChanges) {
+            pending = pendingChanges.remove(moduleKey);
+        }
+        if (pending != null) {
+            pending.check.cancel(false);
+            flush(moduleKey,
+                  pending);
+        }
+    }
+
+    int getPendingModulesCount() {
+        synchronized (pendingChanges) {
+            return pendingChanges.size();
+        }
+    }
+
+    private void check(final String moduleKey) {
+        final PendingChanges ready;
+        synchronized (pendingChanges) {
+            final PendingChanges pending = pendingChanges.get(moduleKey);
+            if (pending == null) {
+                return;
+            }
+            final long now = System.currentTimeMillis();
+            final long quiet = now - pending.lastChange;
+            if (quiet < pending.window && now - pending.firstChange < pending.window * MAX_WINDOWS) {
+                pending.check = scheduler.schedule(() -> check(moduleKey),
+                                                   pending.window - quiet,
+                                                   TimeUnit.MILLISECONDS);
+                return;
+            }
+            ready = pendingChanges.remove(moduleKey);
+        }
+        executor.execute(() -> flush(moduleKey,
+                                     ready));
+    }
+
+    private void flush(final String moduleKey,
+                       final PendingChanges pending) {
+        logger.debug("Incremental build of {} for {} changed resources",
+                     moduleKey,
+                     pending.changes.size());
+        try {
+            flush.accept(pending.changes);
+        } catch (Exception e) {
+            logger.error("Unable to build the changes of " + moduleKey,
+                         e);
+        }
+    }
+
+    private static class PendingChanges {
+
+        private final long window;
+        private final long firstChange = System.currentTimeMillis();
+        private long lastChange = firstChange;
+        private ScheduledFuture<?> check;
+        private final Map<Path, Collection<ResourceChange>> changes = new LinkedHashMap<>();
+
+        PendingChanges(final long window) {
+            this.window = window;
+        }
+    }
+}
@@ -15,26 +15,137 @@
  */
 package org.kie.workbench.common.services.backend.builder.core;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.inject.Specializes;
 import javax.inject.Inject;
+import javax.inject.Named;
 
+import org.guvnor.common.services.project.model.Module;
 import org.kie.workbench.common.services.shared.kmodule.KModuleService;
 import org.uberfire.backend.vfs.Path;
+import org.uberfire.commons.concurrent.Managed;
+import org.uberfire.workbench.events.ResourceAdded;
+import org.uberfire.workbench.events.ResourceChange;
+import org.uberfire.workbench.events.ResourceDeleted;
+import org.uberfire.workbench.events.ResourceUpdated;
 
 /**
- * Listener for changes to project resources to handle incremental builds
+ * Listener for changes to project resources to handle incremental builds. The changes of the package resources of a
+ * module are debounced, a burst of changes (imports, refactorings, several users saving) results in a single
+ * incremental build of the whole change set.
+ * <p>
+ * Until the batch is flushed, the cached Builder of the module hasn't applied the pending changes. The validation of
+ * an asset clones that Builder (it doesn't read the module from disk again) and overlays only the asset being
+ * validated, so in the meantime it runs against the previous content of the other changed resources. The lag is at
+ * most {@link ResourceChangeBatcher#MAX_WINDOWS} windows, set the window to 0 where that is not acceptable.
+ * A change to the pom.xml or the kmodule.xml of a module hands over its pending changes before the full build.
  */
 @ApplicationScoped
 @Specializes
 public class ResourceChangeIncrementalBuilder
         extends org.guvnor.common.services.builder.ResourceChangeIncrementalBuilder {
 
+    public static final String BATCH_WINDOW = "org.kie.builder.incremental.batchWindowMillis";
+    static final long DEFAULT_BATCH_WINDOW = 200;
+    static final String INCREMENTAL_BUILD = "build.enable-incremental";
+
     @Inject
     private KModuleService kModuleService;
 
+    @Inject
+    @Managed
+    private ExecutorService executorService;
+
+    @Inject
+    @Named(ManagedSchedulerProducer.MANAGED_SCHEDULER)
+    private ScheduledExecutorService scheduler;
+
+    private ResourceChangeBatcher batcher;
+
     @Override
     protected boolean isProjectResourceUpdateNeeded(Path resource) {
         return moduleService.isPom(resource) || kModuleService.isKModule(resource);
     }
+
+    @Override
+    public void addResource(final Path resource) {
+        if (!batch(resource,
+                   new ResourceAdded(""))) {
+            super.addResource(resource);
+        }
+    }
+
+    @Override
+    public void deleteResource(final Path resource) {
+        if (!batch(resource,
+                   new ResourceDeleted(""))) {
+            super.deleteResource(resource);
+        }
+    }
+
+    @Override
+    public void updateResource(final Path resource) {
+        if (!batch(resource,
+                   new ResourceUpdated(""))) {
+            super.updateResource(resource);
+        }
+    }
+
+    /**
+     * Changes to pom.xml and kmodule.xml (full builds) and to resources outside of a package are never batched, nor
+     * is anything while incremental builds are disabled
+     * @return false if the change must be processed on its own
+     */
+    private boolean batch(final Path resource,
+                          final ResourceChange change) {
+        final long window = Long.getLong(BATCH_WINDOW,
+                                         DEFAULT_BATCH_WINDOW);
+        if (resource == null) {
+            return false;
+        }
+        if (isProjectResourceUpdateNeeded(resource)) {
+            flushPendingChanges(resource);
+            return false;
+        }
+        if (window <= 0 || !Boolean.parseBoolean(System.getProperty(INCREMENTAL_BUILD))) {
+            return false;
+        }
+        if (moduleService.resolvePackage(resource) == null) {
+            return false;
+        }
+        final Module module = moduleService.resolveModule(resource);
+        if (module == null) {
+            return false;
+        }
+        getBatcher().add(module.getRootPath().toURI(),
+                         resource,
+                         change,
+                         window);
+        return true;
+    }
+
+    private void flushPendingChanges(final Path resource) {
+        final ResourceChangeBatcher pendingBatcher;
+        synchronized (this) {
+            pendingBatcher = batcher;
+        }
+        if (pendingBatcher == null) {
+            return;
+        }
+        final Module module = moduleService.resolveModule(resource);
+        if (module != null) {
+            pendingBatcher.flush(module.getRootPath().toURI());
+        }
+    }
+
+    private synchronized ResourceChangeBatcher getBatcher() {
+        if (batcher == null) {
+            batcher = new ResourceChangeBatcher(scheduler,
+                                                executorService,
+                                                this::batchResourceChanges);
+        }
+        return batcher;
+    }
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.backend.validation.asset;
+
+import java.util.Arrays;
+
+/**
+ * Latencies of the last validations, kept in a fixed size ring so the percentiles follow the recent load
+ */
+class ValidationLatencies {
+
+    private final long[] samples;
+    private int next;
+    private long count;
+
+    ValidationLatencies(final int size) {
+        this.samples = new long[size];
+    }
+
+    synchronized void record(final long millis) {
+        samples[next] = millis;
+        next = (next + 1) % samples.length;
+        count++;
+    }
+
+    synchronized long getCount() {
+        return count;
+    }
+
+    /**
+     * @param percentile between 0 and 100
+     * @return the latency in milliseconds, 0 if nothing has been recorded yet
+     */
+    synchronized long percentile(final double percentile) {
+        final int size = (int) Math.min(count, samples.length);
+        if (size == 0) {
+            return 0;
+        }
+        final long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        final int index = (int) Math.ceil(percentile / 100 * size) - 1;
+        return sorted[Math.max(0, Math.min(index, size - 1))];
+    }
+}
@@ -22,12 +22,14 @@ import java.io.InputStream;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.locks.Lock;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 import javax.inject.Named;
 
 import com.google.common.base.Charsets;
+import com.google.common.util.concurrent.Striped;
 import org.guvnor.common.services.project.builder.model.IncrementalBuildResults;
 import org.guvnor.common.services.project.model.Module;
 import org.guvnor.common.services.shared.message.Level;
@@ -38,19 +40,31 @@ import org.kie.workbench.common.services.backend.builder.service.BuildInfo;
 import org.kie.workbench.common.services.backend.builder.service.BuildInfoImpl;
 import org.kie.workbench.common.services.backend.builder.service.BuildInfoService;
 import org.kie.workbench.common.services.shared.project.KieModuleService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.uberfire.backend.server.util.Paths;
 import org.uberfire.backend.vfs.Path;
 import org.uberfire.io.IOService;
 
+/**
+ * Validates assets against a clone of the module Builder. The validations of a module are serialized, the validations of
+ * different modules run concurrently unless their modules share a lock stripe.
+ */
 @ApplicationScoped
 public class ValidatorBuildService {
 
+    private static final Logger logger = LoggerFactory.getLogger(ValidatorBuildService.class);
+
+    private static final int MODULE_LANES = 64;
+
     private final static String ERROR_CLASS_NOT_FOUND = "Definition of class \"{0}\" was not found. Consequentially validation cannot be performed.\nPlease check the necessary external dependencies for this module are configured correctly.";
 
     private IOService ioService;
     private LRUBuilderCache builderCache;
     private KieModuleService moduleService;
     private BuildInfoService buildInfoService;
+    private final Striped<Lock> moduleLanes = Striped.lock(MODULE_LANES);
+    private final ValidationLatencies latencies = new ValidationLatencies(1024);
 
     public ValidatorBuildService() {
         //CDI proxies
@@ -67,8 +81,8 @@ public class ValidatorBuildService {
         this.buildInfoService = buildInfoService;
     }
 
-    public synchronized List<ValidationMessage> validate(final Path resourcePath,
-                                                         final String content) {
+    public List<ValidationMessage> validate(final Path resourcePath,
+                                           final String content) {
         InputStream inputStream = null;
         try {
             inputStream = new ByteArrayInputStream(content.getBytes(Charsets.UTF_8));
@@ -92,7 +106,7 @@ public class ValidatorBuildService {
         }
     }
 
-    public synchronized List<ValidationMessage> validate(final Path resourcePath) {
+    public List<ValidationMessage> validate(final Path resourcePath) {
         InputStream inputStream = null;
         try {
             inputStream = ioService.newInputStream(Paths.convert(resourcePath));
@@ -118,13 +132,51 @@ public class ValidatorBuildService {
 
     private List<ValidationMessage> doValidation(final Path resourcePath,
                                                  final InputStream inputStream) throws NoModuleException {
-        final ValidatorResultBuilder resultBuilder = new ValidatorResultBuilder();
         final Module module = module(resourcePath);
+        final Lock lane = moduleLanes.get(module.getRootPath().toURI());
+        final long start = System.currentTimeMillis();
+        lane.lock();
+        try {
+            return doValidation(resourcePath,
+                                inputStream,
+                                module);
+        } finally {
+            lane.unlock();
+            final long elapsed = System.currentTimeMillis() - start;
+            latencies.record(elapsed);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Validation of {} in {} ms, p50:{} ms p95:{} ms p99:{} ms",
+                             resourcePath.toURI(),
+                             elapsed,
+                             getLatencyPercentile(50),
+                             getLatencyPercentile(95),
+                             getLatencyPercentile(99));
+            }
+        }
+    }
+
+    /**
+     * @param percentile between 0 and 100
+     * @return the latency in milliseconds of the last validations, including the time spent waiting for the module
+     */
+    public long getLatencyPercentile(final double percentile) {
+        return latencies.percentile(percentile);
+    }
+
+    public long getValidationsCount() {
+        return latencies.getCount();
+    }
+
+    private List<ValidationMessage> doValidation(final Path resourcePath,
+                                                 final InputStream inputStream,
+                                                 final Module module) throws NoModuleException {
+        final ValidatorResultBuilder resultBuilder = new ValidatorResultBuilder();
         final org.uberfire.java.nio.file.Path nioResourcePath = Paths.convert(resourcePath);
 
         //Incremental Build does not support Java classes
         if (isIncrementalBuildPossible(resourcePath)) {
             //Build the Builder from the cache so it's "built" state can be preserved for re-use
+            //The cached Builder may not have applied yet the changes batched by ResourceChangeIncrementalBuilder
             BuildInfo buildInfo = buildInfoService.getBuildInfo(module);
             final Builder clone = ((BuildInfoImpl) buildInfo).getBuilder().clone();
             //First delete resource otherwise if the resource already had errors following builder.build()
@@ -136,7 +188,7 @@ public class ValidatorBuildService {
                                                                                          inputStream);
             resultBuilder.add(incrementalBuildResults.getAddedMessages());
         } else {
-            Builder builder = builderCache.assertBuilder(module(resourcePath));
+            Builder builder = builderCache.assertBuilder(module);
             final Builder clone = builder.clone();
             resultBuilder.add(clone.build(nioResourcePath,
                                           inputStream).getMessages());
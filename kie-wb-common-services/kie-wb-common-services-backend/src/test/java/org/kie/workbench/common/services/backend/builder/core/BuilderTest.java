@@ -16,6 +16,7 @@
 
 package org.kie.workbench.common.services.backend.builder.core;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.net.URL;
 import java.nio.charset.Charset;
@@ -40,6 +41,7 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.kie.api.builder.KieFileSystem;
 import org.kie.api.runtime.KieContainer;
 import org.kie.api.runtime.KieSession;
 import org.kie.scanner.KieModuleMetaData;
@@ -136,6 +138,45 @@ public class BuilderTest
         assertNotNull(builder.getKieContainer());
     }
 
+    @Test
+    public void testCloneKeepsInMemoryResources() throws Exception {
+        URL url = this.getClass().getResource("/GuvnorM2RepoDependencyExample1");
+        SimpleFileSystemProvider p = new SimpleFileSystemProvider();
+        org.uberfire.java.nio.file.Path path = p.getPath(url.toURI());
+
+        final Module module = moduleService.resolveModule(Paths.convert(path));
+
+        final Builder builder = new Builder(module,
+                                            ioService,
+                                            moduleService,
+                                            importsService,
+                                            new ArrayList<>(),
+                                            dependenciesClassLoaderCache,
+                                            pomModelCache,
+                                            getPackageNameAllowListService(),
+                                            alwaysTrue);
+
+        final String content = "package org.kie.workbench.common.services.builder.tests.test1\n" +
+                "\n" +
+                "rule Edited\n" +
+                "when\n" +
+                "then\n" +
+                "end";
+        //The edited rule is only in the KieFileSystem of the builder, not on disk
+        builder.build(path.resolve("src/main/resources/rule1.drl"),
+                      new ByteArrayInputStream(content.getBytes(Charset.forName("UTF-8"))));
+
+        final Builder clone = builder.clone();
+        final KieFileSystem cloneFileSystem = clone.getKieFileSystem();
+
+        assertFalse(cloneFileSystem == builder.getKieFileSystem());
+        assertEquals(content,
+                     new String(cloneFileSystem.read("src/main/resources/rule1.drl"),
+                                Charset.forName("UTF-8")));
+        assertTrue(clone.isBuilt());
+        assertTrue(clone.build().getMessages().isEmpty());
+    }
+
     @Test
     public void testBuilderKModuleHasDependency() throws Exception {
         URL url = this.getClass().getResource("/GuvnorM2RepoDependencyExample2");
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.backend.builder.core;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.scanner.KieModuleMetaData;
+import org.kie.soup.project.datamodel.oracle.TypeSource;
+import org.kie.workbench.common.services.shared.allowlist.AllowList;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ClassVerifierCacheTest {
+
+    @Mock
+    private KieModuleMetaData kieModuleMetaData;
+
+    @Mock
+    private TypeSourceResolver typeSourceResolver;
+
+    @Test
+    public void testDependencyClassesAreVerifiedOnce() throws Exception {
+        final URL jar = Test.class.getProtectionDomain().getCodeSource().getLocation();
+        final ClassLoader dependencies = new URLClassLoader(new URL[]{jar});
+        when(kieModuleMetaData.getClassLoader()).thenReturn(new URLClassLoader(new URL[0], dependencies));
+        when(kieModuleMetaData.getPackages()).thenReturn(Arrays.asList("org.junit"));
+        when(kieModuleMetaData.getClasses("org.junit")).thenReturn(Arrays.asList("Test"));
+        when(kieModuleMetaData.getClass("org.junit", "Test")).thenReturn((Class) Test.class);
+        when(typeSourceResolver.getTypeSource(any())).thenReturn(TypeSource.JAVA_DEPENDENCY);
+
+        final AllowList allowList = new AllowList();
+        allowList.add("org.junit");
+
+        assertEquals(0, new ClassVerifier(kieModuleMetaData, typeSourceResolver).verify(allowList).size());
+        assertEquals(0, new ClassVerifier(kieModuleMetaData, typeSourceResolver).verify(allowList).size());
+        verify(kieModuleMetaData, times(1)).getClass("org.junit", "Test");
+    }
+}
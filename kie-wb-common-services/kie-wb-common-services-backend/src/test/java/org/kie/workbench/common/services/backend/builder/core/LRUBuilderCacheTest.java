@@ -15,12 +15,15 @@
  */
 package org.kie.workbench.common.services.backend.builder.core;
 
+import org.guvnor.common.services.project.model.Module;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
 
 
 import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public class LRUBuilderCacheTest {
@@ -34,4 +37,75 @@ public class LRUBuilderCacheTest {
         assertEquals(LRUBuilderCache.validateCacheSize(null), LRUBuilderCache.DEFAULT_BUILDER_CACHE_SIZE);
     }
 
+    @Test
+    public void testEvictionByWeight() {
+        final LRUBuilderCache cache = new LRUBuilderCache(100, 0);
+        final Module module1 = mock(Module.class);
+        final Module module2 = mock(Module.class);
+        final Module module3 = mock(Module.class);
+
+        cache.put(module1, builder(40));
+        cache.put(module2, builder(40));
+        //module1 is now the most recently used
+        assertNotNull(cache.getBuilder(module1));
+        cache.put(module3, builder(40));
+
+        assertNotNull(cache.getBuilder(module1));
+        assertNull(cache.getBuilder(module2));
+        assertNotNull(cache.getBuilder(module3));
+        assertEquals(80, cache.getEstimatedBytes());
+        assertEquals(1, cache.getMetrics().getEvictions());
+        assertEquals(40, cache.getMetrics().getEvictedBytes());
+    }
+
+    @Test
+    public void testEvictionWhenBuilderGrows() {
+        final LRUBuilderCache cache = new LRUBuilderCache(100, 0);
+        final Module module1 = mock(Module.class);
+        final Module module2 = mock(Module.class);
+        final Builder builder2 = mock(Builder.class);
+        when(builder2.getEstimatedSize()).thenReturn(10L, 90L);
+
+        cache.put(module1, builder(40));
+        cache.put(module2, builder2);
+        //module2 has been built in the meantime
+        assertNotNull(cache.getBuilder(module2));
+
+        assertNull(cache.getBuilder(module1));
+        assertEquals(1, cache.getEntriesCount());
+    }
+
+    @Test
+    public void testIdleBuildersAreEvicted() throws Exception {
+        final LRUBuilderCache cache = new LRUBuilderCache(0, 1);
+        final Module module1 = mock(Module.class);
+        final Module module2 = mock(Module.class);
+
+        cache.put(module1, builder(40));
+        Thread.sleep(10);
+        cache.put(module2, builder(40));
+
+        assertNull(cache.getBuilder(module1));
+        assertNotNull(cache.getBuilder(module2));
+        assertEquals(1, cache.getMetrics().getEvictions());
+    }
+
+    @Test
+    public void testRebuildTimeIsTheFullBuildTime() {
+        final BuilderCacheMetrics metrics = new BuilderCacheMetrics(new LRUBuilderCache(0, 0));
+
+        metrics.miss();
+        metrics.rebuilt(3_000_000);
+        metrics.rebuilt(2_000_000);
+
+        assertEquals(1, metrics.getMisses());
+        assertEquals(5, metrics.getRebuildTimeMillis());
+    }
+
+    private Builder builder(final long size) {
+        final Builder builder = mock(Builder.class);
+        when(builder.getEstimatedSize()).thenReturn(size);
+        return builder;
+    }
+
 }
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.backend.builder.core;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.services.shared.project.KieModule;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(MockitoJUnitRunner.class)
+public class LRUModuleDependenciesClassLoaderCacheTest {
+
+    @Mock
+    private KieModule module;
+
+    @Mock
+    private KieModule otherModule;
+
+    @Mock
+    private KieModule thirdModule;
+
+    private LRUModuleDependenciesClassLoaderCache cache;
+
+    @Before
+    public void setup() {
+        cache = new LRUModuleDependenciesClassLoaderCache();
+    }
+
+    @Test
+    public void modulesWithTheSameJarsShareTheClassLoader() throws Exception {
+        final ClassLoader first = jars("kie-api-7.0.0.jar", "drools-core-7.0.0.jar");
+        cache.setDependenciesClassLoader(module, first);
+        cache.setDependenciesClassLoader(otherModule, jars("kie-api-7.0.0.jar", "drools-core-7.0.0.jar"));
+
+        assertThat(cache.getEntry(module)).isSameAs(first);
+        assertThat(cache.getEntry(otherModule)).isSameAs(first);
+        assertThat(cache.getSharedClassLoadersCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void classLoaderIsReleasedWhenNoModuleRefersToIt() throws Exception {
+        final ClassLoader first = jars("kie-api-7.0.0.jar");
+        cache.setDependenciesClassLoader(module, first);
+        cache.setDependenciesClassLoader(otherModule, jars("kie-api-7.0.0.jar"));
+
+        cache.invalidateCache(module);
+        cache.setDependenciesClassLoader(thirdModule, jars("kie-api-7.1.0.jar"));
+        assertThat(cache.getSharedClassLoadersCount()).isEqualTo(2);
+
+        cache.invalidateCache(otherModule);
+        cache.setDependenciesClassLoader(thirdModule, jars("kie-api-7.1.0.jar"));
+        assertThat(cache.getSharedClassLoadersCount()).isEqualTo(1);
+        cache.setDependenciesClassLoader(module, jars("kie-api-7.0.0.jar"));
+        assertThat(cache.getEntry(module)).isNotSameAs(first);
+    }
+
+    @Test
+    public void classLoaderWithFoldersIsNotShared() throws Exception {
+        final ClassLoader first = new URLClassLoader(new URL[]{new URL("file:///tmp/target/classes/")});
+        final ClassLoader second = new URLClassLoader(new URL[]{new URL("file:///tmp/target/classes/")});
+        cache.setDependenciesClassLoader(module, first);
+        cache.setDependenciesClassLoader(otherModule, second);
+
+        assertThat(cache.getEntry(otherModule)).isSameAs(second);
+        assertThat(cache.getSharedClassLoadersCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void rewrittenJarInAFolderWithSpacesIsNotShared() throws Exception {
+        final Path folder = Files.createTempDirectory("local repo");
+        final Path jar = Files.write(folder.resolve("kie-api-7.0.0-SNAPSHOT.jar"), new byte[]{1});
+        try {
+            final URL[] urls = new URL[]{jar.toUri().toURL()};
+            assertThat(DependencyJars.toFile(urls[0])).isEqualTo(jar.toFile());
+
+            final ClassLoader first = new URLClassLoader(urls, getClass().getClassLoader());
+            cache.setDependenciesClassLoader(module, first);
+            Files.write(jar, new byte[]{1, 2});
+            final ClassLoader second = new URLClassLoader(urls, getClass().getClassLoader());
+            cache.setDependenciesClassLoader(otherModule, second);
+
+            assertThat(cache.getEntry(otherModule)).isSameAs(second);
+            assertThat(cache.getSharedClassLoadersCount()).isEqualTo(2);
+        } finally {
+            Files.delete(jar);
+            Files.delete(folder);
+        }
+    }
+
+    private ClassLoader jars(final String... names) throws Exception {
+        final URL[] urls = new URL[names.length];
+        for (int i = 0; i < names.length; i++) {
+            urls[i] = new URL("file:///tmp/m2/" + names[i]);
+        }
+        return new URLClassLoader(urls, getClass().getClassLoader());
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.builder.core;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.workbench.events.ResourceAdded;
+import org.uberfire.workbench.events.ResourceChange;
+import org.uberfire.workbench.events.ResourceUpdated;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ResourceChangeBatcherTest {
+
+    private static final long WINDOW = 100;
+
+    @Mock
+    private Path resource1;
+
+    @Mock
+    private Path resource2;
+
+    private ScheduledExecutorService scheduler;
+    private ExecutorService executor;
+    private List<Map<Path, Collection<ResourceChange>>> batches;
+    private ResourceChangeBatcher batcher;
+
+    @Before
+    public void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        executor = Executors.newCachedThreadPool();
+        batches = new CopyOnWriteArrayList<>();
+        batcher = new ResourceChangeBatcher(scheduler,
+                                            executor,
+                                            batches::add);
+    }
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testBurstOfChangesIsBuiltOnce() throws Exception {
+        batcher.add("module", resource1, new ResourceAdded(""), WINDOW);
+        batcher.add("module", resource2, new ResourceUpdated(""), WINDOW);
+        batcher.add("module", resource1, new ResourceUpdated(""), WINDOW);
+
+        awaitBatches(1);
+
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).containsOnlyKeys(resource1, resource2);
+        assertThat(batches.get(0).get(resource1)).hasSize(2);
+        assertThat(batcher.getPendingModulesCount()).isZero();
+    }
+
+    @Test
+    public void testModulesAreBuiltSeparately() throws Exception {
+        batcher.add("module1", resource1, new ResourceUpdated(""), WINDOW);
+        batcher.add("module2", resource2, new ResourceUpdated(""), WINDOW);
+
+        awaitBatches(2);
+
+        assertThat(batches).hasSize(2);
+    }
+
+    @Test
+    public void testContinuousChangesAreFlushedAnyway() throws Exception {
+        final long start = System.currentTimeMillis();
+        while (batches.isEmpty() && System.currentTimeMillis() - start < WINDOW * ResourceChangeBatcher.MAX_WINDOWS * 3) {
+            batcher.add("module", resource1, new ResourceUpdated(""), WINDOW);
+            Thread.sleep(WINDOW / 4);
+        }
+
+        assertThat(batches).isNotEmpty();
+    }
+
+    @Test
+    public void testPendingChangesAreFlushedOnDemand() throws Exception {
+        batcher.add("module", resource1, new ResourceUpdated(""), WINDOW);
+        batcher.add("module", resource2, new ResourceUpdated(""), WINDOW);
+
+        batcher.flush("module");
+
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).containsOnlyKeys(resource1, resource2);
+        assertThat(batcher.getPendingModulesCount()).isZero();
+
+        //the end of the window finds nothing left to flush
+        Thread.sleep(WINDOW * 2);
+        assertThat(batches).hasSize(1);
+    }
+
+    private void awaitBatches(final int count) throws InterruptedException {
+        final long start = System.currentTimeMillis();
+        while (batches.size() < count && System.currentTimeMillis() - start < TimeUnit.SECONDS.toMillis(5)) {
+            Thread.sleep(10);
+        }
+        //no further flush is expected
+        Thread.sleep(WINDOW * 2);
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.backend.builder.core;
+
+import java.net.URL;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Inject;
+
+import org.guvnor.common.services.project.builder.model.BuildResults;
+import org.guvnor.common.services.project.builder.model.IncrementalBuildResults;
+import org.guvnor.common.services.project.builder.service.BuildService;
+import org.guvnor.structure.server.config.ConfigGroup;
+import org.guvnor.structure.server.config.ConfigType;
+import org.guvnor.structure.server.config.ConfigurationFactory;
+import org.guvnor.structure.server.config.ConfigurationService;
+import org.guvnor.test.WeldJUnitRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.services.shared.project.KieModule;
+import org.kie.workbench.common.services.shared.project.KieModuleService;
+import org.uberfire.backend.server.util.Paths;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.java.nio.fs.file.SimpleFileSystemProvider;
+
+import static org.junit.Assert.*;
+
+@RunWith(WeldJUnitRunner.class)
+public class ResourceChangeIncrementalBuilderBatchingTest extends BuilderTestBase {
+
+    private static final String GLOBAL_SETTINGS = "settings";
+
+    private final SimpleFileSystemProvider fs = new SimpleFileSystemProvider();
+
+    @Inject
+    private Paths paths;
+
+    @Inject
+    private ConfigurationService configurationService;
+
+    @Inject
+    private ConfigurationFactory configurationFactory;
+
+    @Inject
+    private BuildResultsObserver buildResultsObserver;
+
+    @Inject
+    private BuildService buildService;
+
+    @Inject
+    private KieModuleService moduleService;
+
+    @Inject
+    private org.guvnor.common.services.builder.ResourceChangeIncrementalBuilder buildChangeListener;
+
+    private String incrementalBuild;
+
+    @Before
+    public void setUp() throws Exception {
+        //the window never ends during the test, the changes are only handed over by the pom.xml change
+        System.setProperty(ResourceChangeIncrementalBuilder.BATCH_WINDOW,
+                           String.valueOf(TimeUnit.MINUTES.toMillis(10)));
+        incrementalBuild = System.setProperty(ResourceChangeIncrementalBuilder.INCREMENTAL_BUILD,
+                                              "true");
+        //Define mandatory properties
+        List<ConfigGroup> globalConfigGroups = configurationService.getConfiguration(ConfigType.GLOBAL);
+        boolean globalSettingsDefined = false;
+        for (ConfigGroup globalConfigGroup : globalConfigGroups) {
+            if (GLOBAL_SETTINGS.equals(globalConfigGroup.getName())) {
+                globalSettingsDefined = true;
+                break;
+            }
+        }
+        if (!globalSettingsDefined) {
+            configurationService.addConfiguration(getGlobalConfiguration());
+        }
+    }
+
+    @After
+    public void tearDown() {
+        System.clearProperty(ResourceChangeIncrementalBuilder.BATCH_WINDOW);
+        if (incrementalBuild == null) {
+            System.clearProperty(ResourceChangeIncrementalBuilder.INCREMENTAL_BUILD);
+        } else {
+            System.setProperty(ResourceChangeIncrementalBuilder.INCREMENTAL_BUILD,
+                               incrementalBuild);
+        }
+    }
+
+    private ConfigGroup getGlobalConfiguration() {
+        //Global Configurations used by many of Drools Workbench editors
+        final ConfigGroup group = configurationFactory.newConfigGroup(ConfigType.GLOBAL,
+                                                                      GLOBAL_SETTINGS,
+                                                                      "");
+        group.addConfigItem(configurationFactory.newConfigItem("build.enable-incremental",
+                                                               "true"));
+        return group;
+    }
+
+    @Test
+    public void testPendingChangesAreBuiltBeforeThePomChange() throws Exception {
+        final Path updatedPath = getPath("/BuildChangeListenerRepo/src/main/resources/update.drl");
+        final Path addedPath = getPath("/BuildChangeListenerRepo/src/main/resources/add.drl");
+        final Path pomPath = getPath("/BuildChangeListenerRepo/pom.xml");
+
+        //Force full build before attempting incremental changes
+        final KieModule module = moduleService.resolveModule(updatedPath);
+        final BuildResults buildResults = buildService.build(module);
+        assertNotNull(buildResults);
+        assertEquals(0,
+                     buildResults.getErrorMessages().size());
+
+        //Both changes wait for the end of the window
+        buildChangeListener.updateResource(updatedPath);
+        buildChangeListener.addResource(addedPath);
+        Thread.sleep(500);
+        assertNull(buildResultsObserver.getIncrementalBuildResults());
+
+        //The pom.xml change hands them over
+        buildChangeListener.updateResource(pomPath);
+        waitForIncrementalBuildResults(buildResultsObserver);
+        final IncrementalBuildResults incrementalBuildResults = buildResultsObserver.getIncrementalBuildResults();
+        assertNotNull(incrementalBuildResults);
+        assertEquals(0,
+                     incrementalBuildResults.getAddedMessages().size());
+        assertEquals(0,
+                     incrementalBuildResults.getRemovedMessages().size());
+
+        waitForBuildResults(buildResultsObserver);
+        assertNotNull(buildResultsObserver.getBuildResults());
+    }
+
+    private Path getPath(final String resource) throws Exception {
+        final URL resourceUrl = this.getClass().getResource(resource);
+        return paths.convert(fs.getPath(resourceUrl.toURI()));
+    }
+}
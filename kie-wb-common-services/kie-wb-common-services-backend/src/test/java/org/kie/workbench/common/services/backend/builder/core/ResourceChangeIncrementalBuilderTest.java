@@ -32,6 +32,7 @@ import org.guvnor.structure.server.config.ConfigType;
 import org.guvnor.structure.server.config.ConfigurationFactory;
 import org.guvnor.structure.server.config.ConfigurationService;
 import org.guvnor.test.WeldJUnitRunner;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -76,6 +77,9 @@ public class ResourceChangeIncrementalBuilderTest extends BuilderTestBase {
 
     @Before
     public void setUp() throws Exception {
+        //every change runs its own incremental build
+        System.setProperty(ResourceChangeIncrementalBuilder.BATCH_WINDOW,
+                           "0");
         //Define mandatory properties
         List<ConfigGroup> globalConfigGroups = configurationService.getConfiguration(ConfigType.GLOBAL);
         boolean globalSettingsDefined = false;
@@ -90,6 +94,11 @@ public class ResourceChangeIncrementalBuilderTest extends BuilderTestBase {
         }
     }
 
+    @After
+    public void tearDown() {
+        System.clearProperty(ResourceChangeIncrementalBuilder.BATCH_WINDOW);
+    }
+
     private ConfigGroup getGlobalConfiguration() {
         //Global Configurations used by many of Drools Workbench editors
         final ConfigGroup group = configurationFactory.newConfigGroup(ConfigType.GLOBAL,
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.backend.validation.asset;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class ValidationLatenciesTest {
+
+    @Test
+    public void percentilesOfTheRecordedLatencies() {
+        final ValidationLatencies latencies = new ValidationLatencies(100);
+        assertEquals(0, latencies.percentile(50));
+        for (int i = 1; i <= 100; i++) {
+            latencies.record(i);
+        }
+        assertEquals(50, latencies.percentile(50));
+        assertEquals(95, latencies.percentile(95));
+        assertEquals(100, latencies.percentile(100));
+        assertEquals(100, latencies.getCount());
+    }
+
+    @Test
+    public void onlyTheLastLatenciesAreKept() {
+        final ValidationLatencies latencies = new ValidationLatencies(10);
+        for (int i = 0; i < 10; i++) {
+            latencies.record(1000);
+        }
+        for (int i = 0; i < 10; i++) {
+            latencies.record(1);
+        }
+        assertEquals(1, latencies.percentile(99));
+    }
+}
@@ -20,4 +20,15 @@ import org.kie.workbench.common.stunner.core.graph.Node;
 
 public interface GraphNodeStore<T extends Node> extends GraphStore<T> {
 
+    /**
+     * Incremented on every node added, replaced or removed and on clear. Changes to the content or the edges of the
+     * stored nodes are not counted.
+     */
+    int getModificationCount();
+
+    /**
+     * A hash of the uuids of the stored nodes, independent of the order they have been added in and maintained on
+     * every modification.
+     */
+    int getStructureHash();
 }
@@ -49,6 +49,12 @@ public class ValidateSessionCommand extends AbstractClientSessionCommand<EditorS
         this.validator = validator;
     }
 
+    @Override
+    public void bind(final EditorSession session) {
+        super.bind(session);
+        validator.listen(session.getCanvasHandler());
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <V> void execute(final Callback<V> callback) {
@@ -65,6 +71,12 @@ public class ValidateSessionCommand extends AbstractClientSessionCommand<EditorS
         return session instanceof EditorSession;
     }
 
+    @Override
+    protected void doDestroy() {
+        super.doDestroy();
+        validator.stopListening();
+    }
+
     @SuppressWarnings("unchecked")
     private <V> void fireCallback(final Collection<DiagramElementViolation<RuleViolation>> violations,
                                   final Callback<V> callback) {
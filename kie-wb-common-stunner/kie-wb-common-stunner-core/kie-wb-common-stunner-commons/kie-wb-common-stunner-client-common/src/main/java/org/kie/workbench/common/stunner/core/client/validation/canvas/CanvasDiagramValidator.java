@@ -17,7 +17,9 @@
 package org.kie.workbench.common.stunner.core.client.validation.canvas;
 
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -27,13 +29,17 @@ import javax.enterprise.event.Event;
 import javax.inject.Inject;
 
 import org.kie.workbench.common.stunner.core.client.canvas.AbstractCanvasHandler;
+import org.kie.workbench.common.stunner.core.client.canvas.listener.CanvasElementListener;
 import org.kie.workbench.common.stunner.core.client.shape.Shape;
 import org.kie.workbench.common.stunner.core.client.shape.ShapeState;
 import org.kie.workbench.common.stunner.core.diagram.Diagram;
+import org.kie.workbench.common.stunner.core.graph.Element;
 import org.kie.workbench.common.stunner.core.rule.RuleViolation;
 import org.kie.workbench.common.stunner.core.validation.DiagramElementViolation;
 import org.kie.workbench.common.stunner.core.validation.DiagramValidator;
 import org.kie.workbench.common.stunner.core.validation.ElementViolation;
+import org.kie.workbench.common.stunner.core.validation.impl.AbstractDiagramValidator;
+import org.kie.workbench.common.stunner.core.validation.impl.DiagramValidationState;
 
 @Dependent
 public class CanvasDiagramValidator<H extends AbstractCanvasHandler> {
@@ -41,6 +47,36 @@ public class CanvasDiagramValidator<H extends AbstractCanvasHandler> {
     private final DiagramValidator<Diagram, RuleViolation> diagramValidator;
     private final Event<CanvasValidationSuccessEvent> validationSuccessEvent;
     private final Event<CanvasValidationFailEvent> validationFailEvent;
+    private final DiagramValidationState validationState = new DiagramValidationState();
+    private final Set<String> updatedUUIDs = new HashSet<>();
+    private final CanvasElementListener elementListener = new CanvasElementListener() {
+        @Override
+        public void register(final Element item) {
+            updatedUUIDs.add(item.getUUID());
+        }
+
+        @Override
+        public void update(final Element item) {
+            updatedUUIDs.add(item.getUUID());
+        }
+
+        @Override
+        public void updateBatch(final List<Element> queue) {
+            queue.forEach(this::update);
+        }
+
+        @Override
+        public void deregister(final Element item) {
+            updatedUUIDs.add(item.getUUID());
+        }
+
+        @Override
+        public void clear() {
+            reset();
+        }
+    };
+    private H listenedCanvasHandler;
+    private Diagram validatedDiagram;
 
     protected CanvasDiagramValidator() {
         this(null,
@@ -57,15 +93,68 @@ public class CanvasDiagramValidator<H extends AbstractCanvasHandler> {
         this.validationFailEvent = validationFailEvent;
     }
 
+    /**
+     * Tracks the elements registered, updated and deregistered on the canvas handler, so the next validations
+     * of its diagram only validate these again, if supported by the diagram validator.
+     */
+    public void listen(final H canvasHandler) {
+        stopListening();
+        canvasHandler.addRegistrationListener(elementListener);
+        listenedCanvasHandler = canvasHandler;
+    }
+
+    public void stopListening() {
+        if (null != listenedCanvasHandler) {
+            listenedCanvasHandler.removeRegistrationListener(elementListener);
+            listenedCanvasHandler = null;
+        }
+        reset();
+    }
+
     @SuppressWarnings("unchecked")
     public void validate(final H canvasHandler,
                          final Consumer<Collection<DiagramElementViolation<RuleViolation>>> callback) {
-        diagramValidator.validate(canvasHandler.getDiagram(),
-                                  violations -> {
-                                      checkViolations(canvasHandler,
-                                                      violations);
-                                      callback.accept(violations);
-                                  });
+        final Diagram diagram = canvasHandler.getDiagram();
+        final Consumer<Collection<DiagramElementViolation<RuleViolation>>> resultConsumer =
+                violations -> {
+                    checkViolations(canvasHandler,
+                                    violations);
+                    callback.accept(violations);
+                };
+        if (canvasHandler == listenedCanvasHandler && diagramValidator instanceof AbstractDiagramValidator) {
+            validateUpdates((AbstractDiagramValidator) diagramValidator,
+                            diagram,
+                            resultConsumer);
+        } else {
+            diagramValidator.validate(diagram,
+                                      resultConsumer);
+        }
+    }
+
+    private void validateUpdates(final AbstractDiagramValidator validator,
+                                 final Diagram diagram,
+                                 final Consumer<Collection<DiagramElementViolation<RuleViolation>>> resultConsumer) {
+        if (diagram != validatedDiagram) {
+            reset();
+            validatedDiagram = diagram;
+        }
+        final Set<String> updated = new HashSet<>(updatedUUIDs);
+        updatedUUIDs.clear();
+        try {
+            validator.validate(diagram,
+                               validationState,
+                               updated,
+                               resultConsumer);
+        } catch (RuntimeException e) {
+            reset();
+            throw e;
+        }
+    }
+
+    private void reset() {
+        validationState.clear();
+        updatedUUIDs.clear();
+        validatedDiagram = null;
     }
 
     @SuppressWarnings("unchecked")
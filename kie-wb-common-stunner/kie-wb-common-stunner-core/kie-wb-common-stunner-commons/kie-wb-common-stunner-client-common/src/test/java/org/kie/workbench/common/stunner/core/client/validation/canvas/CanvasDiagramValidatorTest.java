@@ -26,15 +26,19 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.kie.workbench.common.stunner.core.client.canvas.AbstractCanvas;
 import org.kie.workbench.common.stunner.core.client.canvas.AbstractCanvasHandler;
+import org.kie.workbench.common.stunner.core.client.canvas.listener.CanvasElementListener;
 import org.kie.workbench.common.stunner.core.client.shape.Shape;
 import org.kie.workbench.common.stunner.core.diagram.Diagram;
 import org.kie.workbench.common.stunner.core.diagram.Metadata;
+import org.kie.workbench.common.stunner.core.graph.Element;
 import org.kie.workbench.common.stunner.core.rule.RuleViolation;
 import org.kie.workbench.common.stunner.core.validation.DiagramElementViolation;
 import org.kie.workbench.common.stunner.core.validation.DiagramValidator;
 import org.kie.workbench.common.stunner.core.validation.DomainViolation;
 import org.kie.workbench.common.stunner.core.validation.ModelBeanViolation;
 import org.kie.workbench.common.stunner.core.validation.Violation;
+import org.kie.workbench.common.stunner.core.validation.impl.AbstractDiagramValidator;
+import org.kie.workbench.common.stunner.core.validation.impl.DiagramValidationState;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -42,8 +46,14 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.uberfire.mocks.EventSourceMock;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -208,4 +218,38 @@ public class CanvasDiagramValidatorTest {
         assertEquals(event.getDiagramName(), NAME);
         assertEquals(event.getDiagramTitle(), TITLE);
     }
-}
\ No newline at end of file
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void validateUpdatesOfListenedCanvasHandler() {
+        final AbstractDiagramValidator updatesValidator = mock(AbstractDiagramValidator.class);
+        final Element element = mock(Element.class);
+        when(element.getUUID()).thenReturn(UUID);
+        tested = new CanvasDiagramValidator(updatesValidator, successEvent, failEvent);
+        tested.listen(canvasHandler);
+        final ArgumentCaptor<CanvasElementListener> listenerCaptor = ArgumentCaptor.forClass(CanvasElementListener.class);
+        verify(canvasHandler).addRegistrationListener(listenerCaptor.capture());
+        final CanvasElementListener listener = listenerCaptor.getValue();
+
+        listener.update(element);
+        tested.validate(canvasHandler, callback);
+        tested.validate(canvasHandler, callback);
+
+        final ArgumentCaptor<DiagramValidationState> stateCaptor = ArgumentCaptor.forClass(DiagramValidationState.class);
+        final ArgumentCaptor<Collection> updatedCaptor = ArgumentCaptor.forClass(Collection.class);
+        final ArgumentCaptor<Consumer> captor = ArgumentCaptor.forClass(Consumer.class);
+        verify(updatesValidator, times(2)).validate(eq(diagram),
+                                                    stateCaptor.capture(),
+                                                    updatedCaptor.capture(),
+                                                    captor.capture());
+        verify(updatesValidator, never()).validate(any(Diagram.class), any(Consumer.class));
+        assertSame(stateCaptor.getAllValues().get(0), stateCaptor.getAllValues().get(1));
+        assertEquals(Collections.singleton(UUID), updatedCaptor.getAllValues().get(0));
+        assertTrue(updatedCaptor.getAllValues().get(1).isEmpty());
+        captor.getValue().accept(violations);
+        verify(callback).accept(violations);
+
+        tested.stopListening();
+        verify(canvasHandler).removeRegistrationListener(listener);
+    }
+}
@@ -77,6 +77,14 @@ public class GraphImpl<C> extends AbstractElement<C> implements Graph<C, Node> {
         return null;
     }
 
+    /**
+     * Cheap change detection: a different count means nodes have been added, replaced or removed since it was read.
+     * The content of the nodes (bounds, properties, connections) can change without changing the count.
+     */
+    public int getModificationCount() {
+        return nodeStore.getModificationCount();
+    }
+
     @Override
     public int hashCode() {
         return GraphUtils.computeGraphHashCode(this);
@@ -84,8 +92,16 @@ public class GraphImpl<C> extends AbstractElement<C> implements Graph<C, Node> {
 
     @Override
     public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
         if (o instanceof GraphImpl) {
             GraphImpl g = (GraphImpl) o;
+            // graphs with different nodes are told apart without walking them
+            if (nodeStore.size() != g.nodeStore.size() ||
+                    nodeStore.getStructureHash() != g.nodeStore.getStructureHash()) {
+                return false;
+            }
             return this.hashCode() == g.hashCode();
         } else {
             return false;
@@ -35,12 +35,17 @@ import org.kie.workbench.common.stunner.core.graph.processing.traverse.content.A
 import org.kie.workbench.common.stunner.core.graph.processing.traverse.content.ChildrenTraverseProcessor;
 import org.kie.workbench.common.stunner.core.graph.util.GraphUtils;
 
+/**
+ * The bounds of the nodes are read on the first lookup after {@link #build(Graph)} and kept until the next build, so
+ * the graph must be built again once modified.
+ */
 @Dependent
 public class GraphBoundsIndexerImpl implements GraphBoundsIndexer {
 
     ChildrenTraverseProcessor childrenTraverseProcessor;
     private Graph<View, Node<View, Edge>> graph;
     private String rootUUID = null;
+    private NodeBoundsGrid grid;
 
     @Inject
     public GraphBoundsIndexerImpl(final ChildrenTraverseProcessor childrenTraverseProcessor) {
@@ -50,6 +55,7 @@ public class GraphBoundsIndexerImpl implements GraphBoundsIndexer {
     @Override
     public GraphBoundsIndexerImpl build(final Graph<View, Node<View, Edge>> graph) {
         this.graph = graph;
+        this.grid = null;
         return this;
     }
 
@@ -102,6 +108,8 @@ public class GraphBoundsIndexerImpl implements GraphBoundsIndexer {
     @Override
     public double[] getTrimmedBounds() {
         final double[] result = new double[]{Double.MAX_VALUE, Double.MAX_VALUE, 0, 0};
+        // the root set on the processor is also used by the walks building the grid
+        this.grid = null;
         childrenTraverseProcessor
                 .setRootUUID(this.rootUUID)
                 .traverse(graph,
@@ -143,24 +151,42 @@ public class GraphBoundsIndexerImpl implements GraphBoundsIndexer {
     @SuppressWarnings("unchecked")
     public Node<View<?>, Edge> findElementAt(final double x,
                                              final double y) {
-        final Node[] result = new Node[1];
-        childrenTraverseProcessor.traverse(graph,
-                                           new GraphBoundIndexerTraverseCallback(new NodeBoundsTraverseCallback() {
+        return getGrid().findAt(x,
+                                y);
+    }
 
-                                               @Override
-                                               public void onNodeTraverse(final Node<View, Edge> node,
-                                                                          final double parentX,
-                                                                          final double parentY) {
-                                                   if (isNodeAt(node,
-                                                                parentX,
-                                                                parentY,
-                                                                x,
-                                                                y)) {
-                                                       result[0] = node;
+    /**
+     * The absolute bounds of the nodes are computed walking the graph once per build, the lookups of a drag or drop
+     * check then only read the nodes near the point.
+     */
+    private NodeBoundsGrid getGrid() {
+        if (null == grid) {
+            final NodeBoundsGrid newGrid = new NodeBoundsGrid();
+            childrenTraverseProcessor.traverse(graph,
+                                               new GraphBoundIndexerTraverseCallback(new NodeBoundsTraverseCallback() {
+
+                                                   @Override
+                                                   public void onNodeTraverse(final Node<View, Edge> node,
+                                                                              final double parentX,
+                                                                              final double parentY) {
+                                                       if (isRoot(node)) {
+                                                           newGrid.addAnywhere(node);
+                                                       } else {
+                                                           final double[] absCoords = getNodeAbsoluteCoordinates(node,
+                                                                                                                 parentX,
+                                                                                                                 parentY);
+                                                           newGrid.add(node,
+                                                                       absCoords[0],
+                                                                       absCoords[1],
+                                                                       absCoords[2],
+                                                                       absCoords[3]);
+                                                       }
                                                    }
-                                               }
-                                           }));
-        return result[0];
+                                               }));
+            newGrid.index();
+            grid = newGrid;
+        }
+        return grid;
     }
 
     private Point2D getNodeCoordinates(final Node node) {
@@ -188,37 +214,21 @@ public class GraphBoundsIndexerImpl implements GraphBoundsIndexer {
         return new double[]{ulX, ulY, lrX, lrY};
     }
 
-    private boolean isNodeAt(final Node node,
-                             final double parentX,
-                             final double parentY,
-                             final double mouseX,
-                             final double mouseY) {
-        if (null != rootUUID && node.getUUID().equals(rootUUID)) {
-            return true;
-        }
-        final double[] absoluteCoords = getNodeAbsoluteCoordinates(node,
-                                                                   parentX,
-                                                                   parentY);
-        final double ulX = absoluteCoords[0];
-        final double ulY = absoluteCoords[1];
-        final double lrX = absoluteCoords[2];
-        final double lrY = absoluteCoords[3];
-        if (mouseX >= ulX && mouseX <= lrX &&
-                mouseY >= ulY && mouseY <= lrY) {
-            return true;
-        }
-        return false;
+    private boolean isRoot(final Node node) {
+        return null != rootUUID && node.getUUID().equals(rootUUID);
     }
 
     @Override
     public GraphBoundsIndexer setRootUUID(final String uuid) {
         this.rootUUID = uuid;
+        this.grid = null;
         return this;
     }
 
     @Override
     public void destroy() {
         this.graph = null;
+        this.grid = null;
         this.rootUUID = null;
         this.childrenTraverseProcessor = null;
     }
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.core.graph.processing.index.bounds;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.kie.workbench.common.stunner.core.graph.Node;
+
+/**
+ * Uniform grid over the absolute bounds of the nodes of a graph. Each node is stored in every cell its bounds overlap,
+ * so finding the nodes at a point only checks the nodes of a single cell. When several nodes are at a point the last
+ * one added wins, as when walking the graph.
+ */
+final class NodeBoundsGrid {
+
+    private static final int MAX_CELLS_PER_AXIS = 64;
+
+    private final List<Entry> entries = new ArrayList<>();
+    private Node nodeAnywhere;
+    private int nodeAnywhereOrder = -1;
+    private int order;
+
+    private double minX;
+    private double minY;
+    private double cellWidth;
+    private double cellHeight;
+    private int columns;
+    private int rows;
+    private List<List<Entry>> cells;
+
+    void add(final Node node,
+             final double ulX,
+             final double ulY,
+             final double lrX,
+             final double lrY) {
+        final int nodeOrder = order++;
+        if (lrX >= ulX && lrY >= ulY) {
+            entries.add(new Entry(nodeOrder,
+                                  node,
+                                  ulX,
+                                  ulY,
+                                  lrX,
+                                  lrY));
+        }
+    }
+
+    /**
+     * Adds a node found at any point, e.g. the root of the canvas
+     */
+    void addAnywhere(final Node node) {
+        nodeAnywhere = node;
+        nodeAnywhereOrder = order++;
+    }
+
+    void index() {
+        minX = Double.MAX_VALUE;
+        minY = Double.MAX_VALUE;
+        double maxX = -Double.MAX_VALUE;
+        double maxY = -Double.MAX_VALUE;
+        for (final Entry entry : entries) {
+            minX = Math.min(minX,
+                            entry.ulX);
+            minY = Math.min(minY,
+                            entry.ulY);
+            maxX = Math.max(maxX,
+                            entry.lrX);
+            maxY = Math.max(maxY,
+                            entry.lrY);
+        }
+        final int cellsPerAxis = Math.max(1,
+                                          Math.min(MAX_CELLS_PER_AXIS,
+                                                   (int) Math.ceil(Math.sqrt(entries.size()))));
+        columns = cellsPerAxis;
+        rows = cellsPerAxis;
+        cellWidth = Math.max((maxX - minX) / columns,
+                             Double.MIN_VALUE);
+        cellHeight = Math.max((maxY - minY) / rows,
+                              Double.MIN_VALUE);
+        cells = new ArrayList<>(columns * rows);
+        for (int i = 0; i < columns * rows; i++) {
+            cells.add(new ArrayList<>());
+        }
+        for (final Entry entry : entries) {
+            final int fromColumn = column(entry.ulX);
+            final int toColumn = column(entry.lrX);
+            final int fromRow = row(entry.ulY);
+            final int toRow = row(entry.lrY);
+            for (int r = fromRow; r <= toRow; r++) {
+                for (int c = fromColumn; c <= toColumn; c++) {
+                    cells.get(r * columns + c).add(entry);
+                }
+            }
+        }
+    }
+
+    Node findAt(final double x,
+                final double y) {
+        Node result = nodeAnywhere;
+        int resultOrder = nodeAnywhereOrder;
+        if (entries.isEmpty()) {
+            return result;
+        }
+        for (final Entry entry : cells.get(row(y) * columns + column(x))) {
+            if (entry.order > resultOrder && entry.contains(x,
+                                                            y)) {
+                result = entry.node;
+                resultOrder = entry.order;
+            }
+        }
+        return result;
+    }
+
+    private int column(final double x) {
+        return clamp((int) Math.floor((x - minX) / cellWidth),
+                     columns);
+    }
+
+    private int row(final double y) {
+        return clamp((int) Math.floor((y - minY) / cellHeight),
+                     rows);
+    }
+
+    private static int clamp(final int index,
+                             final int size) {
+        return Math.max(0,
+                        Math.min(size - 1,
+                                 index));
+    }
+
+    private static final class Entry {
+
+        private final int order;
+        private final Node node;
+        private final double ulX;
+        private final double ulY;
+        private final double lrX;
+        private final double lrY;
+
+        private Entry(final int order,
+                      final Node node,
+                      final double ulX,
+                      final double ulY,
+                      final double lrX,
+                      final double lrY) {
+            this.order = order;
+            this.node = node;
+            this.ulX = ulX;
+            this.ulY = ulY;
+            this.lrX = lrX;
+            this.lrY = lrY;
+        }
+
+        private boolean contains(final double x,
+                                 final double y) {
+            return x >= ulX && x <= lrX &&
+                    y >= ulY && y <= lrY;
+        }
+    }
+}
@@ -27,16 +27,28 @@ import org.kie.workbench.common.stunner.core.graph.Node;
 public class GraphNodeStoreImpl implements GraphNodeStore<Node> {
 
     protected Map<String, Node> nodes = new HashMap<String, Node>();
+    private int modificationCount;
+    private int structureHash;
 
     @Override
     public Node add(final Node node) {
-        return nodes.put(node.getUUID(),
-                         node);
+        final Node previous = nodes.put(node.getUUID(),
+                                        node);
+        if (null == previous) {
+            structureHash = ~~(structureHash + node.getUUID().hashCode());
+        }
+        modificationCount++;
+        return previous;
     }
 
     @Override
     public Node remove(final String uuid) {
-        return nodes.remove(uuid);
+        final Node removed = nodes.remove(uuid);
+        if (null != removed) {
+            structureHash = ~~(structureHash - uuid.hashCode());
+            modificationCount++;
+        }
+        return removed;
     }
 
     @Override
@@ -52,6 +64,18 @@ public class GraphNodeStoreImpl implements GraphNodeStore<Node> {
     @Override
     public void clear() {
         nodes.clear();
+        structureHash = 0;
+        modificationCount++;
+    }
+
+    @Override
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
+    @Override
+    public int getStructureHash() {
+        return structureHash;
     }
 
     @Override
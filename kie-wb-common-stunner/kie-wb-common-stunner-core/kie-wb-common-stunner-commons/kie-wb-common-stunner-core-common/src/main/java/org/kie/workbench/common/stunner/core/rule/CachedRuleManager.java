@@ -16,10 +16,13 @@
 
 package org.kie.workbench.common.stunner.core.rule;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javax.annotation.PostConstruct;
@@ -29,11 +32,28 @@ import javax.enterprise.inject.Typed;
 import javax.inject.Inject;
 
 import org.kie.workbench.common.stunner.core.registry.rule.RuleHandlerRegistry;
-
+import org.kie.workbench.common.stunner.core.rule.context.CardinalityContext;
+import org.kie.workbench.common.stunner.core.rule.context.ConnectionContext;
+import org.kie.workbench.common.stunner.core.rule.context.ContainmentContext;
+import org.kie.workbench.common.stunner.core.rule.context.DockingContext;
+import org.kie.workbench.common.stunner.core.rule.handler.impl.CardinalityEvaluationHandler;
+import org.kie.workbench.common.stunner.core.rule.handler.impl.ConnectionEvaluationHandler;
+import org.kie.workbench.common.stunner.core.rule.handler.impl.ContainmentEvaluationHandler;
+import org.kie.workbench.common.stunner.core.rule.handler.impl.DockingEvaluationHandler;
+import org.kie.workbench.common.stunner.core.rule.violations.DefaultRuleViolations;
+
+/**
+ * Caches the rules of a rule set by evaluation context type. Besides, the containment, docking, connection and
+ * cardinality contexts only depend on roles and counts, so when all of their handlers are the default ones, the
+ * role combinations found allowed are remembered and not evaluated again.
+ * The violations of a denied evaluation are built on each call, as callers may update them.
+ */
 @Dependent
 @Typed(CachedRuleManager.class)
 public class CachedRuleManager implements RuleManager {
 
+    private static final int MAX_ALLOWED_ENTRIES = 2048;
+
     private final RuleManagerImpl ruleManager;
     private final Map<String, CachedContextRules> cachedContextRules;
 
@@ -64,8 +84,18 @@ public class CachedRuleManager implements RuleManager {
     @Override
     public RuleViolations evaluate(final RuleSet ruleSet,
                                    final RuleEvaluationContext context) {
-        return ruleManager.evaluate(ruleSet,
-                                    context);
+        final CachedContextRules crs = getCachedContextRules(ruleSet);
+        final Object key = crs.isDecisionCacheable(ruleSet,
+                                                   context) ? decisionKeyOf(context) : null;
+        if (null != key && crs.isAllowed(key)) {
+            return new DefaultRuleViolations();
+        }
+        final RuleViolations violations = ruleManager.evaluate(ruleSet,
+                                                               context);
+        if (null != key && !violations.violations().iterator().hasNext()) {
+            crs.allow(key);
+        }
+        return violations;
     }
 
     @PreDestroy
@@ -76,22 +106,76 @@ public class CachedRuleManager implements RuleManager {
 
     private Collection<Rule> getRulesByContext(final RuleSet ruleSet,
                                                final RuleEvaluationContext context) {
+        return getCachedContextRules(ruleSet).getRulesByContext(ruleSet,
+                                                                context);
+    }
+
+    private CachedContextRules getCachedContextRules(final RuleSet ruleSet) {
         CachedContextRules crs = cachedContextRules.get(ruleSet.getName());
         if (null == crs) {
             crs = new CachedContextRules();
             cachedContextRules.put(ruleSet.getName(),
                                    crs);
         }
-        return crs.getRulesByContext(ruleSet,
-                                     context);
+        return crs;
+    }
+
+    /**
+     * @return the inputs of the evaluation for the contexts only depending on roles and counts, or null
+     */
+    private static Object decisionKeyOf(final RuleEvaluationContext context) {
+        final Class<? extends RuleEvaluationContext> type = context.getType();
+        if (ContainmentContext.class.equals(type)) {
+            final ContainmentContext containment = (ContainmentContext) context;
+            return Arrays.asList(type,
+                                 copyOf(containment.getParentRoles()),
+                                 copyOf(containment.getCandidateRoles()));
+        }
+        if (DockingContext.class.equals(type)) {
+            final DockingContext docking = (DockingContext) context;
+            return Arrays.asList(type,
+                                 copyOf(docking.getParentRoles()),
+                                 copyOf(docking.getCandidateRoles()));
+        }
+        if (ConnectionContext.class.equals(type)) {
+            final ConnectionContext connection = (ConnectionContext) context;
+            return Arrays.asList(type,
+                                 connection.getConnectorRole(),
+                                 copyOf(connection.getSourceRoles().orElse(null)),
+                                 copyOf(connection.getTargetRoles().orElse(null)));
+        }
+        if (CardinalityContext.class.equals(type)) {
+            final CardinalityContext cardinality = (CardinalityContext) context;
+            return Arrays.asList(type,
+                                 copyOf(cardinality.getRoles()),
+                                 cardinality.getCurrentCount(),
+                                 cardinality.getCandidateCount(),
+                                 cardinality.getOperation().orElse(null));
+        }
+        return null;
+    }
+
+    private static Set<String> copyOf(final Set<String> roles) {
+        return null != roles ? new HashSet<>(roles) : null;
+    }
+
+    private static boolean isDecisionHandler(final RuleEvaluationHandler handler) {
+        return handler instanceof ContainmentEvaluationHandler ||
+                handler instanceof DockingEvaluationHandler ||
+                handler instanceof ConnectionEvaluationHandler ||
+                handler instanceof CardinalityEvaluationHandler;
     }
 
     private class CachedContextRules {
 
         private final Map<Class<? extends RuleEvaluationContext>, List<Rule>> rulesByContent;
+        private final Map<Class<? extends RuleEvaluationContext>, Boolean> decisionCacheableByContext;
+        private final Set<Object> allowed;
 
         public CachedContextRules() {
             this.rulesByContent = new HashMap<>(15);
+            this.decisionCacheableByContext = new HashMap<>(15);
+            this.allowed = new HashSet<>();
         }
 
         public Collection<Rule> getRulesByContext(final RuleSet ruleSet,
@@ -115,8 +199,41 @@ public class CachedRuleManager implements RuleManager {
             return rules;
         }
 
+        /**
+         * Rule extensions and custom handlers may look at anything in the context, their evaluations are never
+         * cached.
+         */
+        public boolean isDecisionCacheable(final RuleSet ruleSet,
+                                           final RuleEvaluationContext context) {
+            Boolean cacheable = decisionCacheableByContext.get(context.getClass());
+            if (null == cacheable) {
+                final Collection<Rule> rules = getRulesByContext(ruleSet,
+                                                                 context);
+                cacheable = rules.stream().noneMatch(RuleManagerImpl.isRuleExtension()) &&
+                        registry().getHandlersByContext(context.getType())
+                                .stream()
+                                .allMatch(CachedRuleManager::isDecisionHandler);
+                decisionCacheableByContext.put(context.getClass(),
+                                               cacheable);
+            }
+            return cacheable;
+        }
+
+        public boolean isAllowed(final Object key) {
+            return allowed.contains(key);
+        }
+
+        public void allow(final Object key) {
+            if (allowed.size() >= MAX_ALLOWED_ENTRIES) {
+                allowed.clear();
+            }
+            allowed.add(key);
+        }
+
         public void clear() {
             rulesByContent.clear();
+            decisionCacheableByContext.clear();
+            allowed.clear();
         }
 
         private boolean accepts(final Collection<RuleEvaluationHandler> handlers,
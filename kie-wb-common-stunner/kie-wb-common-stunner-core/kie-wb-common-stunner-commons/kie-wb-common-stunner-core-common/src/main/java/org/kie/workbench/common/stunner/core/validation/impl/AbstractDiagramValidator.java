@@ -19,8 +19,10 @@ package org.kie.workbench.common.stunner.core.validation.impl;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.BiConsumer;
@@ -32,8 +34,10 @@ import java.util.stream.StreamSupport;
 import org.jboss.errai.ioc.client.api.ManagedInstance;
 import org.kie.workbench.common.stunner.core.api.DefinitionManager;
 import org.kie.workbench.common.stunner.core.diagram.Diagram;
+import org.kie.workbench.common.stunner.core.graph.Edge;
 import org.kie.workbench.common.stunner.core.graph.Element;
 import org.kie.workbench.common.stunner.core.graph.Graph;
+import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.processing.traverse.tree.TreeWalkTraverseProcessor;
 import org.kie.workbench.common.stunner.core.rule.RuleManager;
 import org.kie.workbench.common.stunner.core.rule.RuleViolation;
@@ -41,6 +45,7 @@ import org.kie.workbench.common.stunner.core.validation.DiagramElementViolation;
 import org.kie.workbench.common.stunner.core.validation.DiagramValidator;
 import org.kie.workbench.common.stunner.core.validation.DomainValidator;
 import org.kie.workbench.common.stunner.core.validation.DomainViolation;
+import org.kie.workbench.common.stunner.core.validation.ModelBeanViolation;
 import org.kie.workbench.common.stunner.core.validation.ModelValidator;
 
 /**
@@ -108,6 +113,106 @@ public abstract class AbstractDiagramValidator
         );
     }
 
+    /**
+     * Validates the <code>diagram</code> instance, evaluating the graph rules and the model constraints only for
+     * the elements updated since the validation the given <code>state</code> comes from, the whole diagram is
+     * validated if the state is empty. The domain validations are always performed for the whole diagram.
+     * @param diagram The instance to validate.
+     * @param state The violations of the last validation of this diagram, updated by this one.
+     * @param updatedUUIDs The uuids of the nodes and edges added, updated or removed since the last validation.
+     * @param resultConsumer The consumer for all the resulting violations, the ones kept for the elements not
+     * updated included.
+     */
+    @SuppressWarnings("unchecked")
+    public void validate(final Diagram diagram,
+                         final DiagramValidationState state,
+                         final Collection<String> updatedUUIDs,
+                         final Consumer<Collection<DiagramElementViolation<RuleViolation>>> resultConsumer) {
+        final Graph graph = diagram.getGraph();
+        final boolean fullValidation = !state.isValidated();
+        final Map<String, Element> elements = getElements(graph);
+        graphValidator.validate(graph,
+                                null,
+                                state.getGraphState(),
+                                updatedUUIDs,
+                                ruleViolations -> {
+                                    state.retainAll(elements.keySet());
+                                    validateModel(state,
+                                                  graph);
+                                    elements.values().stream()
+                                            .filter(element -> fullValidation || updatedUUIDs.contains(element.getUUID()))
+                                            .forEach(element -> validateModel(state,
+                                                                              element));
+
+                                    final List<DiagramElementViolation<RuleViolation>> violations = new LinkedList<>();
+                                    violations.addAll(validateDomain(diagram));
+                                    addElementViolations(violations,
+                                                         graph.getUUID(),
+                                                         state.getGraphState().getGraphViolations(),
+                                                         state.getModelViolations().get(graph.getUUID()));
+                                    final Map<String, Collection<RuleViolation>> elementViolations =
+                                            state.getGraphState().getElementViolations();
+                                    elements.keySet().forEach(uuid -> addElementViolations(violations,
+                                                                                           uuid,
+                                                                                           elementViolations.get(uuid),
+                                                                                           state.getModelViolations().get(uuid)));
+                                    resultConsumer.accept(violations);
+                                });
+    }
+
+    private void validateModel(final DiagramValidationState state,
+                               final Element element) {
+        if (Optional.ofNullable(element.getContent()).isPresent()) {
+            modelValidator.validate(element,
+                                    modelViolations -> state.setModelViolations(element.getUUID(),
+                                                                                modelViolations));
+        } else {
+            state.setModelViolations(element.getUUID(),
+                                     null);
+        }
+    }
+
+    private static void addElementViolations(final List<DiagramElementViolation<RuleViolation>> violations,
+                                             final String uuid,
+                                             final Collection<RuleViolation> ruleViolations,
+                                             final Collection<ModelBeanViolation> modelViolations) {
+        final boolean hasRuleViolations = Objects.nonNull(ruleViolations) && !ruleViolations.isEmpty();
+        final boolean hasModelViolations = Objects.nonNull(modelViolations) && !modelViolations.isEmpty();
+        if (hasRuleViolations || hasModelViolations) {
+            final ElementViolationImpl.Builder builder = new ElementViolationImpl.Builder().setUuid(uuid);
+            if (hasRuleViolations) {
+                builder.setGraphViolations(ruleViolations);
+            }
+            if (hasModelViolations) {
+                builder.setModelViolations(modelViolations);
+            }
+            violations.add(builder.build());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Element> getElements(final Graph graph) {
+        final Map<String, Element> elements = new LinkedHashMap<>();
+        for (final Object o : graph.nodes()) {
+            final Node node = (Node) o;
+            elements.put(node.getUUID(),
+                         node);
+            addEdges(elements,
+                     node.getInEdges());
+            addEdges(elements,
+                     node.getOutEdges());
+        }
+        return elements;
+    }
+
+    private static void addEdges(final Map<String, Element> elements,
+                                 final List<Edge> edges) {
+        if (null != edges) {
+            edges.forEach(edge -> elements.putIfAbsent(edge.getUUID(),
+                                                       edge));
+        }
+    }
+
     private BiConsumer<Element, Collection<RuleViolation>> consumeBeanAndViolations(final Supplier<List<DiagramElementViolation<RuleViolation>>> violations) {
         return (element, ruleViolations) -> {
             if (Optional.ofNullable(element.getContent()).isPresent()) {
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.core.validation.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.kie.workbench.common.stunner.core.validation.ModelBeanViolation;
+
+/**
+ * The violations found by the last validation of a diagram: the graph ones, by element, and the model ones, by
+ * element. Given back to the diagram validator, only the elements updated since then are validated again.
+ * An instance must only be used for a single diagram.
+ */
+public class DiagramValidationState {
+
+    private final GraphValidationState graphState = new GraphValidationState();
+    private final Map<String, Collection<ModelBeanViolation>> modelViolations = new LinkedHashMap<>();
+
+    public boolean isValidated() {
+        return graphState.isValidated();
+    }
+
+    /**
+     * Forgets the previous validation, the next one validates the whole diagram.
+     */
+    public void clear() {
+        graphState.clear();
+        modelViolations.clear();
+    }
+
+    GraphValidationState getGraphState() {
+        return graphState;
+    }
+
+    Map<String, Collection<ModelBeanViolation>> getModelViolations() {
+        return Collections.unmodifiableMap(modelViolations);
+    }
+
+    void setModelViolations(final String uuid,
+                            final Collection<ModelBeanViolation> violations) {
+        if (null == violations || violations.isEmpty()) {
+            modelViolations.remove(uuid);
+        } else {
+            modelViolations.put(uuid,
+                                new ArrayList<>(violations));
+        }
+    }
+
+    /**
+     * Forgets the elements no longer in the diagram.
+     */
+    void retainAll(final Set<String> uuids) {
+        modelViolations.keySet().retainAll(uuids);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.core.validation.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.kie.workbench.common.stunner.core.graph.Edge;
+import org.kie.workbench.common.stunner.core.graph.Node;
+import org.kie.workbench.common.stunner.core.rule.RuleViolation;
+
+/**
+ * The violations found by the last validation of a graph, by element, along with the nodes each edge was
+ * connecting. Given back to the validator, only the rules for the elements updated since then are evaluated again.
+ * An instance must only be used for a single graph.
+ */
+public class GraphValidationState {
+
+    private final Map<String, Collection<RuleViolation>> elementViolations = new LinkedHashMap<>();
+    private final Map<String, String[]> edgeNodes = new HashMap<>();
+    private Collection<RuleViolation> graphViolations = Collections.emptyList();
+    private boolean validated;
+
+    public boolean isValidated() {
+        return validated;
+    }
+
+    /**
+     * @return the violations of the graph followed by the ones of its elements
+     */
+    public Collection<RuleViolation> getViolations() {
+        final Collection<RuleViolation> violations = new LinkedHashSet<>(graphViolations);
+        elementViolations.values().forEach(violations::addAll);
+        return violations;
+    }
+
+    /**
+     * @return the violations of the graph cardinality rules
+     */
+    public Collection<RuleViolation> getGraphViolations() {
+        return Collections.unmodifiableCollection(graphViolations);
+    }
+
+    /**
+     * @return the violations of the nodes and edges, by uuid, only the elements with violations included
+     */
+    public Map<String, Collection<RuleViolation>> getElementViolations() {
+        return Collections.unmodifiableMap(elementViolations);
+    }
+
+    /**
+     * Forgets the previous validation, the next one validates the whole graph.
+     */
+    public void clear() {
+        elementViolations.clear();
+        edgeNodes.clear();
+        graphViolations = Collections.emptyList();
+        validated = false;
+    }
+
+    void setValidated() {
+        this.validated = true;
+    }
+
+    void setGraphViolations(final Collection<RuleViolation> violations) {
+        this.graphViolations = new ArrayList<>(violations);
+    }
+
+    void setNodeViolations(final Node node,
+                           final Collection<RuleViolation> violations) {
+        setElementViolations(node.getUUID(),
+                             violations);
+    }
+
+    void setEdgeViolations(final Edge edge,
+                           final Collection<RuleViolation> violations) {
+        setElementViolations(edge.getUUID(),
+                             violations);
+        edgeNodes.put(edge.getUUID(),
+                      new String[]{uuidOf(edge.getSourceNode()), uuidOf(edge.getTargetNode())});
+    }
+
+    /**
+     * @return the uuids of the source and target nodes of the edge when last validated, null ones included
+     */
+    String[] getEdgeNodes(final String edgeUUID) {
+        return edgeNodes.get(edgeUUID);
+    }
+
+    /**
+     * Forgets the elements no longer in the graph.
+     */
+    void retainAll(final Set<String> uuids) {
+        elementViolations.keySet().retainAll(uuids);
+        edgeNodes.keySet().retainAll(uuids);
+    }
+
+    private void setElementViolations(final String uuid,
+                                      final Collection<RuleViolation> violations) {
+        if (violations.isEmpty()) {
+            elementViolations.remove(uuid);
+        } else {
+            elementViolations.put(uuid,
+                                  new ArrayList<>(violations));
+        }
+    }
+
+    private static String uuidOf(final Node node) {
+        return null != node ? node.getUUID() : null;
+    }
+}
@@ -17,7 +17,11 @@
 package org.kie.workbench.common.stunner.core.validation.impl;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.Stack;
@@ -92,6 +96,119 @@ public class GraphValidatorImpl
                       callback);
     }
 
+    /**
+     * Validates the <code>graph</code> instance evaluating the rules only for the elements updated since
+     * the validation the given <code>state</code> comes from, the whole graph is validated if the state is empty.
+     * Besides the updated elements, the containment rules of their children and the connection, docking and
+     * connector cardinality rules of all the edges of the nodes involved are evaluated again. The graph's
+     * cardinality rules are always evaluated.
+     * @param graph The instance to validate.
+     * @param ruleSet The rule set to validate against it, or null for the default rule set for the graph.
+     * @param state The violations of the last validation of this graph, updated by this one.
+     * @param updatedUUIDs The uuids of the nodes and edges added, updated or removed since the last validation.
+     * @param callback The consumer for all the resulting violations, the ones kept for the elements not updated
+     * included.
+     */
+    @SuppressWarnings("unchecked")
+    public void validate(final Graph graph,
+                         final RuleSet ruleSet,
+                         final GraphValidationState state,
+                         final Collection<String> updatedUUIDs,
+                         final Consumer<Collection<RuleViolation>> callback) {
+        if (!state.isValidated()) {
+            validate(graph,
+                     Optional.ofNullable(ruleSet),
+                     Optional.of((g, violations) -> state.setGraphViolations(violations)),
+                     Optional.of(state::setNodeViolations),
+                     Optional.of(state::setEdgeViolations),
+                     violations -> {
+                         state.setValidated();
+                         callback.accept(violations);
+                     });
+            return;
+        }
+        final RuleSet theRuleSet = null != ruleSet ? ruleSet : getRuleSet(graph);
+        final StatelessGraphContextBuilder contextBuilder =
+                new StatelessGraphContextBuilder(graph);
+        final Map<String, Node> nodes = new HashMap<>();
+        final Map<String, Edge> edges = new HashMap<>();
+        for (final Object o : graph.nodes()) {
+            final Node node = (Node) o;
+            nodes.put(node.getUUID(),
+                      node);
+            addEdges(edges,
+                     node.getInEdges());
+            addEdges(edges,
+                     node.getOutEdges());
+        }
+
+        // The nodes updated, plus the ones connected by the updated edges, now or before the update.
+        final Set<Node> updatedNodes = new LinkedHashSet<>();
+        final Set<Edge> updatedEdges = new LinkedHashSet<>();
+        for (final String uuid : updatedUUIDs) {
+            addNode(updatedNodes,
+                    nodes.get(uuid));
+            final Edge edge = edges.get(uuid);
+            if (null != edge) {
+                updatedEdges.add(edge);
+                addNode(updatedNodes,
+                        edge.getSourceNode());
+                addNode(updatedNodes,
+                        edge.getTargetNode());
+            }
+            final String[] edgeNodes = state.getEdgeNodes(uuid);
+            if (null != edgeNodes) {
+                for (final String nodeUUID : edgeNodes) {
+                    addNode(updatedNodes,
+                            nodes.get(nodeUUID));
+                }
+            }
+        }
+        final Set<String> uuids = new HashSet<>(nodes.keySet());
+        uuids.addAll(edges.keySet());
+        state.retainAll(uuids);
+
+        // The containment rules depend on the parent, the edge cardinality rules on all the edges of the node.
+        final Set<Node> containedNodes = new LinkedHashSet<>(updatedNodes);
+        final Map<String, Edge> nodeEdges = new HashMap<>();
+        for (final Node node : updatedNodes) {
+            nodeEdges.clear();
+            addEdges(nodeEdges,
+                     node.getInEdges());
+            addEdges(nodeEdges,
+                     node.getOutEdges());
+            for (final Edge edge : nodeEdges.values()) {
+                if (edge.getContent() instanceof Child && node.equals(edge.getSourceNode())) {
+                    addNode(containedNodes,
+                            edge.getTargetNode());
+                }
+                updatedEdges.add(edge);
+            }
+        }
+
+        final ViolationsSet graphViolations = new ViolationsSet();
+        graphViolations.addViolations(evaluateCardinality(contextBuilder,
+                                                          theRuleSet));
+        state.setGraphViolations(graphViolations);
+        for (final Node node : containedNodes) {
+            final ViolationsSet nodeViolations = new ViolationsSet();
+            nodeViolations.addViolations(evaluateContainment(theRuleSet,
+                                                             contextBuilder,
+                                                             getParent(graph,
+                                                                       node),
+                                                             node));
+            state.setNodeViolations(node,
+                                    nodeViolations);
+        }
+        for (final Edge edge : updatedEdges) {
+            state.setEdgeViolations(edge,
+                                    evaluateEdge(contextBuilder,
+                                                 theRuleSet,
+                                                 edge));
+        }
+        callback.accept(state.getViolations());
+    }
+
     /**
      * Performs the validation for the <code>graph</code> instance.
      * @param graph The instance to validate.
@@ -137,54 +254,12 @@ public class GraphValidatorImpl
                               @Override
                               public boolean startEdgeTraversal(final Edge edge) {
                                   super.startEdgeTraversal(edge);
-                                  final Object content = edge.getContent();
-                                  final ViolationsSet edgeViolations =
-                                          new ViolationsSet();
-                                  if (content instanceof Child) {
+                                  if (edge.getContent() instanceof Child) {
                                       this.currentParents.push(edge.getSourceNode());
-                                  } else if (content instanceof View) {
-                                      final Optional<Node<? extends View<?>, ? extends Edge>> sourceOpt =
-                                              Optional.ofNullable(edge.getSourceNode());
-                                      final Optional<Node<? extends View<?>, ? extends Edge>> targetOpt =
-                                              Optional.ofNullable(edge.getTargetNode());
-                                      // Check not empty connections.
-                                      final Optional<RuleViolation> emptyConnectionViolation =
-                                              evaluateNotEmptyConnections(edge,
-                                                                          sourceOpt,
-                                                                          targetOpt);
-                                      emptyConnectionViolation.ifPresent(edgeViolations::add);
-                                      // Evaluate connection rules.
-                                      edgeViolations.addViolations(
-                                              evaluateConnection(contextBuilder,
-                                                                 ruleSet,
-                                                                 edge,
-                                                                 sourceOpt,
-                                                                 targetOpt)
-                                      );
-                                      // Evaluate connector cardinality rules for this edge.
-                                      if (null != edge.getTargetNode()) {
-                                          edgeViolations.addViolations(
-                                                  evaluateIncomingEdgeCardinality(contextBuilder,
-                                                                                  ruleSet,
-                                                                                  edge)
-                                          );
-                                      }
-                                      if (null != edge.getSourceNode()) {
-                                          edgeViolations.addViolations(
-                                                  evaluateOutgoingEdgeCardinality(contextBuilder,
-                                                                                  ruleSet,
-                                                                                  edge)
-                                          );
-                                      }
-                                  } else if (content instanceof Dock) {
-                                      final Node parent = edge.getSourceNode();
-                                      final Node docked = edge.getTargetNode();
-                                      // Evaluate docking rules for the source & target nodes.
-                                      edgeViolations.addViolations(evaluateDocking(contextBuilder,
-                                                                                   ruleSet,
-                                                                                   parent,
-                                                                                   docked));
                                   }
+                                  final ViolationsSet edgeViolations = evaluateEdge(contextBuilder,
+                                                                                    ruleSet,
+                                                                                    edge);
                                   edgeValidatorConsumer.ifPresent(c -> c.accept(edge,
                                                                                 edgeViolations));
                                   violations.addAll(edgeViolations);
@@ -231,6 +306,88 @@ public class GraphValidatorImpl
                           });
     }
 
+    @SuppressWarnings("unchecked")
+    private static Element getParent(final Graph graph,
+                                     final Node node) {
+        final List<Edge> inEdges = node.getInEdges();
+        if (null != inEdges) {
+            for (final Edge edge : inEdges) {
+                if (edge.getContent() instanceof Child && null != edge.getSourceNode()) {
+                    return edge.getSourceNode();
+                }
+            }
+        }
+        return graph;
+    }
+
+    private static void addNode(final Set<Node> nodes,
+                                final Node node) {
+        if (null != node) {
+            nodes.add(node);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void addEdges(final Map<String, Edge> edges,
+                                 final List<Edge> nodeEdges) {
+        if (null != nodeEdges) {
+            nodeEdges.forEach(edge -> edges.put(edge.getUUID(),
+                                                edge));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private ViolationsSet evaluateEdge(final StatelessGraphContextBuilder contextBuilder,
+                                       final RuleSet ruleSet,
+                                       final Edge edge) {
+        final Object content = edge.getContent();
+        final ViolationsSet edgeViolations = new ViolationsSet();
+        if (content instanceof View) {
+            final Optional<Node<? extends View<?>, ? extends Edge>> sourceOpt =
+                    Optional.ofNullable(edge.getSourceNode());
+            final Optional<Node<? extends View<?>, ? extends Edge>> targetOpt =
+                    Optional.ofNullable(edge.getTargetNode());
+            // Check not empty connections.
+            final Optional<RuleViolation> emptyConnectionViolation =
+                    evaluateNotEmptyConnections(edge,
+                                                sourceOpt,
+                                                targetOpt);
+            emptyConnectionViolation.ifPresent(edgeViolations::add);
+            // Evaluate connection rules.
+            edgeViolations.addViolations(
+                    evaluateConnection(contextBuilder,
+                                       ruleSet,
+                                       edge,
+                                       sourceOpt,
+                                       targetOpt)
+            );
+            // Evaluate connector cardinality rules for this edge.
+            if (null != edge.getTargetNode()) {
+                edgeViolations.addViolations(
+                        evaluateIncomingEdgeCardinality(contextBuilder,
+                                                        ruleSet,
+                                                        edge)
+                );
+            }
+            if (null != edge.getSourceNode()) {
+                edgeViolations.addViolations(
+                        evaluateOutgoingEdgeCardinality(contextBuilder,
+                                                        ruleSet,
+                                                        edge)
+                );
+            }
+        } else if (content instanceof Dock) {
+            final Node parent = edge.getSourceNode();
+            final Node docked = edge.getTargetNode();
+            // Evaluate docking rules for the source & target nodes.
+            edgeViolations.addViolations(evaluateDocking(contextBuilder,
+                                                         ruleSet,
+                                                         parent,
+                                                         docked));
+        }
+        return edgeViolations;
+    }
+
     private RuleSet getRuleSet(final Graph<? extends DefinitionSet, ?> graph) {
         final String defSetId = graph.getContent().getDefinition();
         final Object definitionSet = definitionManager.definitionSets().getDefinitionSetById(defSetId);
@@ -68,4 +68,67 @@ public class HashCodeAndEqualityTest {
         assertEquals(a.hashCode(),
                      a.hashCode());
     }
+
+    @Test
+    public void testGraphWithOtherNodesNotEquals() {
+        GraphImpl<String> a = new GraphImpl<String>("Graph",
+                                                    new GraphNodeStoreImpl());
+        GraphImpl<String> b = new GraphImpl<String>("Graph",
+                                                    new GraphNodeStoreImpl());
+        a.addNode(new NodeImpl<>("Node1"));
+        b.addNode(new NodeImpl<>("Node2"));
+        assertNotEquals(a,
+                        b);
+    }
+
+    @Test
+    public void testGraphModificationCount() {
+        GraphImpl<String> a = new GraphImpl<String>("Graph",
+                                                    new GraphNodeStoreImpl());
+        int count = a.getModificationCount();
+
+        a.addNode(new NodeImpl<>("Node"));
+        assertNotEquals(count,
+                        a.getModificationCount());
+        count = a.getModificationCount();
+
+        a.removeNode("Unknown");
+        assertEquals(count,
+                     a.getModificationCount());
+
+        a.removeNode("Node");
+        assertNotEquals(count,
+                        a.getModificationCount());
+        count = a.getModificationCount();
+
+        a.clear();
+        assertNotEquals(count,
+                        a.getModificationCount());
+    }
+
+    @Test
+    public void testStructureHash() {
+        GraphNodeStoreImpl a = new GraphNodeStoreImpl();
+        GraphNodeStoreImpl b = new GraphNodeStoreImpl();
+        a.add(new NodeImpl<>("Node1"));
+        a.add(new NodeImpl<>("Node2"));
+        a.add(new NodeImpl<>("Node3"));
+        b.add(new NodeImpl<>("Node3"));
+        b.add(new NodeImpl<>("Node1"));
+        b.add(new NodeImpl<>("Node2"));
+        b.add(new NodeImpl<>("Node2"));
+        assertEquals(a.getStructureHash(),
+                     b.getStructureHash());
+
+        a.remove("Node2");
+        assertNotEquals(a.getStructureHash(),
+                        b.getStructureHash());
+        a.add(new NodeImpl<>("Node2"));
+        assertEquals(a.getStructureHash(),
+                     b.getStructureHash());
+
+        a.clear();
+        assertEquals(new GraphNodeStoreImpl().getStructureHash(),
+                     a.getStructureHash());
+    }
 }
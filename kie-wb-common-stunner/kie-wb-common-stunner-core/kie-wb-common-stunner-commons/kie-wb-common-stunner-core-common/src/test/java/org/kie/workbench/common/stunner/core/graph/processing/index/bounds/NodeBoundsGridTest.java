@@ -0,0 +1,130 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.core.graph.processing.index.bounds;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.kie.workbench.common.stunner.core.graph.Node;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+public class NodeBoundsGridTest {
+
+    private final NodeBoundsGrid grid = new NodeBoundsGrid();
+
+    @Test
+    public void testEmpty() {
+        grid.index();
+
+        assertNull(grid.findAt(10,
+                               10));
+    }
+
+    @Test
+    public void testLastNodeAddedWins() {
+        final Node container = mock(Node.class);
+        final Node child = mock(Node.class);
+        grid.add(container,
+                 0,
+                 0,
+                 1000,
+                 1000);
+        grid.add(child,
+                 100,
+                 100,
+                 200,
+                 200);
+        grid.index();
+
+        assertSame(child,
+                   grid.findAt(100,
+                               200));
+        assertSame(container,
+                   grid.findAt(201,
+                               150));
+        assertSame(container,
+                   grid.findAt(1000,
+                               1000));
+        assertNull(grid.findAt(-1,
+                               500));
+        assertNull(grid.findAt(500,
+                               1001));
+    }
+
+    @Test
+    public void testNodeAnywhere() {
+        final Node root = mock(Node.class);
+        final Node node = mock(Node.class);
+        grid.addAnywhere(root);
+        grid.add(node,
+                 10,
+                 10,
+                 20,
+                 20);
+        grid.index();
+
+        assertSame(node,
+                   grid.findAt(15,
+                               15));
+        assertSame(root,
+                   grid.findAt(-100,
+                               15));
+    }
+
+    @Test
+    public void testSameResultsAsCheckingEveryNode() {
+        final Random random = new Random(7);
+        final List<double[]> bounds = new ArrayList<>();
+        final List<Node> nodes = new ArrayList<>();
+        for (int i = 0; i < 800; i++) {
+            final double x = random.nextInt(4000);
+            final double y = random.nextInt(3000);
+            final double[] b = {x, y, x + 20 + random.nextInt(i % 50 == 0 ? 2000 : 100), y + 20 + random.nextInt(100)};
+            final Node node = mock(Node.class);
+            bounds.add(b);
+            nodes.add(node);
+            grid.add(node,
+                     b[0],
+                     b[1],
+                     b[2],
+                     b[3]);
+        }
+        grid.index();
+
+        for (int i = 0; i < 5000; i++) {
+            final double x = random.nextInt(6500) - 100;
+            final double y = random.nextInt(3300) - 100;
+            Node expected = null;
+            for (int j = 0; j < nodes.size(); j++) {
+                final double[] b = bounds.get(j);
+                if (x >= b[0] && x <= b[2] && y >= b[1] && y <= b[3]) {
+                    expected = nodes.get(j);
+                }
+            }
+            assertEquals("(" + x + ", " + y + ")",
+                         expected,
+                         grid.findAt(x,
+                                     y));
+        }
+    }
+}
@@ -26,6 +26,7 @@ import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.content.view.Point2D;
 import org.kie.workbench.common.stunner.core.graph.content.view.View;
 import org.kie.workbench.common.stunner.core.graph.processing.index.bounds.GraphBoundsIndexerImpl;
+import org.kie.workbench.common.stunner.core.graph.processing.traverse.content.ChildrenTraverseCallback;
 import org.kie.workbench.common.stunner.core.graph.processing.traverse.content.ChildrenTraverseProcessor;
 import org.kie.workbench.common.stunner.core.graph.processing.traverse.content.ChildrenTraverseProcessorImpl;
 import org.kie.workbench.common.stunner.core.graph.processing.traverse.tree.TreeWalkTraverseProcessorImpl;
@@ -35,6 +36,11 @@ import org.mockito.junit.MockitoJUnitRunner;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @RunWith(MockitoJUnitRunner.Silent.class)
 public class GraphBoundsIndexerImplTest {
@@ -42,6 +48,7 @@ public class GraphBoundsIndexerImplTest {
     private TestingGraphMockHandler graphTestHandlerParent;
     private TestingGraphInstanceBuilder.TestGraph2 graphInstanceParent;
 
+    private ChildrenTraverseProcessor childrenTraverseProcessor;
     private GraphBoundsIndexerImpl graphBoundsIndexerImpl;
 
     @Before
@@ -49,7 +56,7 @@ public class GraphBoundsIndexerImplTest {
         this.graphTestHandlerParent = new TestingGraphMockHandler();
         graphInstanceParent = TestingGraphInstanceBuilder.newGraph2(graphTestHandlerParent);
 
-        ChildrenTraverseProcessor childrenTraverseProcessor = new ChildrenTraverseProcessorImpl(new TreeWalkTraverseProcessorImpl());
+        childrenTraverseProcessor = spy(new ChildrenTraverseProcessorImpl(new TreeWalkTraverseProcessorImpl()));
         graphBoundsIndexerImpl = new GraphBoundsIndexerImpl(childrenTraverseProcessor);
         graphBoundsIndexerImpl.build(graphInstanceParent.graph);
     }
@@ -127,4 +134,27 @@ public class GraphBoundsIndexerImplTest {
                      size[1],
                      0.001);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGraphIsWalkedOncePerBuild() {
+        Point2D position = GraphUtils.getPosition((View) graphInstanceParent.startNode.getContent());
+        double[] size = GraphUtils.getNodeSize((View) graphInstanceParent.startNode.getContent());
+        for (int i = 0; i < 3; i++) {
+            graphBoundsIndexerImpl.getAt(position.getX(),
+                                         position.getY(),
+                                         size[0],
+                                         size[1],
+                                         graphInstanceParent.parentNode);
+        }
+        verify(childrenTraverseProcessor,
+               times(1)).traverse(eq(graphInstanceParent.graph),
+                                  any(ChildrenTraverseCallback.class));
+
+        graphBoundsIndexerImpl.build(graphInstanceParent.graph);
+        graphBoundsIndexerImpl.getAt(position.getX(),
+                                     position.getY());
+        verify(childrenTraverseProcessor,
+               times(2)).traverse(eq(graphInstanceParent.graph),
+                                  any(ChildrenTraverseCallback.class));
+    }
+}
@@ -33,9 +33,13 @@ import org.kie.workbench.common.stunner.core.rule.handler.impl.ConnectionEvaluat
 import org.kie.workbench.common.stunner.core.rule.handler.impl.ContainmentEvaluationHandler;
 import org.kie.workbench.common.stunner.core.rule.impl.CanConnect;
 import org.kie.workbench.common.stunner.core.rule.impl.CanContain;
+import org.kie.workbench.common.stunner.core.rule.violations.ContainmentRuleViolation;
+import org.kie.workbench.common.stunner.core.rule.violations.DefaultRuleViolations;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -106,7 +110,7 @@ public class CachedRuleManagerTest {
         tested.evaluate(ruleSet,
                         containmentContext);
         verify(ruleSet, times(1)).getRules();
-        verify(containmentHandler, times(2)).evaluate(eq(containmentRule),
+        verify(containmentHandler, times(1)).evaluate(eq(containmentRule),
                                                       eq(containmentContext));
         verify(connectionHandler, never()).evaluate(any(CanConnect.class),
                                                     any(ConnectionContext.class));
@@ -119,9 +123,40 @@ public class CachedRuleManagerTest {
         tested.evaluate(ruleSet,
                         connectionContext);
         verify(ruleSet, times(1)).getRules();
-        verify(connectionHandler, times(2)).evaluate(eq(connectionRule),
+        verify(connectionHandler, times(1)).evaluate(eq(connectionRule),
                                                      eq(connectionContext));
         verify(containmentHandler, never()).evaluate(any(CanContain.class),
                                                      any(ContainmentContext.class));
     }
+
+    @Test
+    public void testEvaluateOtherRolesAgain() {
+        final ContainmentContext otherContext = RuleEvaluationContextBuilder.DomainContexts.containment(Collections.singleton("role1"),
+                                                                                                       Collections.emptySet());
+        tested.evaluate(ruleSet,
+                        containmentContext);
+        tested.evaluate(ruleSet,
+                        otherContext);
+        verify(containmentHandler, times(1)).evaluate(eq(containmentRule),
+                                                      eq(containmentContext));
+        verify(containmentHandler, times(1)).evaluate(eq(containmentRule),
+                                                      eq(otherContext));
+    }
+
+    @Test
+    public void testEvaluateDeniedContainmentEachTime() {
+        when(containmentHandler.evaluate(any(CanContain.class), any(ContainmentContext.class)))
+                .thenAnswer(invocation -> new DefaultRuleViolations().addViolation(new ContainmentRuleViolation("role1",
+                                                                                                               "[]")));
+        final RuleViolations first = tested.evaluate(ruleSet,
+                                                     containmentContext);
+        final RuleViolations second = tested.evaluate(ruleSet,
+                                                      containmentContext);
+        assertTrue(first.violations().iterator().hasNext());
+        assertTrue(second.violations().iterator().hasNext());
+        assertNotSame(first.violations().iterator().next(),
+                      second.violations().iterator().next());
+        verify(containmentHandler, times(2)).evaluate(eq(containmentRule),
+                                                      eq(containmentContext));
+    }
 }
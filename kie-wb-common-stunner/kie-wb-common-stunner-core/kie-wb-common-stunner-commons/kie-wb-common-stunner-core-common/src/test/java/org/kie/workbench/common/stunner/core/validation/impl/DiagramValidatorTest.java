@@ -17,6 +17,7 @@
 package org.kie.workbench.common.stunner.core.validation.impl;
 
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -49,6 +50,7 @@ import org.kie.workbench.common.stunner.core.validation.Violation;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
@@ -303,6 +305,60 @@ public class DiagramValidatorTest {
                                   any(Consumer.class));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testValidateDiagramUpdates() {
+        final TestingGraphInstanceBuilder.TestGraph1 graph1 = TestingGraphInstanceBuilder.newGraph1(graphTestHandler);
+        when(diagram.getGraph()).thenReturn(graphTestHandler.graph);
+
+        //model violation
+        final ModelBeanViolation beanViolation = mock(ModelBeanViolation.class);
+        when(beanViolation.getViolationType()).thenReturn(Violation.Type.ERROR);
+        when(beanViolation.getMessage()).thenReturn(MODEL_VIOLATION);
+        doAnswer(invocationOnMock -> {
+            final Consumer<Collection<ModelBeanViolation>> validationsConsumer =
+                    (Consumer<Collection<ModelBeanViolation>>) invocationOnMock.getArguments()[1];
+            validationsConsumer.accept(Collections.singleton(beanViolation));
+            return null;
+        }).when(modelValidator).validate(eq(graph1.intermNode),
+                                         any(Consumer.class));
+
+        final DiagramValidationState state = new DiagramValidationState();
+        final List<Collection<DiagramElementViolation<RuleViolation>>> results = new ArrayList<>();
+        tested.validate(diagram,
+                        state,
+                        Collections.emptyList(),
+                        results::add);
+        tested.validate(diagram,
+                        state,
+                        Collections.singleton(TestingGraphInstanceBuilder.END_NODE_UUID),
+                        results::add);
+
+        assertTrue(state.isValidated());
+        assertEquals(2,
+                     results.size());
+        results.forEach(violations -> assertElementError(violations,
+                                                         TestingGraphInstanceBuilder.INTERM_NODE_UUID));
+        verify(modelValidator,
+               times(1)).validate(eq(graph1.startNode),
+                                  any(Consumer.class));
+        verify(modelValidator,
+               times(1)).validate(eq(graph1.intermNode),
+                                  any(Consumer.class));
+        verify(modelValidator,
+               times(2)).validate(eq(graph1.endNode),
+                                  any(Consumer.class));
+        verify(modelValidator,
+               times(1)).validate(eq(graph1.edge1),
+                                  any(Consumer.class));
+        verify(modelValidator,
+               times(1)).validate(eq(graph1.edge2),
+                                  any(Consumer.class));
+        verify(modelValidator,
+               times(2)).validate(eq(graphTestHandler.graph),
+                                  any(Consumer.class));
+    }
+
     private void assertNoErrors(final
                                 Collection<DiagramElementViolation<RuleViolation>> violations) {
         assertNotNull(violations);
@@ -16,7 +16,9 @@
 
 package org.kie.workbench.common.stunner.core.validation.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -240,6 +242,79 @@ public class GraphValidatorImplTest {
                         });
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testValidateUpdatedNode() {
+        final RuleManager ruleManager = graphTestHandler.getRuleManager();
+        final RuleSet ruleSet = graphTestHandler.ruleSet;
+        final Graph<DefinitionSet, Node> graph = graphTestHandler.graph;
+        final TestingGraphInstanceBuilder.TestGraph1 testGraph1 = TestingGraphInstanceBuilder.newGraph1(graphTestHandler);
+        final GraphValidationState state = new GraphValidationState();
+        tested.validate(graph,
+                        ruleSet,
+                        state,
+                        Collections.emptyList(),
+                        this::assertNoError);
+        assertTrue(state.isValidated());
+        tested.validate(graph,
+                        ruleSet,
+                        state,
+                        Collections.singletonList(testGraph1.endNode.getUUID()),
+                        this::assertNoError);
+        // The graph cardinality, the end node containment and the edge2 connection and cardinality rules.
+        final int evalCount = testGraph1.evaluationsCount + 10 + 5;
+        final ArgumentCaptor<RuleEvaluationContext> contextCaptor = ArgumentCaptor.forClass(RuleEvaluationContext.class);
+        verify(ruleManager,
+               times(evalCount)).evaluate(eq(ruleSet),
+                                          contextCaptor.capture());
+        final List<RuleEvaluationContext> contexts = contextCaptor.getAllValues();
+        int cindex = testGraph1.evaluationsCount + 10;
+        verifyCardinality((ElementCardinalityContext) contexts.get(cindex++),
+                          graph);
+        verifyContainment((NodeContainmentContext) contexts.get(cindex++),
+                          graph,
+                          testGraph1.endNode);
+        verifyConnection((GraphConnectionContext) contexts.get(cindex++),
+                         testGraph1.edge2,
+                         testGraph1.intermNode,
+                         testGraph1.endNode);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testValidateUpdatedEmptyViewConnector() {
+        final RuleSet ruleSet = graphTestHandler.ruleSet;
+        final Graph<DefinitionSet, Node> graph = graphTestHandler.graph;
+        final TestingGraphInstanceBuilder.TestGraph1 testGraph1 = TestingGraphInstanceBuilder.newGraph1(graphTestHandler);
+        final GraphValidationState state = new GraphValidationState();
+        tested.validate(graph,
+                        ruleSet,
+                        state,
+                        Collections.emptyList(),
+                        this::assertNoError);
+        graphTestHandler.removeTargetConnection(testGraph1.edge2);
+        final List<RuleViolation> violations = new ArrayList<>();
+        tested.validate(graph,
+                        ruleSet,
+                        state,
+                        Collections.singletonList(testGraph1.edge2.getUUID()),
+                        violations::addAll);
+        assertEquals(1,
+                     violations.size());
+        assertTrue(violations.get(0) instanceof EmptyConnectionViolation);
+
+        // The violations of the elements not updated are kept.
+        violations.clear();
+        tested.validate(graph,
+                        ruleSet,
+                        state,
+                        Collections.emptyList(),
+                        violations::addAll);
+        assertEquals(1,
+                     violations.size());
+        assertTrue(violations.get(0) instanceof EmptyConnectionViolation);
+    }
+
     private void assertNoError(final Collection<RuleViolation> violations) {
         assertFalse(violations.stream()
                             .filter(v -> Violation.Type.ERROR.equals(v.getViolationType()))
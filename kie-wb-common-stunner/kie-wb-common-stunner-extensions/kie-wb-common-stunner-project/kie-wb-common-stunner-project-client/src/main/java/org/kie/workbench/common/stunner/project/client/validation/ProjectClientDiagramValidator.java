@@ -38,6 +38,7 @@ import org.kie.workbench.common.stunner.core.rule.RuleViolation;
 import org.kie.workbench.common.stunner.core.validation.DiagramElementViolation;
 import org.kie.workbench.common.stunner.core.validation.DomainValidator;
 import org.kie.workbench.common.stunner.core.validation.ModelValidator;
+import org.kie.workbench.common.stunner.core.validation.impl.DiagramValidationState;
 import org.kie.workbench.common.stunner.project.service.ProjectValidationService;
 
 @ApplicationScoped
@@ -73,14 +74,27 @@ public class ProjectClientDiagramValidator extends ClientDiagramValidator {
 
     @Override
     public void validate(Diagram diagram, Consumer<Collection<DiagramElementViolation<RuleViolation>>> resultConsumer) {
-        super.validate(diagram, diagramElementViolations -> {
+        super.validate(diagram, withBackendValidation(diagram, resultConsumer));
+    }
+
+    @Override
+    public void validate(final Diagram diagram,
+                         final DiagramValidationState state,
+                         final Collection<String> updatedUUIDs,
+                         final Consumer<Collection<DiagramElementViolation<RuleViolation>>> resultConsumer) {
+        super.validate(diagram, state, updatedUUIDs, withBackendValidation(diagram, resultConsumer));
+    }
+
+    private Consumer<Collection<DiagramElementViolation<RuleViolation>>> withBackendValidation(final Diagram diagram,
+                                                                                               final Consumer<Collection<DiagramElementViolation<RuleViolation>>> resultConsumer) {
+        return diagramElementViolations -> {
             final List<DiagramElementViolation<RuleViolation>> violations =
                     (Objects.nonNull(diagramElementViolations) ? new LinkedList<>(diagramElementViolations) : new LinkedList<>());
             backendValidation(diagram, backendViolations -> {
                 violations.addAll(backendViolations);
                 resultConsumer.accept(violations);
             });
-        });
+        };
     }
 
     @SuppressWarnings("unchecked")